@@ -30,6 +30,17 @@ dependencies {
     }
     testImplementation("com.amazonaws:aws-lambda-java-serialization:1.0.0")
     testImplementation("com.amazonaws:aws-lambda-java-events:3.11.0")
+
+    jmhAnnotationProcessor(mn.micronaut.inject.java)
+    jmhAnnotationProcessor(projects.serdeProcessor)
+    jmh(projects.serdeJackson)
+    jmh(projects.serdeJsonp)
+    jmh(projects.serdeBson)
+    jmh(projects.serdeTck)
+}
+
+jmh {
+    profilers.add("gc")
 }
 
 tasks {
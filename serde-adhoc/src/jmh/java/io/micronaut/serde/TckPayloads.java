@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde;
+
+import io.micronaut.core.type.Argument;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark payloads built from the tck beans, some of which are only visible in this package.
+ */
+public final class TckPayloads {
+
+    private TckPayloads() {
+    }
+
+    /**
+     * @return An {@link AllTypesBean} with every property set
+     */
+    public static AllTypesBean allTypes() {
+        AllTypesBean bean = new AllTypesBean();
+        bean.setSomeBool(true);
+        bean.setSomeInt(42);
+        bean.setSomeLong(123456789012L);
+        bean.setSomeDouble(3.14159);
+        bean.setSomeShort((short) 7);
+        bean.setSomeFloat(2.5f);
+        bean.setSomeByte((byte) 1);
+        bean.setSomeBoolean(Boolean.FALSE);
+        bean.setSomeString("The quick brown fox");
+        bean.setSomeInteger(-17);
+        bean.setSomeLongObj(9876543210L);
+        bean.setSomeDoubleObj(0.001);
+        bean.setSomeShortObj((short) 300);
+        bean.setSomeFloatObj(-1.25f);
+        bean.setSomeByteObj((byte) 100);
+        bean.setBigDecimal(new BigDecimal("1234567890.0987654321"));
+        bean.setBigInteger(new BigInteger("123456789012345678901234567890"));
+        return bean;
+    }
+
+    /**
+     * @return The type of {@link #arrayOfArray()}
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Argument<Object> arrayOfArrayType() {
+        return (Argument) Argument.of(ObjectWithArrayOfArray.class);
+    }
+
+    /**
+     * @return An {@code ObjectWithArrayOfArray} with a few nested lists
+     */
+    public static Object arrayOfArray() {
+        List<List<SomeObject>> vals = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            List<SomeObject> inner = new ArrayList<>();
+            for (int j = 0; j < 5; j++) {
+                SomeObject o = new SomeObject();
+                o.setVal("val-" + i + "-" + j);
+                inner.add(o);
+            }
+            vals.add(inner);
+        }
+        ObjectWithArrayOfArray bean = new ObjectWithArrayOfArray();
+        bean.setVals(vals);
+        return bean;
+    }
+
+    /**
+     * @return A {@link ConstructorArgs} with every property set
+     */
+    public static ConstructorArgs constructorArgs() {
+        ConstructorArgs bean = new ConstructorArgs("The Stand", 1152);
+        bean.setAuthor("Stephen King");
+        bean.setOther("Doubleday");
+        return bean;
+    }
+}
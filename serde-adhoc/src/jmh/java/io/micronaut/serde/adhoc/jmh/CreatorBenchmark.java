@@ -0,0 +1,235 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.adhoc.jmh;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.annotation.AnnotatedElement;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.ObjectMapper;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.adhoc.AdhocJsonMapper;
+import io.micronaut.serde.annotation.Serdeable;
+import io.micronaut.serde.config.naming.PropertyNamingStrategy;
+import io.micronaut.serde.jackson.JacksonJsonMapper;
+import io.micronaut.serde.json.stream.JsonStreamMapper;
+import jakarta.inject.Singleton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Decodes arrays of beans whose properties are all creator parameters, with the keys in declaration order or
+ * shuffled. {@link Quote} has no compile-time key order, its naming strategy is only known at runtime, and is decoded
+ * by ordinal into the creator parameters. {@link CompiledQuote} is the same bean decoded through its key schema.
+ * Run with {@code ./gradlew serde-adhoc:jmh -Pjmh.includes=CreatorBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreatorBenchmark {
+    private static final int SIZE = 100;
+    private static final String[] SYMBOLS = {"ACME", "INIT", "GLOB", "UMBR", "WAYN"};
+    private static final String[] EXCHANGES = {"NYSE", "XETRA", "LSE"};
+
+    @Param({"adhoc", "jackson", "jsonp"})
+    String backend;
+
+    @Param({"creator", "schema"})
+    String strategy;
+
+    @Param({"declared", "shuffled"})
+    String order;
+
+    ApplicationContext context;
+    ObjectMapper mapper;
+    Argument<List<Object>> type;
+    byte[] bytes;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setUp() {
+        context = ApplicationContext.run();
+        SerdeRegistry registry = context.getBean(SerdeRegistry.class);
+        switch (backend) {
+            case "adhoc":
+                mapper = new AdhocJsonMapper(registry);
+                break;
+            case "jackson":
+                mapper = new JacksonJsonMapper(registry);
+                break;
+            case "jsonp":
+                mapper = new JsonStreamMapper(registry);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown backend: " + backend);
+        }
+        Class<?> beanType = strategy.equals("creator") ? Quote.class : CompiledQuote.class;
+        type = (Argument) Argument.listOf(beanType);
+        bytes = generate(order.equals("shuffled")).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Object> readBytes() throws IOException {
+        return mapper.readValue(bytes, type);
+    }
+
+    private static String generate(boolean shuffled) {
+        Random random = new Random(SIZE);
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < SIZE; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            String symbol = "\"symbol\":\"" + SYMBOLS[random.nextInt(SYMBOLS.length)] + '"';
+            String price = "\"price\":" + random.nextInt(1000000) / 100.0;
+            String volume = "\"volume\":" + random.nextInt(Integer.MAX_VALUE);
+            String exchange = "\"exchange\":\"" + EXCHANGES[random.nextInt(EXCHANGES.length)] + '"';
+            String halted = "\"halted\":" + random.nextBoolean();
+            if (shuffled) {
+                json.append('{').append(halted).append(',').append(volume).append(',').append(symbol)
+                        .append(',').append(exchange).append(',').append(price).append('}');
+            } else {
+                json.append('{').append(symbol).append(',').append(price).append(',').append(volume)
+                        .append(',').append(exchange).append(',').append(halted).append('}');
+            }
+        }
+        return json.append(']').toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(CreatorBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    /**
+     * Quote decoded without a key schema.
+     */
+    @Serdeable(naming = SameNames.class)
+    public static class Quote {
+        private final String symbol;
+        private final double price;
+        private final long volume;
+        private final String exchange;
+        private final boolean halted;
+
+        public Quote(String symbol, double price, long volume, String exchange, boolean halted) {
+            this.symbol = symbol;
+            this.price = price;
+            this.volume = volume;
+            this.exchange = exchange;
+            this.halted = halted;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public long getVolume() {
+            return volume;
+        }
+
+        public String getExchange() {
+            return exchange;
+        }
+
+        public boolean isHalted() {
+            return halted;
+        }
+    }
+
+    /**
+     * Quote with a compile-time key order.
+     */
+    @Serdeable
+    public static class CompiledQuote {
+        private final String symbol;
+        private final double price;
+        private final long volume;
+        private final String exchange;
+        private final boolean halted;
+
+        public CompiledQuote(String symbol, double price, long volume, String exchange, boolean halted) {
+            this.symbol = symbol;
+            this.price = price;
+            this.volume = volume;
+            this.exchange = exchange;
+            this.halted = halted;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public long getVolume() {
+            return volume;
+        }
+
+        public String getExchange() {
+            return exchange;
+        }
+
+        public boolean isHalted() {
+            return halted;
+        }
+    }
+
+    /**
+     * Keeps the names as they are, but can't be instantiated by the annotation processor.
+     */
+    @Singleton
+    public static class SameNames implements PropertyNamingStrategy {
+        @Override
+        public String translate(AnnotatedElement element) {
+            return element.getName();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.adhoc.jmh;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.tree.JsonNode;
+import io.micronaut.serde.AllTypesBean;
+import io.micronaut.serde.ConstructorArgs;
+import io.micronaut.serde.ObjectMapper;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.TckPayloads;
+import io.micronaut.serde.adhoc.AdhocJsonMapper;
+import io.micronaut.serde.bson.BsonBinaryMapper;
+import io.micronaut.serde.bson.BsonJsonMapper;
+import io.micronaut.serde.jackson.JacksonJsonMapper;
+import io.micronaut.serde.json.stream.JsonStreamMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Runs the same payloads through every mapper backend, reading and writing byte arrays, streams and trees.
+ * Run with {@code ./gradlew serde-adhoc:jmh}, which also enables the GC profiler for the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"adhoc", "jackson", "jsonp", "bson-binary", "bson-json"})
+    String backend;
+
+    @Param({"allTypes", "arrayOfArray", "constructorArgs", "portfolio-10", "portfolio-1000"})
+    String payload;
+
+    ApplicationContext context;
+    ObjectMapper mapper;
+    Argument<Object> type;
+    Object value;
+    byte[] bytes;
+    JsonNode tree;
+    ByteArrayOutputStream output;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = ApplicationContext.run();
+        SerdeRegistry registry = context.getBean(SerdeRegistry.class);
+        mapper = createMapper(registry, backend);
+        createPayload(payload);
+        bytes = mapper.writeValueAsBytes(type, value);
+        tree = mapper.writeValueToTree(type, value);
+        output = new ByteArrayOutputStream(bytes.length * 2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object readBytes() throws IOException {
+        return mapper.readValue(bytes, type);
+    }
+
+    @Benchmark
+    public Object readStream() throws IOException {
+        return mapper.readValue(new ByteArrayInputStream(bytes), type);
+    }
+
+    @Benchmark
+    public Object readTree() throws IOException {
+        return mapper.readValueFromTree(tree, type);
+    }
+
+    @Benchmark
+    public byte[] writeBytes() throws IOException {
+        return mapper.writeValueAsBytes(type, value);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream writeStream() throws IOException {
+        output.reset();
+        mapper.writeValue(output, type, value);
+        return output;
+    }
+
+    @Benchmark
+    public JsonNode writeTree() throws IOException {
+        return mapper.writeValueToTree(type, value);
+    }
+
+    private static ObjectMapper createMapper(SerdeRegistry registry, String backend) {
+        switch (backend) {
+            case "adhoc":
+                return new AdhocJsonMapper(registry);
+            case "jackson":
+                return new JacksonJsonMapper(registry);
+            case "jsonp":
+                return new JsonStreamMapper(registry);
+            case "bson-binary":
+                return new BsonBinaryMapper(registry);
+            case "bson-json":
+                return new BsonJsonMapper(registry);
+            default:
+                throw new IllegalArgumentException("Unknown backend: " + backend);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void createPayload(String payload) {
+        if (payload.startsWith("portfolio-")) {
+            type = (Argument) Argument.of(Portfolio.class);
+            value = Portfolio.generate(Integer.parseInt(payload.substring("portfolio-".length())));
+            return;
+        }
+        switch (payload) {
+            case "allTypes":
+                type = (Argument) Argument.of(AllTypesBean.class);
+                value = TckPayloads.allTypes();
+                break;
+            case "arrayOfArray":
+                type = TckPayloads.arrayOfArrayType();
+                value = TckPayloads.arrayOfArray();
+                break;
+            case "constructorArgs":
+                type = (Argument) Argument.of(ConstructorArgs.class);
+                value = TckPayloads.constructorArgs();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown payload: " + payload);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+
+        new Runner(opt).run();
+    }
+}
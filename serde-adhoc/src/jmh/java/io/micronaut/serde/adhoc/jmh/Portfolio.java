@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.adhoc.jmh;
+
+import io.micronaut.serde.adhoc.pojo.Account;
+import io.micronaut.serde.adhoc.pojo.OtherAccount;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generated document of a configurable size. The root is an object so that it is also a valid BSON document.
+ */
+@Serdeable
+public class Portfolio {
+    private static final String[] NAMES = {
+        "Marlon West", "Dr. Terrance Kub", "Blake Lueilwitz", "Marc Paucek", "Zo\u00eb \u00c5ngstr\u00f6m", "J\u00fcrgen M\u00fcller"
+    };
+
+    private String owner;
+    private List<Account> accounts;
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public List<Account> getAccounts() {
+        return accounts;
+    }
+
+    public void setAccounts(List<Account> accounts) {
+        this.accounts = accounts;
+    }
+
+    /**
+     * Generate a portfolio, the same for a given size.
+     *
+     * @param size The number of accounts
+     * @return The portfolio
+     */
+    public static Portfolio generate(int size) {
+        Random random = new Random(size);
+        List<Account> accounts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            OtherAccount[] favorites = new OtherAccount[random.nextInt(4)];
+            for (int j = 0; j < favorites.length; j++) {
+                favorites[j] = new OtherAccount(name(random), Math.abs(random.nextLong()), random.nextBoolean());
+            }
+            accounts.add(new Account(
+                    name(random),
+                    Math.abs(random.nextLong()),
+                    random.nextInt(1000000) / 100.0,
+                    random.nextBoolean(),
+                    favorites
+            ));
+        }
+        Portfolio portfolio = new Portfolio();
+        portfolio.setOwner(name(random));
+        portfolio.setAccounts(accounts);
+        return portfolio;
+    }
+
+    private static String name(Random random) {
+        return NAMES[random.nextInt(NAMES.length)];
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.adhoc.jmh;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.ObjectMapper;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.adhoc.AdhocJsonMapper;
+import io.micronaut.serde.annotation.Serdeable;
+import io.micronaut.serde.jackson.JacksonJsonMapper;
+import io.micronaut.serde.json.stream.JsonStreamMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Decodes arrays of {@link Reading} with the numbers sent as JSON numbers or as strings, to compare the cost of
+ * string coerced numbers with plain ones.
+ * Run with {@code ./gradlew serde-adhoc:jmh -Pjmh.includes=QuotedNumberBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuotedNumberBenchmark {
+    private static final int SIZE = 100;
+
+    @Param({"adhoc", "jackson", "jsonp"})
+    String backend;
+
+    @Param({"unquoted", "quoted"})
+    String numbers;
+
+    ApplicationContext context;
+    ObjectMapper mapper;
+    Argument<List<Reading>> type;
+    byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        context = ApplicationContext.run();
+        SerdeRegistry registry = context.getBean(SerdeRegistry.class);
+        switch (backend) {
+            case "adhoc":
+                mapper = new AdhocJsonMapper(registry);
+                break;
+            case "jackson":
+                mapper = new JacksonJsonMapper(registry);
+                break;
+            case "jsonp":
+                mapper = new JsonStreamMapper(registry);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown backend: " + backend);
+        }
+        type = Argument.listOf(Reading.class);
+        bytes = generate(numbers.equals("quoted")).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Reading> readBytes() throws IOException {
+        return mapper.readValue(bytes, type);
+    }
+
+    private static String generate(boolean quoted) {
+        Random random = new Random(SIZE);
+        String quote = quoted ? "\"" : "";
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < SIZE; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"sensor\":").append(quote).append(random.nextInt(10000)).append(quote)
+                    .append(",\"timestamp\":").append(quote).append(1600000000000L + random.nextInt(Integer.MAX_VALUE)).append(quote)
+                    .append(",\"value\":").append(quote).append(random.nextGaussian() * 1000).append(quote)
+                    .append(",\"delta\":").append(quote).append(random.nextInt(100000) / 1000.0).append(quote)
+                    .append('}');
+        }
+        return json.append(']').toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(QuotedNumberBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    /**
+     * Sensor reading made of numbers only.
+     */
+    @Serdeable
+    public static class Reading {
+        private int sensor;
+        private long timestamp;
+        private double value;
+        private double delta;
+
+        public int getSensor() {
+            return sensor;
+        }
+
+        public void setSensor(int sensor) {
+            this.sensor = sensor;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public void setTimestamp(long timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        public void setValue(double value) {
+            this.value = value;
+        }
+
+        public double getDelta() {
+            return delta;
+        }
+
+        public void setDelta(double delta) {
+            this.delta = delta;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.adhoc;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.serde.adhoc.parser.AdhocParser;
+import io.micronaut.serde.exceptions.InvalidFormatException;
+import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.AbstractChildReuseStreamDecoder;
+import io.micronaut.serde.support.AbstractStreamDecoder;
+import io.micronaut.serde.util.KeyTable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Implementation of the {@link io.micronaut.serde.Decoder} interface for the {@link AdhocParser}.
+ */
+@Internal
+final class AdhocDecoder extends AbstractChildReuseStreamDecoder {
+    private final AdhocParser parser;
+
+    private AdhocDecoder(@NonNull AdhocDecoder parent) {
+        super(parent);
+        this.parser = parent.parser;
+    }
+
+    private AdhocDecoder(@NonNull AdhocParser parser, @NonNull Class<?> view) {
+        super(view);
+        this.parser = parser;
+    }
+
+    /**
+     * Create a decoder for the value at the current position of the parser.
+     *
+     * @param parser The parser
+     * @param view   The view
+     * @return The decoder
+     * @throws IOException If the first token could not be read
+     */
+    static AdhocDecoder create(@NonNull AdhocParser parser, @NonNull Class<?> view) throws IOException {
+        if (parser.currentToken() == null) {
+            parser.nextToken();
+        }
+        return new AdhocDecoder(parser, view);
+    }
+
+    @Override
+    public IOException createDeserializationException(String message, Object invalidValue) {
+        if (invalidValue != null) {
+            return new InvalidFormatException(message + " \n at position " + parser.getPosition(), null, invalidValue);
+        } else {
+            return new SerdeException(message + " \n at position " + parser.getPosition());
+        }
+    }
+
+    @Override
+    protected TokenType currentToken() {
+        final AdhocParser.JsonToken token = parser.currentToken();
+        if (token == null) {
+            return null;
+        }
+        switch (token) {
+            case START_OBJECT:
+                return TokenType.START_OBJECT;
+            case END_OBJECT:
+                return TokenType.END_OBJECT;
+            case START_ARRAY:
+                return TokenType.START_ARRAY;
+            case END_ARRAY:
+                return TokenType.END_ARRAY;
+            case KEY:
+                return TokenType.KEY;
+            case STRING:
+                return TokenType.STRING;
+            case NUMBER_INT:
+            case NUMBER_FLOAT:
+                return TokenType.NUMBER;
+            case TRUE:
+            case FALSE:
+                return TokenType.BOOLEAN;
+            case NULL:
+                return TokenType.NULL;
+            default:
+                return TokenType.OTHER;
+        }
+    }
+
+    @Override
+    protected void nextToken() throws IOException {
+        parser.nextToken();
+    }
+
+    @Override
+    protected String getCurrentKey() throws IOException {
+        return parser.getText();
+    }
+
+    @Override
+    protected int getCurrentKeyIndex(KeyTable table) throws IOException {
+        return parser.indexOfText(table);
+    }
+
+    @Override
+    protected int getCurrentStringIndex(KeyTable table) throws IOException {
+        return parser.indexOfText(table);
+    }
+
+    @Override
+    protected AbstractStreamDecoder createChildDecoder() {
+        return new AdhocDecoder(this);
+    }
+
+    @Override
+    protected String coerceScalarToString() throws IOException {
+        return parser.getText();
+    }
+
+    @Override
+    protected int getIntegerFromString() throws IOException {
+        try {
+            return parser.parseTextAsInt();
+        } catch (NumberFormatException e) {
+            throw createDeserializationException("Unable to coerce string to integer", parser.getText());
+        }
+    }
+
+    @Override
+    protected long getLongFromString() throws IOException {
+        try {
+            return parser.parseTextAsLong();
+        } catch (NumberFormatException e) {
+            throw createDeserializationException("Unable to coerce string to integer", parser.getText());
+        }
+    }
+
+    @Override
+    protected double getDoubleFromString() throws IOException {
+        try {
+            return parser.parseTextAsDouble();
+        } catch (NumberFormatException e) {
+            throw createDeserializationException("Unable to coerce string to double", parser.getText());
+        }
+    }
+
+    @Override
+    protected boolean getBoolean() {
+        return parser.getBoolean();
+    }
+
+    @Override
+    protected long getLong() throws IOException {
+        return parser.getLong();
+    }
+
+    @Override
+    protected double getDouble() {
+        return parser.getDouble();
+    }
+
+    @Override
+    protected BigInteger getBigInteger() {
+        return parser.getBigInteger();
+    }
+
+    @Override
+    protected BigDecimal getBigDecimal() {
+        return parser.getBigDecimal();
+    }
+
+    @Override
+    protected Number getBestNumber() {
+        return parser.getNumber();
+    }
+
+    @Override
+    protected void skipChildren() throws IOException {
+        parser.skipChildren();
+    }
+}
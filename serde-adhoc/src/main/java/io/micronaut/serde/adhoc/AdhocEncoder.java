@@ -0,0 +1,363 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.adhoc;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Encoder;
+import io.micronaut.serde.util.EncodedKey;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Implementation of the {@link Encoder} interface that writes UTF-8 json directly into a byte array.
+ * Like the child reusing Jackson encoder a single instance serves all nesting levels, and keys are
+ * written from a cache of their escaped and encoded form shared by the mapper.
+ */
+@Internal
+final class AdhocEncoder implements Encoder {
+    /**
+     * Maximum number of keys kept in the shared key cache.
+     */
+    static final int MAX_CACHED_KEYS = 1024;
+
+    /**
+     * Keys as their quoted UTF-8 bytes followed by the colon.
+     */
+    static final EncodedKey.Format<byte[]> KEY_BYTES = EncodedKey.Format.of(AdhocEncoder::encodeKeyBytes);
+
+    private static final byte OBJECT_EMPTY = 0;
+    private static final byte OBJECT = 1;
+    private static final byte ARRAY_EMPTY = 2;
+    private static final byte ARRAY = 3;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] LONG_MIN = String.valueOf(Long.MIN_VALUE).getBytes();
+
+    private final Map<String, byte[]> keyCache;
+
+    private byte[] buffer;
+    private int count;
+    private byte[] containers = new byte[16];
+    private int depth;
+
+    /**
+     * @param keyCache Cache of encoded keys, shared between encoders
+     */
+    AdhocEncoder(@NonNull Map<String, byte[]> keyCache) {
+        this.keyCache = keyCache;
+        this.buffer = new byte[256];
+    }
+
+    /**
+     * @return A copy of the bytes written so far
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     * Write the bytes written so far to the given stream.
+     *
+     * @param outputStream The stream
+     * @throws IOException If the stream fails
+     */
+    void writeTo(@NonNull OutputStream outputStream) throws IOException {
+        outputStream.write(buffer, 0, count);
+    }
+
+    @Override
+    public Encoder encodeArray(Argument<?> type) throws IOException {
+        beforeValue();
+        push(ARRAY_EMPTY);
+        writeByte('[');
+        return this;
+    }
+
+    @Override
+    public Encoder encodeObject(Argument<?> type) throws IOException {
+        beforeValue();
+        push(OBJECT_EMPTY);
+        writeByte('{');
+        return this;
+    }
+
+    @Override
+    public void finishStructure() throws IOException {
+        if (depth == 0) {
+            throw new IllegalStateException("Not in structure");
+        }
+        final byte container = containers[--depth];
+        writeByte(container == OBJECT || container == OBJECT_EMPTY ? '}' : ']');
+    }
+
+    @Override
+    public void encodeKey(@NonNull String key) throws IOException {
+        Objects.requireNonNull(key, "key");
+        beforeKey();
+        byte[] encoded = keyCache.get(key);
+        if (encoded == null) {
+            encoded = encodeKeyBytes(key);
+            if (keyCache.size() < MAX_CACHED_KEYS) {
+                keyCache.putIfAbsent(key, encoded);
+            }
+        }
+        writeBytes(encoded);
+    }
+
+    @Override
+    public void encodeKey(@NonNull EncodedKey key) throws IOException {
+        Objects.requireNonNull(key, "key");
+        beforeKey();
+        writeBytes(key.getEncoded(KEY_BYTES));
+    }
+
+    private void beforeKey() {
+        if (depth == 0 || containers[depth - 1] > OBJECT) {
+            throw new IllegalStateException("Key outside of an object");
+        }
+        if (containers[depth - 1] == OBJECT) {
+            writeByte(',');
+        } else {
+            containers[depth - 1] = OBJECT;
+        }
+    }
+
+    private static byte[] encodeKeyBytes(String key) {
+        final AdhocEncoder encoder = new AdhocEncoder(Collections.emptyMap());
+        encoder.writeQuoted(key);
+        encoder.writeByte(':');
+        return encoder.toByteArray();
+    }
+
+    @Override
+    public void encodeString(@NonNull String value) throws IOException {
+        Objects.requireNonNull(value, "value");
+        beforeValue();
+        writeQuoted(value);
+    }
+
+    @Override
+    public void encodeBoolean(boolean value) throws IOException {
+        beforeValue();
+        writeBytes(value ? TRUE : FALSE);
+    }
+
+    @Override
+    public void encodeByte(byte value) throws IOException {
+        encodeLong(value);
+    }
+
+    @Override
+    public void encodeShort(short value) throws IOException {
+        encodeLong(value);
+    }
+
+    @Override
+    public void encodeChar(char value) throws IOException {
+        encodeLong(value);
+    }
+
+    @Override
+    public void encodeInt(int value) throws IOException {
+        encodeLong(value);
+    }
+
+    @Override
+    public void encodeLong(long value) throws IOException {
+        beforeValue();
+        if (value == Long.MIN_VALUE) {
+            writeBytes(LONG_MIN);
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[count++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        int pos = count + digits;
+        count = pos;
+        do {
+            buffer[--pos] = (byte) ('0' + (int) (value % 10));
+            value /= 10;
+        } while (value != 0);
+    }
+
+    @Override
+    public void encodeFloat(float value) throws IOException {
+        beforeValue();
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            writeAscii('"' + Float.toString(value) + '"');
+        } else {
+            writeAscii(Float.toString(value));
+        }
+    }
+
+    @Override
+    public void encodeDouble(double value) throws IOException {
+        beforeValue();
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            writeAscii('"' + Double.toString(value) + '"');
+        } else {
+            writeAscii(Double.toString(value));
+        }
+    }
+
+    @Override
+    public void encodeBigInteger(@NonNull BigInteger value) throws IOException {
+        Objects.requireNonNull(value, "value");
+        beforeValue();
+        writeAscii(value.toString());
+    }
+
+    @Override
+    public void encodeBigDecimal(@NonNull BigDecimal value) throws IOException {
+        Objects.requireNonNull(value, "value");
+        beforeValue();
+        writeAscii(value.toString());
+    }
+
+    @Override
+    public void encodeNull() throws IOException {
+        beforeValue();
+        writeBytes(NULL);
+    }
+
+    private void beforeValue() {
+        if (depth == 0) {
+            return;
+        }
+        final byte container = containers[depth - 1];
+        if (container == ARRAY) {
+            writeByte(',');
+        } else if (container == ARRAY_EMPTY) {
+            containers[depth - 1] = ARRAY;
+        }
+    }
+
+    private void push(byte container) {
+        if (depth == containers.length) {
+            containers = Arrays.copyOf(containers, depth * 2);
+        }
+        containers[depth++] = container;
+    }
+
+    private void writeQuoted(String value) {
+        final int length = value.length();
+        // worst case is a \\uXXXX escape for every char
+        ensureCapacity(length * 6 + 2);
+        final byte[] buffer = this.buffer;
+        int pos = count;
+        buffer[pos++] = '"';
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    buffer[pos++] = (byte) c;
+                } else {
+                    buffer[pos++] = '\\';
+                    switch (c) {
+                        case '"':
+                        case '\\':
+                            buffer[pos++] = (byte) c;
+                            break;
+                        case '\n':
+                            buffer[pos++] = 'n';
+                            break;
+                        case '\r':
+                            buffer[pos++] = 'r';
+                            break;
+                        case '\t':
+                            buffer[pos++] = 't';
+                            break;
+                        case '\b':
+                            buffer[pos++] = 'b';
+                            break;
+                        case '\f':
+                            buffer[pos++] = 'f';
+                            break;
+                        default:
+                            buffer[pos++] = 'u';
+                            buffer[pos++] = '0';
+                            buffer[pos++] = '0';
+                            buffer[pos++] = HEX[c >> 4];
+                            buffer[pos++] = HEX[c & 0xF];
+                            break;
+                    }
+                }
+            } else if (c < 0x800) {
+                buffer[pos++] = (byte) (0xC0 | (c >> 6));
+                buffer[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, value.charAt(++i));
+                buffer[pos++] = (byte) (0xF0 | (cp >> 18));
+                buffer[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, replaced like String.getBytes does
+                buffer[pos++] = '?';
+            } else {
+                buffer[pos++] = (byte) (0xE0 | (c >> 12));
+                buffer[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        buffer[pos++] = '"';
+        count = pos;
+    }
+
+    private void writeAscii(String value) {
+        final int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[count++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, count, bytes.length);
+        count += bytes.length;
+    }
+
+    private void writeByte(char b) {
+        ensureCapacity(1);
+        buffer[count++] = (byte) b;
+    }
+
+    private void ensureCapacity(int additional) {
+        final int required = count + additional;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+}
@@ -15,59 +15,86 @@
  */
 package io.micronaut.serde.adhoc;
 
+import io.micronaut.context.annotation.BootstrapContextCompatible;
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
 import io.micronaut.json.JsonStreamConfig;
 import io.micronaut.json.tree.JsonNode;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.Encoder;
 import io.micronaut.serde.ObjectMapper;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.Serializer;
 import io.micronaut.serde.adhoc.parser.AdhocParser;
-import io.micronaut.serde.adhoc.pojo.Account;
-import io.micronaut.serde.adhoc.pojo.OtherAccount;
+import io.micronaut.serde.support.util.BufferingJsonNodeProcessor;
+import io.micronaut.serde.support.util.JsonNodeDecoder;
+import io.micronaut.serde.support.util.JsonNodeEncoder;
+import io.micronaut.serde.support.util.SpecificSerdeCache;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
 import org.reactivestreams.Processor;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
- *
+ * Implementation of the {@link io.micronaut.json.JsonMapper} interface on top of the {@link AdhocParser}
+ * and a direct UTF-8 encoder.
  */
+@Singleton
+@BootstrapContextCompatible
 public class AdhocJsonMapper implements ObjectMapper {
+    private final SerdeRegistry registry;
+    private final Class<?> view;
+    private final Map<String, byte[]> keyCache;
+    private final Serializer.EncoderContext encoderContext;
+    private final Deserializer.DecoderContext decoderContext;
+    private final SpecificSerdeCache specificSerdeCache;
+
+    @Inject
+    public AdhocJsonMapper(SerdeRegistry registry) {
+        this(registry, null);
+    }
+
+    public AdhocJsonMapper(SerdeRegistry registry, Class<?> view) {
+        this(registry, view, new ConcurrentHashMap<>());
+    }
 
-    private static final String [] JSON_FIELDS = {"name", "accountNumber", "balance", "isActive", "favoriteAccounts"};
+    private AdhocJsonMapper(SerdeRegistry registry, Class<?> view, Map<String, byte[]> keyCache) {
+        this.registry = registry;
+        this.view = view;
+        this.keyCache = keyCache;
+        this.encoderContext = registry.newEncoderContext(view);
+        this.decoderContext = registry.newDecoderContext(view);
+        this.specificSerdeCache = new SpecificSerdeCache(registry, encoderContext, decoderContext);
+    }
+
+    @Override
+    public JsonMapper cloneWithViewClass(Class<?> viewClass) {
+        return new AdhocJsonMapper(registry, viewClass, keyCache);
+    }
 
-    /**
-     * Transform a {@link JsonNode} to a value of the given type.
-     *
-     * @param tree The input json data.
-     * @param type The type to deserialize.
-     * @return The deserialized value.
-     */
     @Override
     public <T> T readValueFromTree(JsonNode tree, Argument<T> type) throws IOException {
-        return null;
+        final Deserializer<? extends T> deserializer = specificSerdeCache.findDeserializer(type);
+        return deserializer.deserialize(
+                JsonNodeDecoder.create(tree),
+                decoderContext,
+                type
+        );
     }
 
-    /**
-     * Parse and map json from the given stream.
-     *
-     * @param inputStream The input data.
-     * @param type        The type to deserialize to.
-     * @return The deserialized object.
-     */
     @Override
     public <T> T readValue(InputStream inputStream, Argument<T> type) throws IOException {
-        return this.readValue(inputStream.readAllBytes(), type);
+        return readValue(inputStream.readAllBytes(), type);
     }
 
-    /**
-     * Parse and map json from the given byte array.
-     *
-     * @param byteArray The input data.
-     * @param type      The type to deserialize to.
-     * @return The deserialized object.
-     */
     @Override
     public <T> T readValue(byte[] byteArray, Argument<T> type) throws IOException {
         try (AdhocParser parser = new AdhocParser(byteArray)) {
@@ -75,130 +102,108 @@ public class AdhocJsonMapper implements ObjectMapper {
         }
     }
 
-    /**
-     *
-     * @param parser Ad-hoc parser built for the Account POJO
-     * @param type Object type (will always be Account)
-     * @param <T>
-     * @return
-     * @throws IOException
-     */
-    @SuppressWarnings({"unchecked"})
-    private <T> T readValue(AdhocParser parser, Argument<T> type) {
-        boolean loopControl = true;
-        while (loopControl) {
-            loopControl = parser.nextToken() != null;
+    private <T> T readValue(AdhocParser parser, Argument<T> type) throws IOException {
+        final Deserializer<? extends T> deserializer = specificSerdeCache.findDeserializer(type);
+        final AdhocDecoder decoder = AdhocDecoder.create(parser, view == null ? Object.class : view);
+        if (!deserializer.allowNull() && parser.currentToken() == AdhocParser.JsonToken.NULL) {
+            return null;
         }
-        Map keysValues = parser.getDeserializeMap(); // Extract the map with the JSON information.
-        Account json = new Account((String) keysValues.get(JSON_FIELDS[0]),
-                (long) keysValues.get(JSON_FIELDS[1]),
-                (double) keysValues.get(JSON_FIELDS[2]),
-                (boolean) keysValues.get(JSON_FIELDS[3]),
-                new OtherAccount[]{composeOtherAccount(keysValues, 0),
-                        composeOtherAccount(keysValues, 1),
-                        composeOtherAccount(keysValues, 2)
-        });
-        return (T) json;
-    }
-
-    private OtherAccount composeOtherAccount(Map keysValues, int idx) {
-        return new OtherAccount((String) getOtherAccountValues(keysValues, idx).get(JSON_FIELDS[0]),
-                (long) getOtherAccountValues(keysValues, idx).get(JSON_FIELDS[1]),
-                (boolean) getOtherAccountValues(keysValues, idx).get(JSON_FIELDS[3]));
-    }
-
-    private Map getOtherAccountValues(Map jsonMap, int idx) {
-        return ((Map[]) jsonMap.get(JSON_FIELDS[4]))[idx];
-    }
-
-    /**
-     * Create a reactive {@link Processor} that accepts json bytes and parses them as {@link JsonNode}s.
-     *
-     * @param onSubscribe An additional function to invoke with this processor when the returned processor is subscribed to.
-     * @param streamArray Whether to return a top-level json array as a stream of elements rather than a single array.
-     * @return The reactive processor.
-     */
+        return deserializer.deserialize(
+                decoder,
+                decoderContext,
+                type
+        );
+    }
+
     @Override
-    public Processor<byte[], JsonNode> createReactiveParser(Consumer<Processor<byte[], JsonNode>> onSubscribe, boolean streamArray) {
-        return null;
+    public Processor<byte[], JsonNode> createReactiveParser(Consumer<Processor<byte[], JsonNode>> onSubscribe,
+                                                            boolean streamArray) {
+        return new BufferingJsonNodeProcessor(onSubscribe, streamArray) {
+            @NonNull
+            @Override
+            protected JsonNode parseOne(@NonNull InputStream is) throws IOException {
+                try (AdhocParser parser = new AdhocParser(is.readAllBytes())) {
+                    final AdhocDecoder decoder = AdhocDecoder.create(parser, Object.class);
+                    final Object o = decoder.decodeArbitrary();
+                    return writeValueToTree(o);
+                }
+            }
+        };
     }
 
-    /**
-     * Transform an object value to a json tree.
-     *
-     * @param value The object value to transform.
-     * @return The json representation.
-     * @throws IOException If there are any mapping exceptions (e.g. illegal values).
-     */
     @Override
     public JsonNode writeValueToTree(Object value) throws IOException {
-        return null;
+        JsonNodeEncoder encoder = JsonNodeEncoder.create();
+        serialize(encoder, value);
+        return encoder.getCompletedValue();
     }
 
-    /**
-     * Transform an object value to a json tree.
-     *
-     * @param type  The object type
-     * @param value The object value to transform.
-     * @return The json representation.
-     * @throws IOException If there are any mapping exceptions (e.g. illegal values).
-     */
     @Override
     public <T> JsonNode writeValueToTree(Argument<T> type, T value) throws IOException {
-        return null;
+        JsonNodeEncoder encoder = JsonNodeEncoder.create();
+        serialize(encoder, value, type);
+        return encoder.getCompletedValue();
     }
 
-    /**
-     * Write an object as json.
-     *
-     * @param outputStream The stream to write to.
-     * @param object       The object to serialize.
-     */
     @Override
     public void writeValue(OutputStream outputStream, Object object) throws IOException {
-
+        Objects.requireNonNull(outputStream, "Output stream cannot be null");
+        encode(object).writeTo(outputStream);
+        outputStream.flush();
     }
 
-    /**
-     * Write an object as json.
-     *
-     * @param outputStream The stream to write to.
-     * @param type         The object type
-     * @param object       The object to serialize.
-     */
     @Override
     public <T> void writeValue(OutputStream outputStream, Argument<T> type, T object) throws IOException {
-
+        Objects.requireNonNull(outputStream, "Output stream cannot be null");
+        encode(type, object).writeTo(outputStream);
+        outputStream.flush();
     }
 
-    /**
-     * Write an object as json.
-     *
-     * @param object The object to serialize.
-     * @return The serialized encoded json.
-     */
     @Override
     public byte[] writeValueAsBytes(Object object) throws IOException {
-        return new byte[0];
+        return encode(object).toByteArray();
     }
 
-    /**
-     * Write an object as json.
-     *
-     * @param type   The object type
-     * @param object The object to serialize.
-     * @return The serialized encoded json.
-     */
     @Override
     public <T> byte[] writeValueAsBytes(Argument<T> type, T object) throws IOException {
-        return new byte[0];
+        return encode(type, object).toByteArray();
+    }
+
+    private AdhocEncoder encode(Object object) throws IOException {
+        final AdhocEncoder encoder = new AdhocEncoder(keyCache);
+        if (object == null) {
+            encoder.encodeNull();
+        } else {
+            serialize(encoder, object);
+        }
+        return encoder;
+    }
+
+    private <T> AdhocEncoder encode(Argument<T> type, T object) throws IOException {
+        final AdhocEncoder encoder = new AdhocEncoder(keyCache);
+        if (object == null) {
+            encoder.encodeNull();
+        } else {
+            serialize(encoder, object, type);
+        }
+        return encoder;
+    }
+
+    private void serialize(Encoder encoder, Object object) throws IOException {
+        serialize(encoder, object, Argument.of(object.getClass()));
+    }
+
+    private void serialize(Encoder encoder, Object object, Argument type) throws IOException {
+        final Serializer<Object> serializer = specificSerdeCache.findSerializer(type);
+        serializer.serialize(
+                encoder,
+                encoderContext,
+                type, object
+        );
     }
 
-    /**
-     * @return The configured stream config.
-     */
     @Override
     public JsonStreamConfig getStreamConfig() {
-        return null;
+        return JsonStreamConfig.DEFAULT;
     }
 }
@@ -15,192 +15,687 @@
  */
 package io.micronaut.serde.adhoc.parser;
 
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.exceptions.InvalidFormatException;
+import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.util.NumberParser;
+import io.micronaut.serde.util.KeyTable;
+
 import java.io.Closeable;
-import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
- *
+ * Byte-level JSON tokenizer working directly on UTF-8 input. Scalars are only delimited while tokenizing,
+ * strings and numbers are materialized when they are requested. Integers of up to 18 digits and floating point
+ * numbers that can be represented exactly are computed during the scan without going through a {@link String}.
  */
-public class AdhocParser implements Closeable {
-
-    protected static final int INT_QUOTE = '"';
-    protected static final int ZERO = '0';
-    protected static final int NINE = '9';
-    protected static final int T = 't';
-    protected static final int F = 'f';
+public final class AdhocParser implements Closeable {
 
-    private int posArray;
-    private int posAcc;
-    private int posOacc;
+    private static final byte OBJECT = 1;
+    private static final byte ARRAY = 2;
 
-    private byte[] byteArray;
+    private static final int STATE_ROOT = 0;
+    private static final int STATE_OBJECT_START = 1;
+    private static final int STATE_ARRAY_START = 2;
+    private static final int STATE_AFTER_KEY = 3;
+    private static final int STATE_AFTER_VALUE = 4;
 
-    private HashMap<String, Object> jsonKeyValues;
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
 
-    private final String[] ACC_KEYS = {"name", "accountNumber", "balance", "isActive", "favoriteAccounts"};
+    private final byte[] input;
+    private final int end;
+    private int position;
 
-    private boolean processingArray;
+    private byte[] containers = new byte[16];
+    private int depth;
+    private int state = STATE_ROOT;
 
-    private String processingKey;
+    private JsonToken token;
+    private int tokenStart;
+    private int tokenEnd;
+    private boolean escaped;
+    private boolean ascii;
+    private long longValue;
+    private boolean longValid;
+    private double doubleValue;
+    private boolean doubleValid;
 
-    protected enum JsonToken {
-        KEY, VALUE
+    /**
+     * The tokens produced by the parser.
+     */
+    public enum JsonToken {
+        START_OBJECT,
+        END_OBJECT,
+        START_ARRAY,
+        END_ARRAY,
+        KEY,
+        STRING,
+        NUMBER_INT,
+        NUMBER_FLOAT,
+        TRUE,
+        FALSE,
+        NULL
     }
 
-    public AdhocParser(byte[] input) {
-        this.byteArray = input;
-        this.posArray = 0;
-        this.posAcc = 0;
-        this.posOacc = 0;
-        this.jsonKeyValues = new HashMap<>();
-        this.processingArray = false;
-        this.processingKey = null;
+    /**
+     * @param input The UTF-8 encoded JSON
+     */
+    public AdhocParser(@NonNull byte[] input) {
+        this(input, 0, input.length);
     }
 
     /**
-     * Closes this stream and releases any system resources associated
-     * with it. If the stream is already closed then invoking this
-     * method has no effect.
-     *
-     * <p> As noted in {@link AutoCloseable#close()}, cases where the
-     * close may fail require careful attention. It is strongly advised
-     * to relinquish the underlying resources and to internally
-     * <em>mark</em> the {@code Closeable} as closed, prior to throwing
-     * the {@code IOException}.
-     *
-     * @throws IOException if an I/O error occurs
+     * @param input  The UTF-8 encoded JSON
+     * @param offset The offset of the JSON in the input
+     * @param length The length of the JSON
      */
+    public AdhocParser(@NonNull byte[] input, int offset, int length) {
+        this.input = input;
+        this.position = offset;
+        this.end = offset + length;
+    }
+
     @Override
-    public void close() throws IOException {
+    public void close() {
+        // nothing to release, the input is owned by the caller
+    }
+
+    /**
+     * @return The current token, {@code null} before the first and after the last token
+     */
+    @Nullable
+    public JsonToken currentToken() {
+        return token;
+    }
+
+    /**
+     * @return The offset of the parser in the input
+     */
+    public int getPosition() {
+        return position;
+    }
 
+    /**
+     * @return Whether the parser reached the end of a root value followed only by whitespace
+     */
+    public boolean isAtEnd() {
+        return state == STATE_AFTER_VALUE && depth == 0 && skipWhitespace() == -1;
     }
 
     /**
+     * Advance to the next token.
      *
-     * @return Next processed token by the parser
-     */
-    public JsonToken nextToken() {
-        if (processingKey == null) {
-            while (posArray < byteArray.length) {
-                int pos = posArray++;
-                if (byteArray[pos] == INT_QUOTE) { // Here we already know that is a key
-                    processingKey = ACC_KEYS[posAcc++];
-                    posArray += processingKey.length() + 1;
-                    return JsonToken.KEY;
+     * @return The next token or {@code null} at the end of the root value
+     * @throws SerdeException If the input is not valid JSON
+     */
+    @Nullable
+    public JsonToken nextToken() throws SerdeException {
+        int c = skipWhitespace();
+        switch (state) {
+            case STATE_AFTER_VALUE:
+                if (depth == 0) {
+                    if (c != -1) {
+                        throw unexpected(c, "the end of the input");
+                    }
+                    token = null;
+                    return null;
                 }
-            }
-            return null; // This is the end of the JSON file.
-        } else {
-            if (processingKey.equals(ACC_KEYS[0])) { // name
-                findNextQuote();
-                int iChar = ++posArray;
-                findNextQuote();
-                int fChar = posArray++;
-                if (!processingArray) {
-                    this.jsonKeyValues.put(processingKey, new String(Arrays.copyOfRange(byteArray, iChar, fChar), StandardCharsets.UTF_8));
+                if (containers[depth - 1] == OBJECT) {
+                    if (c == ',') {
+                        position++;
+                        return readKey(skipWhitespace());
+                    } else if (c == '}') {
+                        position++;
+                        return endContainer(JsonToken.END_OBJECT);
+                    }
+                    throw unexpected(c, "',' or '}'");
                 } else {
-                    getOthersAccounts()[this.posOacc].put(processingKey, new String(Arrays.copyOfRange(byteArray, iChar, fChar), StandardCharsets.UTF_8));
+                    if (c == ',') {
+                        position++;
+                        return readValue(skipWhitespace());
+                    } else if (c == ']') {
+                        position++;
+                        return endContainer(JsonToken.END_ARRAY);
+                    }
+                    throw unexpected(c, "',' or ']'");
                 }
-                this.processingKey = null;
-            } else if (processingKey.equals(ACC_KEYS[1])) { //accountNumber
-                findNextDigit();
-                if (!processingArray) {
-                    this.jsonKeyValues.put(processingKey, parseAccountNumber());
-                } else {
-                    getOthersAccounts()[this.posOacc].put(processingKey, parseAccountNumber());
-                    this.posAcc++; // We have to skip the balance key while composing the array
+            case STATE_AFTER_KEY:
+                if (c != ':') {
+                    throw unexpected(c, "':'");
                 }
-                this.processingKey = null;
-            } else if (processingKey.equals(ACC_KEYS[2])) { // balance
-                findNextDigit();
-                this.jsonKeyValues.put(processingKey, parseBalance());
-                this.processingKey = null;
-            } else if (processingKey.equals(ACC_KEYS[3])) { // isActive
-                if (!processingArray) {
-                    this.jsonKeyValues.put(processingKey, findBooleanValue());
-                } else {
-                    getOthersAccounts()[this.posOacc++].put(processingKey, findBooleanValue());
-                    this.posAcc = 0;
+                position++;
+                return readValue(skipWhitespace());
+            case STATE_OBJECT_START:
+                if (c == '}') {
+                    position++;
+                    return endContainer(JsonToken.END_OBJECT);
+                }
+                return readKey(c);
+            case STATE_ARRAY_START:
+                if (c == ']') {
+                    position++;
+                    return endContainer(JsonToken.END_ARRAY);
+                }
+                return readValue(c);
+            default:
+                if (c == -1) {
+                    token = null;
+                    return null;
+                }
+                return readValue(c);
+        }
+    }
+
+    /**
+     * If the current token starts an object or array, skip to the matching end token.
+     *
+     * @throws SerdeException If the input is not valid JSON
+     */
+    public void skipChildren() throws SerdeException {
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+            return;
+        }
+        final int target = depth - 1;
+        while (depth > target) {
+            if (nextToken() == null) {
+                throw error("Unexpected end of input");
+            }
+        }
+    }
+
+    /**
+     * @return The text of the current key or string, or the textual representation of the current scalar
+     * @throws SerdeException If the string contains an invalid escape sequence
+     */
+    @NonNull
+    public String getText() throws SerdeException {
+        switch (token) {
+            case KEY:
+            case STRING:
+                if (ascii) {
+                    // compact strings make latin-1 decoding a plain copy
+                    return new String(input, tokenStart, tokenEnd - tokenStart, StandardCharsets.ISO_8859_1);
                 }
-                this.processingKey = null;
-            } else if (processingKey.equals(ACC_KEYS[4])) { // otherAccounts
-                this.processingArray = true;
-                this.jsonKeyValues.put(processingKey, new Map[]{new HashMap<String, Object>(), new HashMap<String, Object>(), new HashMap<String, Object>()});
-                this.processingKey = null;
-                this.posAcc = 0;
-            } else {
-                System.err.println("Non expected token found in JSON");
+                if (!escaped) {
+                    return new String(input, tokenStart, tokenEnd - tokenStart, StandardCharsets.UTF_8);
+                }
+                return unescape();
+            case NUMBER_INT:
+            case NUMBER_FLOAT:
+                return new String(input, tokenStart, tokenEnd - tokenStart, StandardCharsets.ISO_8859_1);
+            case TRUE:
+                return "true";
+            case FALSE:
+                return "false";
+            case NULL:
+                return "null";
+            default:
+                throw error("Current token " + token + " has no text");
+        }
+    }
+
+    /**
+     * Whether the current key or string is equal to the given ASCII bytes, without materializing it.
+     *
+     * @param bytes The bytes
+     * @return True if they are equal
+     */
+    public boolean textEquals(@NonNull byte[] bytes) {
+        final int length = tokenEnd - tokenStart;
+        if (escaped || length != bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (input[tokenStart + i] != bytes[i]) {
+                return false;
             }
-            return JsonToken.VALUE;
         }
+        return true;
+    }
+
+    /**
+     * Resolve the current key or string against the given table, matching the raw UTF-8 bytes unless the
+     * text contains escape sequences.
+     *
+     * @param table The table
+     * @return The index of the text in the table or {@link KeyTable#NOT_FOUND}
+     * @throws SerdeException If the string contains an invalid escape sequence
+     */
+    public int indexOfText(@NonNull KeyTable table) throws SerdeException {
+        if (escaped) {
+            return table.indexOf(unescape());
+        }
+        return table.indexOfUtf8(input, tokenStart, tokenEnd - tokenStart);
     }
 
-    private void findNextQuote() {
-        while (byteArray[posArray] != INT_QUOTE) {
-            posArray++;
+    /**
+     * Parse the current string as an int, like {@link Integer#parseInt(String)}, from the raw bytes unless it
+     * contains escape sequences.
+     *
+     * @return The value
+     * @throws SerdeException If the string contains an invalid escape sequence
+     * @throws NumberFormatException If the string is not an int
+     */
+    public int parseTextAsInt() throws SerdeException {
+        if (escaped) {
+            return Integer.parseInt(unescape());
         }
+        return NumberParser.parseInt(input, tokenStart, tokenEnd - tokenStart);
     }
 
-    private void findNextDigit() {
-        while (byteArray[posArray] < ZERO || byteArray[posArray] > NINE) {
-            posArray += 1;
+    /**
+     * Parse the current string as a long, like {@link Long#parseLong(String)}, from the raw bytes unless it
+     * contains escape sequences.
+     *
+     * @return The value
+     * @throws SerdeException If the string contains an invalid escape sequence
+     * @throws NumberFormatException If the string is not a long
+     */
+    public long parseTextAsLong() throws SerdeException {
+        if (escaped) {
+            return Long.parseLong(unescape());
         }
+        return NumberParser.parseLong(input, tokenStart, tokenEnd - tokenStart);
     }
 
-    private long parseAccountNumber() {
-        // This method for now emulates in some ways Jackson implementation, as I suppose it's optimized enough
-        long accNumber = (byteArray[posArray++] - '0') * 1_000_000_000L;
-        for (int i = 8; i >= 0; i--) {
-            accNumber += (byteArray[posArray++] - '0') * longPow(10, i);
+    /**
+     * Parse the current string as a double, like {@link Double#parseDouble(String)}, from the raw bytes unless it
+     * contains escape sequences.
+     *
+     * @return The value
+     * @throws SerdeException If the string contains an invalid escape sequence
+     * @throws NumberFormatException If the string is not a double
+     */
+    public double parseTextAsDouble() throws SerdeException {
+        if (escaped) {
+            return Double.parseDouble(unescape());
         }
-        return accNumber;
+        return NumberParser.parseDouble(input, tokenStart, tokenEnd - tokenStart);
     }
 
-    private long longPow(int a, int b) { // Exponentation by squaring https://stackoverflow.com/questions/29996070/using-int-double-and-long-in-calculation-of-powers
-        long res = 1;
-        long sq = a;
-        while (b > 0) {
-            if (b % 2 == 1) {
-                res *= sq;
+    /**
+     * @return The current boolean value
+     */
+    public boolean getBoolean() {
+        return token == JsonToken.TRUE;
+    }
+
+    /**
+     * @return The current number as a long, truncating fractions
+     * @throws InvalidFormatException If the current integer is out of the range of a long
+     */
+    public long getLong() throws InvalidFormatException {
+        if (token == JsonToken.NUMBER_INT) {
+            if (longValid) {
+                return longValue;
+            }
+            final BigInteger value = new BigInteger(numberText());
+            if (value.bitLength() >= Long.SIZE) {
+                throw new InvalidFormatException("Numeric value (" + value + ") out of range of long \n at position " + position, null, value);
             }
-            sq = sq * sq;
-            b /= 2;
+            return value.longValue();
         }
-        return res;
+        return (long) getDouble();
     }
 
-    private double parseBalance() { // We rely on the Double parsing provided by Java
-        String balance = new String(byteArray, posArray, 6, StandardCharsets.UTF_8);
-        posArray += 6;
-        return Double.parseDouble(balance);
+    /**
+     * @return The current number as a double
+     */
+    public double getDouble() {
+        if (token == JsonToken.NUMBER_INT && longValid) {
+            return longValue;
+        }
+        if (doubleValid) {
+            return doubleValue;
+        }
+        return NumberParser.parseDouble(input, tokenStart, tokenEnd - tokenStart);
     }
 
-    private boolean findBooleanValue() {
-        while (byteArray[posArray] != F && byteArray[posArray] != T) {
-            posArray += 1;
+    /**
+     * @return The current number as a {@link BigInteger}
+     */
+    @NonNull
+    public BigInteger getBigInteger() {
+        if (token == JsonToken.NUMBER_INT) {
+            return longValid ? BigInteger.valueOf(longValue) : new BigInteger(numberText());
         }
-        if (byteArray[posArray] == F) {
-            posArray += 5;
-            return false;
-        } else {
-            posArray += 4;
-            return true;
+        return getBigDecimal().toBigInteger();
+    }
+
+    /**
+     * @return The current number as a {@link BigDecimal}
+     */
+    @NonNull
+    public BigDecimal getBigDecimal() {
+        if (token == JsonToken.NUMBER_INT && longValid) {
+            return BigDecimal.valueOf(longValue);
         }
+        return new BigDecimal(numberText());
     }
 
-    private Map[] getOthersAccounts() {
-        return (Map[]) this.jsonKeyValues.get(ACC_KEYS[4]);
+    /**
+     * @return The current number using the narrowest of {@link Integer}, {@link Long} and {@link BigInteger} for integers
+     * and {@link Double} otherwise
+     */
+    @NonNull
+    public Number getNumber() {
+        if (token == JsonToken.NUMBER_INT) {
+            if (longValid) {
+                if (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) {
+                    return (int) longValue;
+                }
+                return longValue;
+            }
+            final BigInteger value = new BigInteger(numberText());
+            return value.bitLength() < Long.SIZE ? (Number) value.longValue() : value;
+        }
+        return getDouble();
     }
 
     /**
-     *
-     * @return Returns a @link{Map} containing the parsed keys and values
+     * @param message The message
+     * @return An exception for the current position
      */
-    public Map<String, Object> getDeserializeMap() {
-        return this.jsonKeyValues;
+    @NonNull
+    public SerdeException error(String message) {
+        return new SerdeException(message + " \n at position " + position);
+    }
+
+    private String numberText() {
+        return new String(input, tokenStart, tokenEnd - tokenStart, StandardCharsets.ISO_8859_1);
+    }
+
+    private int skipWhitespace() {
+        final byte[] input = this.input;
+        int i = position;
+        while (i < end) {
+            final byte b = input[i];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                position = i;
+                return b & 0xFF;
+            }
+            i++;
+        }
+        position = i;
+        return -1;
+    }
+
+    private JsonToken endContainer(JsonToken endToken) {
+        depth--;
+        state = STATE_AFTER_VALUE;
+        token = endToken;
+        return endToken;
+    }
+
+    private void push(byte container) {
+        if (depth == containers.length) {
+            containers = Arrays.copyOf(containers, depth * 2);
+        }
+        containers[depth++] = container;
+    }
+
+    private JsonToken readKey(int c) throws SerdeException {
+        if (c != '"') {
+            throw unexpected(c, "a key");
+        }
+        scanString();
+        state = STATE_AFTER_KEY;
+        token = JsonToken.KEY;
+        return token;
+    }
+
+    private JsonToken readValue(int c) throws SerdeException {
+        switch (c) {
+            case '{':
+                position++;
+                push(OBJECT);
+                state = STATE_OBJECT_START;
+                token = JsonToken.START_OBJECT;
+                return token;
+            case '[':
+                position++;
+                push(ARRAY);
+                state = STATE_ARRAY_START;
+                token = JsonToken.START_ARRAY;
+                return token;
+            case '"':
+                scanString();
+                token = JsonToken.STRING;
+                break;
+            case 't':
+                expectLiteral("true");
+                token = JsonToken.TRUE;
+                break;
+            case 'f':
+                expectLiteral("false");
+                token = JsonToken.FALSE;
+                break;
+            case 'n':
+                expectLiteral("null");
+                token = JsonToken.NULL;
+                break;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    scanNumber();
+                    break;
+                }
+                throw unexpected(c, "a value");
+        }
+        state = STATE_AFTER_VALUE;
+        return token;
+    }
+
+    private void expectLiteral(String literal) throws SerdeException {
+        final int length = literal.length();
+        if (position + length > end) {
+            throw error("Unexpected end of input, expected '" + literal + "'");
+        }
+        for (int i = 0; i < length; i++) {
+            if (input[position + i] != literal.charAt(i)) {
+                throw error("Unrecognized token, expected '" + literal + "'");
+            }
+        }
+        position += length;
+    }
+
+    private void scanString() throws SerdeException {
+        final byte[] input = this.input;
+        int i = position + 1;
+        boolean escaped = false;
+        boolean ascii = true;
+        while (true) {
+            if (i >= end) {
+                throw error("Unterminated string");
+            }
+            final byte b = input[i];
+            if (b == '"') {
+                break;
+            }
+            if (b == '\\') {
+                escaped = true;
+                ascii = false;
+                i += 2;
+                continue;
+            }
+            if (b < 0) {
+                ascii = false;
+            } else if (b < 0x20) {
+                throw error("Illegal unquoted control character in string");
+            }
+            i++;
+        }
+        this.tokenStart = position + 1;
+        this.tokenEnd = i;
+        this.escaped = escaped;
+        this.ascii = ascii;
+        this.position = i + 1;
+    }
+
+    private void scanNumber() throws SerdeException {
+        final byte[] input = this.input;
+        final int start = position;
+        int i = start;
+        boolean negative = false;
+        if (input[i] == '-') {
+            negative = true;
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        final int intStart = i;
+        while (i < end && input[i] >= '0' && input[i] <= '9') {
+            if (digits < MAX_LONG_DIGITS) {
+                mantissa = mantissa * 10 + (input[i] - '0');
+            }
+            digits++;
+            i++;
+        }
+        if (i == intStart) {
+            throw error("Invalid number, expected a digit");
+        }
+        if (digits > 1 && input[intStart] == '0') {
+            throw error("Invalid number, leading zeros are not allowed");
+        }
+        boolean isFloat = false;
+        int exponent = 0;
+        if (i < end && input[i] == '.') {
+            isFloat = true;
+            i++;
+            final int fractionStart = i;
+            while (i < end && input[i] >= '0' && input[i] <= '9') {
+                if (digits < MAX_LONG_DIGITS) {
+                    mantissa = mantissa * 10 + (input[i] - '0');
+                    exponent--;
+                }
+                digits++;
+                i++;
+            }
+            if (i == fractionStart) {
+                throw error("Invalid number, expected a digit after the decimal point");
+            }
+        }
+        boolean exponentOverflow = false;
+        if (i < end && (input[i] == 'e' || input[i] == 'E')) {
+            isFloat = true;
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (input[i] == '+' || input[i] == '-')) {
+                negativeExponent = input[i] == '-';
+                i++;
+            }
+            final int exponentStart = i;
+            int explicitExponent = 0;
+            while (i < end && input[i] >= '0' && input[i] <= '9') {
+                if (explicitExponent < 100000) {
+                    explicitExponent = explicitExponent * 10 + (input[i] - '0');
+                } else {
+                    exponentOverflow = true;
+                }
+                i++;
+            }
+            if (i == exponentStart) {
+                throw error("Invalid number, expected a digit in the exponent");
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        this.tokenStart = start;
+        this.tokenEnd = i;
+        this.position = i;
+        if (isFloat) {
+            token = JsonToken.NUMBER_FLOAT;
+            longValid = false;
+            // exact when both the mantissa and the power of ten are exactly representable
+            doubleValid = digits <= MAX_LONG_DIGITS
+                    && !exponentOverflow
+                    && mantissa < MAX_EXACT_MANTISSA
+                    && exponent >= -22 && exponent <= 22;
+            if (doubleValid) {
+                double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+                doubleValue = negative ? -value : value;
+            }
+        } else {
+            token = JsonToken.NUMBER_INT;
+            doubleValid = false;
+            longValid = digits <= MAX_LONG_DIGITS;
+            longValue = negative ? -mantissa : mantissa;
+        }
+    }
+
+    private String unescape() throws SerdeException {
+        final byte[] input = this.input;
+        final StringBuilder builder = new StringBuilder(tokenEnd - tokenStart);
+        int segmentStart = tokenStart;
+        int i = tokenStart;
+        while (i < tokenEnd) {
+            if (input[i] != '\\') {
+                i++;
+                continue;
+            }
+            if (i > segmentStart) {
+                builder.append(new String(input, segmentStart, i - segmentStart, StandardCharsets.UTF_8));
+            }
+            final byte escape = input[i + 1];
+            switch (escape) {
+                case '"':
+                case '\\':
+                case '/':
+                    builder.append((char) escape);
+                    break;
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    if (i + 6 > tokenEnd) {
+                        throw error("Invalid unicode escape");
+                    }
+                    int value = 0;
+                    for (int j = i + 2; j < i + 6; j++) {
+                        final int digit = Character.digit(input[j], 16);
+                        if (digit == -1) {
+                            throw error("Invalid unicode escape");
+                        }
+                        value = (value << 4) | digit;
+                    }
+                    builder.append((char) value);
+                    i += 4;
+                    break;
+                default:
+                    throw error("Unrecognized escape character '" + (char) escape + "'");
+            }
+            i += 2;
+            segmentStart = i;
+        }
+        if (tokenEnd > segmentStart) {
+            builder.append(new String(input, segmentStart, tokenEnd - segmentStart, StandardCharsets.UTF_8));
+        }
+        return builder.toString();
+    }
+
+    private SerdeException unexpected(int c, String expected) {
+        if (c == -1) {
+            return error("Unexpected end of input, expected " + expected);
+        }
+        return error("Unexpected character '" + (char) c + "', expected " + expected);
     }
 }
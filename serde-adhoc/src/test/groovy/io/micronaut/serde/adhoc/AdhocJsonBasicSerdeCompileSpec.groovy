@@ -0,0 +1,6 @@
+package io.micronaut.serde.adhoc
+
+import io.micronaut.serde.AbstractBasicSerdeCompileSpec
+
+class AdhocJsonBasicSerdeCompileSpec extends AbstractBasicSerdeCompileSpec {
+}
@@ -0,0 +1,20 @@
+package io.micronaut.serde.adhoc
+
+import io.micronaut.json.JsonMapper
+import io.micronaut.serde.AbstractBasicSerdeSpec
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+
+
+@MicronautTest
+class AdhocJsonBasicSerdeSpec extends AbstractBasicSerdeSpec {
+
+    @Inject
+    JsonMapper jsonMapper
+
+
+    @Override
+    boolean objRepresentationMatches(Object obj, String json) {
+        return true;
+    }
+}
@@ -0,0 +1,110 @@
+package io.micronaut.serde.adhoc
+
+import io.micronaut.json.JsonMapper
+import io.micronaut.serde.AbstractJsonCompileSpec
+import io.micronaut.serde.exceptions.InvalidFormatException
+import io.micronaut.serde.exceptions.SerdeException
+import spock.lang.Unroll
+
+class AdhocJsonCompileSpec extends AbstractJsonCompileSpec {
+
+    @Override
+    Class<JsonMapper> getJsonMapperClass() {
+        AdhocJsonMapper
+    }
+
+    void 'test the adhoc mapper is used'() {
+        given:
+        def context = buildContext('test.Test', '''
+package test;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+class Test {
+    private long value;
+    public void setValue(long value) {
+        this.value = value;
+    }
+    public long getValue() {
+        return value;
+    }
+}
+''', [:])
+
+        expect:
+        jsonMapper instanceof AdhocJsonMapper
+        writeJson(jsonMapper, jsonMapper.readValue('{"value":9223372036854775807}', typeUnderTest)) == '{"value":9223372036854775807}'
+
+        cleanup:
+        context.close()
+    }
+
+    void 'test long overflow fails'() {
+        given:
+        def context = buildContext('test.Test', '''
+package test;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+class Test {
+    private long value;
+    public void setValue(long value) {
+        this.value = value;
+    }
+    public long getValue() {
+        return value;
+    }
+}
+''', [:])
+
+        when:
+        jsonMapper.readValue('{"value":9223372036854775808}', typeUnderTest)
+
+        then:
+        def e = thrown(InvalidFormatException)
+        e.message.contains('out of range of long')
+
+        cleanup:
+        context.close()
+    }
+
+    @Unroll
+    void 'test invalid json #json'() {
+        given:
+        def context = buildContext('test.Test', '''
+package test;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+class Test {
+    private int value;
+    public void setValue(int value) {
+        this.value = value;
+    }
+    public int getValue() {
+        return value;
+    }
+}
+''', [:])
+
+        when:
+        jsonMapper.readValue(json, typeUnderTest)
+
+        then:
+        def e = thrown(SerdeException)
+        e.message.contains(message)
+
+        cleanup:
+        context.close()
+
+        where:
+        json                  | message
+        '{"value":0123}'      | 'leading zeros'
+        '{"value":-01}'       | 'leading zeros'
+        '{"value":1} {}'      | 'expected the end of the input'
+        '{"value":1}]'        | 'expected the end of the input'
+    }
+}
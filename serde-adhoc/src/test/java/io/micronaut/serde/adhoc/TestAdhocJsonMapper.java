@@ -1,21 +1,53 @@
 package io.micronaut.serde.adhoc;
 
 import io.micronaut.core.type.Argument;
+import io.micronaut.json.tree.JsonNode;
 import io.micronaut.serde.adhoc.pojo.Account;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
+@MicronautTest
 public class TestAdhocJsonMapper {
 
+    @Inject
+    AdhocJsonMapper objectMapper;
+
     @Test
     void testJacksonWriteBook() throws IOException {
-        AdhocJsonMapper objectMapper = new AdhocJsonMapper();
         Account acc = objectMapper.readValue(Thread.currentThread().getContextClassLoader().getResourceAsStream("simple_file.json"), Argument.of(Account.class));
         assertNotNull(acc);
+        assertEquals("Marlon West", acc.getName());
+        assertEquals(3785821933L, acc.getAccountNumber());
+        assertEquals(596.86, acc.getBalance());
+        assertEquals(3, acc.getFavoriteAccounts().length);
+        assertEquals("Marc Paucek", acc.getFavoriteAccounts()[2].getName());
+    }
 
+    @Test
+    void testRoundTrip() throws IOException {
+        Account acc = objectMapper.readValue(Thread.currentThread().getContextClassLoader().getResourceAsStream("simple_file.json"), Argument.of(Account.class));
+        byte[] bytes = objectMapper.writeValueAsBytes(acc);
+        Account read = objectMapper.readValue(bytes, Argument.of(Account.class));
+        assertEquals(acc.getName(), read.getName());
+        assertEquals(acc.getAccountNumber(), read.getAccountNumber());
+        assertEquals(acc.isActive(), read.isActive());
 
+        JsonNode tree = objectMapper.writeValueToTree(acc);
+        assertEquals("Marlon West", tree.get("name").getStringValue());
+        assertEquals(acc.getName(), objectMapper.readValueFromTree(tree, Account.class).getName());
+    }
+
+    @Test
+    void testEscapedStrings() throws IOException {
+        String json = new String(objectMapper.writeValueAsBytes("a\"b\\c\n\u00e9\ud83d\ude00"), StandardCharsets.UTF_8);
+        assertEquals("\"a\\\"b\\\\c\\n\u00e9\ud83d\ude00\"", json);
+        assertEquals("a\"b\\c\n\u00e9\ud83d\ude00", objectMapper.readValue(json.getBytes(StandardCharsets.UTF_8), Argument.of(String.class)));
     }
 }
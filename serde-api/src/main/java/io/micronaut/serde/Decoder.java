@@ -18,10 +18,12 @@ package io.micronaut.serde;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
+import io.micronaut.serde.util.KeyTable;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
 
 /**
  * Core interface for decoding values from a serialized format such as JSON.
@@ -29,6 +31,17 @@ import java.math.BigInteger;
  * @since 1.0.0
  */
 public interface Decoder extends AutoCloseable {
+    /**
+     * Returned by {@link #decodeKeyIndex(KeyTable)} if there are no more keys to decode.
+     */
+    int END_OF_OBJECT = -1;
+
+    /**
+     * Returned by {@link #decodeKeyIndex(KeyTable)} if the key was not resolved. The key is not consumed and has to be
+     * decoded with {@link #decodeKey()}.
+     */
+    int UNRESOLVED_KEY = -2;
+
     /**
      * Start decoding an array.
      * @param type The array type
@@ -81,6 +94,35 @@ public interface Decoder extends AutoCloseable {
     @Nullable
     String decodeKey() throws IOException;
 
+    /**
+     * Decodes a key by resolving it against the given table, which allows implementations to match the raw key of the
+     * input without materializing a {@link String}. If the key is not in the table, or the implementation does not
+     * support resolving keys, the key is left for {@link #decodeKey()}.
+     *
+     * @param table The table of known keys
+     * @return The index of the key in the table, {@link #END_OF_OBJECT} if there aren't any more keys or
+     * {@link #UNRESOLVED_KEY}
+     * @throws IOException If an unrecoverable error occurs
+     */
+    default int decodeKeyIndex(@NonNull KeyTable table) throws IOException {
+        return UNRESOLVED_KEY;
+    }
+
+    /**
+     * Looks ahead in the remaining keys of the current object for the given key and decodes its value if it is a
+     * string, without consuming any input. Must be called before decoding the next key. Implementations backed by
+     * input they can scan or rewind override this, e.g. to resolve a subtype discriminator that is not the first key.
+     *
+     * @param key The key
+     * @return The value, or {@code null} if the key was not found, its value is not a string or the implementation
+     * does not support looking ahead
+     * @throws IOException If an unrecoverable error occurs
+     */
+    @Nullable
+    default String lookaheadString(@NonNull String key) throws IOException {
+        return null;
+    }
+
     /**
      * Decodes a string.
      * @return The string, never {@code null}
@@ -89,6 +131,18 @@ public interface Decoder extends AutoCloseable {
     @NonNull
     String decodeString() throws IOException;
 
+    /**
+     * Decodes a string by resolving it against the given table, which allows implementations to match the raw value of
+     * the input without materializing a {@link String}, e.g. for a subtype discriminator.
+     *
+     * @param table The table of known values
+     * @return The index of the value in the table or {@link KeyTable#NOT_FOUND}
+     * @throws IOException If an unrecoverable error occurs
+     */
+    default int decodeStringIndex(@NonNull KeyTable table) throws IOException {
+        return table.indexOf(decodeString());
+    }
+
     /**
      * Decodes a boolean.
      * @return The boolean
@@ -170,6 +224,150 @@ public interface Decoder extends AutoCloseable {
      */
     boolean decodeNull() throws IOException;
 
+    /**
+     * Decode an array of boolean values, {@code null} elements are decoded as the default value. Implementations can
+     * override this to read the values in bulk.
+     * @return The values, never {@code null}
+     * @throws IOException If an unrecoverable error occurs
+     */
+    @NonNull
+    default boolean[] decodeBooleanArray() throws IOException {
+        final Decoder arrayDecoder = decodeArray();
+        boolean[] buffer = new boolean[16];
+        int size = 0;
+        while (arrayDecoder.hasNextArrayValue()) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            if (!arrayDecoder.decodeNull()) {
+                buffer[size] = arrayDecoder.decodeBoolean();
+            }
+            size++;
+        }
+        arrayDecoder.finishStructure();
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Decode an array of short values, {@code null} elements are decoded as the default value. Implementations can
+     * override this to read the values in bulk.
+     * @return The values, never {@code null}
+     * @throws IOException If an unrecoverable error occurs
+     */
+    @NonNull
+    default short[] decodeShortArray() throws IOException {
+        final Decoder arrayDecoder = decodeArray();
+        short[] buffer = new short[16];
+        int size = 0;
+        while (arrayDecoder.hasNextArrayValue()) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            if (!arrayDecoder.decodeNull()) {
+                buffer[size] = arrayDecoder.decodeShort();
+            }
+            size++;
+        }
+        arrayDecoder.finishStructure();
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Decode an array of int values, {@code null} elements are decoded as the default value. Implementations can
+     * override this to read the values in bulk.
+     * @return The values, never {@code null}
+     * @throws IOException If an unrecoverable error occurs
+     */
+    @NonNull
+    default int[] decodeIntArray() throws IOException {
+        final Decoder arrayDecoder = decodeArray();
+        int[] buffer = new int[16];
+        int size = 0;
+        while (arrayDecoder.hasNextArrayValue()) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            if (!arrayDecoder.decodeNull()) {
+                buffer[size] = arrayDecoder.decodeInt();
+            }
+            size++;
+        }
+        arrayDecoder.finishStructure();
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Decode an array of long values, {@code null} elements are decoded as the default value. Implementations can
+     * override this to read the values in bulk.
+     * @return The values, never {@code null}
+     * @throws IOException If an unrecoverable error occurs
+     */
+    @NonNull
+    default long[] decodeLongArray() throws IOException {
+        final Decoder arrayDecoder = decodeArray();
+        long[] buffer = new long[16];
+        int size = 0;
+        while (arrayDecoder.hasNextArrayValue()) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            if (!arrayDecoder.decodeNull()) {
+                buffer[size] = arrayDecoder.decodeLong();
+            }
+            size++;
+        }
+        arrayDecoder.finishStructure();
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Decode an array of float values, {@code null} elements are decoded as the default value. Implementations can
+     * override this to read the values in bulk.
+     * @return The values, never {@code null}
+     * @throws IOException If an unrecoverable error occurs
+     */
+    @NonNull
+    default float[] decodeFloatArray() throws IOException {
+        final Decoder arrayDecoder = decodeArray();
+        float[] buffer = new float[16];
+        int size = 0;
+        while (arrayDecoder.hasNextArrayValue()) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            if (!arrayDecoder.decodeNull()) {
+                buffer[size] = arrayDecoder.decodeFloat();
+            }
+            size++;
+        }
+        arrayDecoder.finishStructure();
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Decode an array of double values, {@code null} elements are decoded as the default value. Implementations can
+     * override this to read the values in bulk.
+     * @return The values, never {@code null}
+     * @throws IOException If an unrecoverable error occurs
+     */
+    @NonNull
+    default double[] decodeDoubleArray() throws IOException {
+        final Decoder arrayDecoder = decodeArray();
+        double[] buffer = new double[16];
+        int size = 0;
+        while (arrayDecoder.hasNextArrayValue()) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            if (!arrayDecoder.decodeNull()) {
+                buffer[size] = arrayDecoder.decodeDouble();
+            }
+            size++;
+        }
+        arrayDecoder.finishStructure();
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
     /**
      * Decodes the current state into an arbitrary object.
      *
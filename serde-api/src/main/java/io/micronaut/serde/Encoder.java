@@ -17,6 +17,7 @@ package io.micronaut.serde;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.type.Argument;
+import io.micronaut.serde.util.EncodedKey;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -66,6 +67,15 @@ public interface Encoder extends AutoCloseable {
      */
     void encodeKey(@NonNull String key) throws IOException;
 
+    /**
+     * Encode a key that is known ahead of time. Implementations can write the cached encoded form of the key.
+     * @param key The key, never {@code null}
+     * @throws IOException If an error occurs
+     */
+    default void encodeKey(@NonNull EncodedKey key) throws IOException {
+        encodeKey(key.getName());
+    }
+
     /**
      * Encode a string.
      * @param value The string, never {@code null}
@@ -149,6 +159,102 @@ public interface Encoder extends AutoCloseable {
      */
     void encodeNull() throws IOException;
 
+    /**
+     * Encode a range of a boolean array as an array. Implementations can override this to write the values in bulk.
+     * @param type The array type
+     * @param values The values
+     * @param offset The index of the first value to encode
+     * @param length The number of values to encode
+     * @throws IOException If an error occurs
+     */
+    default void encodeBooleanArray(@NonNull Argument<?> type, @NonNull boolean[] values, int offset, int length) throws IOException {
+        final Encoder arrayEncoder = encodeArray(type);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            arrayEncoder.encodeBoolean(values[i]);
+        }
+        arrayEncoder.finishStructure();
+    }
+
+    /**
+     * Encode a range of a short array as an array. Implementations can override this to write the values in bulk.
+     * @param type The array type
+     * @param values The values
+     * @param offset The index of the first value to encode
+     * @param length The number of values to encode
+     * @throws IOException If an error occurs
+     */
+    default void encodeShortArray(@NonNull Argument<?> type, @NonNull short[] values, int offset, int length) throws IOException {
+        final Encoder arrayEncoder = encodeArray(type);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            arrayEncoder.encodeShort(values[i]);
+        }
+        arrayEncoder.finishStructure();
+    }
+
+    /**
+     * Encode a range of a int array as an array. Implementations can override this to write the values in bulk.
+     * @param type The array type
+     * @param values The values
+     * @param offset The index of the first value to encode
+     * @param length The number of values to encode
+     * @throws IOException If an error occurs
+     */
+    default void encodeIntArray(@NonNull Argument<?> type, @NonNull int[] values, int offset, int length) throws IOException {
+        final Encoder arrayEncoder = encodeArray(type);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            arrayEncoder.encodeInt(values[i]);
+        }
+        arrayEncoder.finishStructure();
+    }
+
+    /**
+     * Encode a range of a long array as an array. Implementations can override this to write the values in bulk.
+     * @param type The array type
+     * @param values The values
+     * @param offset The index of the first value to encode
+     * @param length The number of values to encode
+     * @throws IOException If an error occurs
+     */
+    default void encodeLongArray(@NonNull Argument<?> type, @NonNull long[] values, int offset, int length) throws IOException {
+        final Encoder arrayEncoder = encodeArray(type);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            arrayEncoder.encodeLong(values[i]);
+        }
+        arrayEncoder.finishStructure();
+    }
+
+    /**
+     * Encode a range of a float array as an array. Implementations can override this to write the values in bulk.
+     * @param type The array type
+     * @param values The values
+     * @param offset The index of the first value to encode
+     * @param length The number of values to encode
+     * @throws IOException If an error occurs
+     */
+    default void encodeFloatArray(@NonNull Argument<?> type, @NonNull float[] values, int offset, int length) throws IOException {
+        final Encoder arrayEncoder = encodeArray(type);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            arrayEncoder.encodeFloat(values[i]);
+        }
+        arrayEncoder.finishStructure();
+    }
+
+    /**
+     * Encode a range of a double array as an array. Implementations can override this to write the values in bulk.
+     * @param type The array type
+     * @param values The values
+     * @param offset The index of the first value to encode
+     * @param length The number of values to encode
+     * @throws IOException If an error occurs
+     */
+    default void encodeDoubleArray(@NonNull Argument<?> type, @NonNull double[] values, int offset, int length) throws IOException {
+        final Encoder arrayEncoder = encodeArray(type);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            arrayEncoder.encodeDouble(values[i]);
+        }
+        arrayEncoder.finishStructure();
+    }
+
     /**
      * Return an analysis of the current path.
      *
@@ -21,11 +21,20 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.json.JsonFeatures;
 import io.micronaut.json.JsonMapper;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Sub-interface of {@link JsonMapper} with customizations.
@@ -72,6 +81,52 @@ public interface ObjectMapper extends JsonMapper {
         return readValue(string, Argument.of(type));
     }
 
+    /**
+     * Read the values of the given input stream one at a time. If the input is an array its elements are read,
+     * otherwise the root values, e.g. newline delimited JSON where the format allows several root values. The stream
+     * is closed once all values were read, failures while iterating are thrown as {@link java.io.UncheckedIOException}.
+     *
+     * <p>The default implementation reads the whole array, implementations decode one value at a time.</p>
+     *
+     * @param inputStream The input stream
+     * @param type The type of the values
+     * @param <T> The generic type
+     * @return An iterator over the values, which may implement {@link Closeable} to release the input early
+     * @throws IOException If an unrecoverable error occurs
+     */
+    default @NonNull <T> Iterator<T> readValuesAsIterator(@NonNull InputStream inputStream, @NonNull Argument<T> type) throws IOException {
+        Objects.requireNonNull(type, "Type cannot be null");
+        try (InputStream is = inputStream) {
+            final List<T> values = readValue(is, Argument.listOf(type));
+            return values == null ? Collections.emptyIterator() : values.iterator();
+        }
+    }
+
+    /**
+     * Read the values of the given input stream one at a time, like {@link #readValuesAsIterator(InputStream, Argument)}.
+     * Closing the stream closes the input.
+     *
+     * @param inputStream The input stream
+     * @param type The type of the values
+     * @param <T> The generic type
+     * @return A sequential stream of the values
+     * @throws IOException If an unrecoverable error occurs
+     */
+    default @NonNull <T> Stream<T> readValuesAsStream(@NonNull InputStream inputStream, @NonNull Argument<T> type) throws IOException {
+        final Iterator<T> iterator = readValuesAsIterator(inputStream, type);
+        final Stream<T> stream = StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+        if (iterator instanceof Closeable) {
+            return stream.onClose(() -> {
+                try {
+                    ((Closeable) iterator).close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        return stream;
+    }
+
     /**
      * Write the given value as a string.
      * @param object The object
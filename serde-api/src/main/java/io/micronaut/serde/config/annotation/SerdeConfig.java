@@ -147,6 +147,11 @@ public @interface SerdeConfig {
      */
     String RUNTIME_NAMING = "runtimeNaming";
 
+    /**
+     * The property keys in the order they are expected in the input, computed at compilation time.
+     */
+    String EXPECTED_KEYS = "expectedKeys";
+
     /**
      * Internal metadata type for wrapped settings.
      */
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2021 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.util;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * An object key that caches its encoded form for every {@link Format}, so encoders can write keys that are known
+ * ahead of time, like property names, without escaping and encoding them again.
+ *
+ * @since 1.0.0
+ */
+@Experimental
+public final class EncodedKey {
+    private static final Object[] EMPTY = new Object[0];
+
+    private final String name;
+    private volatile Object[] encodings = EMPTY;
+
+    private EncodedKey(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Create a key.
+     *
+     * @param name The name of the key
+     * @return The key
+     */
+    @NonNull
+    public static EncodedKey of(@NonNull String name) {
+        return new EncodedKey(Objects.requireNonNull(name, "name"));
+    }
+
+    /**
+     * @return The name of the key
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The encoded form of this key, computed on first access.
+     *
+     * @param format The format
+     * @param <T>    The type of the encoded form
+     * @return The encoded form
+     */
+    @NonNull
+    public <T> T getEncoded(@NonNull Format<T> format) {
+        final Object[] encodings = this.encodings;
+        if (format.id < encodings.length) {
+            final Object encoded = encodings[format.id];
+            if (encoded != null) {
+                //noinspection unchecked
+                return (T) encoded;
+            }
+        }
+        final T encoded = format.encoder.apply(name);
+        synchronized (this) {
+            final Object[] current = this.encodings;
+            final Object[] updated = format.id < current.length ? current.clone() : Arrays.copyOf(current, format.id + 1);
+            updated[format.id] = encoded;
+            this.encodings = updated;
+        }
+        return encoded;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * The encoded form of keys for an encoder. Formats are meant to be constants, every instance reserves a slot
+     * in the keys it is used with.
+     *
+     * @param <T> The type of the encoded form
+     */
+    public static final class Format<T> {
+        private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+        private final int id;
+        private final Function<String, T> encoder;
+
+        private Format(Function<String, T> encoder) {
+            this.id = NEXT_ID.getAndIncrement();
+            this.encoder = encoder;
+        }
+
+        /**
+         * Create a format.
+         *
+         * @param encoder Computes the encoded form of a key name
+         * @param <T>     The type of the encoded form
+         * @return The format
+         */
+        @NonNull
+        public static <T> Format<T> of(@NonNull Function<String, T> encoder) {
+            return new Format<>(Objects.requireNonNull(encoder, "encoder"));
+        }
+    }
+}
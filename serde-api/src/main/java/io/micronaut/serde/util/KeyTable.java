@@ -0,0 +1,212 @@
+/*
+ * Copyright 2017-2021 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.util;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Immutable table resolving object keys to an index. A key can be looked up as a {@link String}, as a range of
+ * chars, or as a range of UTF-8 encoded bytes, so decoders with access to the raw input can resolve keys without
+ * materializing a {@link String}.
+ *
+ * @since 1.0.0
+ */
+@Experimental
+public final class KeyTable {
+    /**
+     * Returned by the lookup methods for unknown keys.
+     */
+    public static final int NOT_FOUND = -1;
+
+    private final String[] keys;
+    private final int[] hashes;
+    private final byte[][] utf8Keys;
+    private final int[] utf8Hashes;
+    private final int[] indexes;
+    // slot -> entry + 1, 0 for empty slots
+    private final int[] slots;
+    private final int[] utf8Slots;
+    private final int mask;
+
+    /**
+     * @param keys    The keys, a key that occurs more than once keeps its first index
+     * @param indexes The index of each key, must be positive. Several keys may share an index, e.g. aliases
+     */
+    public KeyTable(@NonNull String[] keys, @NonNull int[] indexes) {
+        Objects.requireNonNull(keys, "keys");
+        Objects.requireNonNull(indexes, "indexes");
+        if (keys.length != indexes.length) {
+            throw new IllegalArgumentException("Every key needs an index");
+        }
+        final int capacity = Integer.highestOneBit(Math.max(keys.length, 1) * 2 - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new int[capacity];
+        this.utf8Slots = new int[capacity];
+        this.keys = new String[keys.length];
+        this.hashes = new int[keys.length];
+        this.utf8Keys = new byte[keys.length][];
+        this.utf8Hashes = new int[keys.length];
+        this.indexes = new int[keys.length];
+        int size = 0;
+        for (int i = 0; i < keys.length; i++) {
+            final String key = Objects.requireNonNull(keys[i], "key");
+            if (indexes[i] < 0) {
+                throw new IllegalArgumentException("Negative index for key: " + key);
+            }
+            if (indexOf(key) != NOT_FOUND) {
+                continue;
+            }
+            final int entry = size++;
+            // canonicalizing decoders (like Jackson) produce interned keys, allowing the identity check
+            this.keys[entry] = key.intern();
+            this.hashes[entry] = key.hashCode();
+            this.utf8Keys[entry] = key.getBytes(StandardCharsets.UTF_8);
+            this.utf8Hashes[entry] = utf8Hash(utf8Keys[entry], 0, utf8Keys[entry].length);
+            this.indexes[entry] = indexes[i];
+            insert(slots, hashes[entry], entry);
+            insert(utf8Slots, utf8Hashes[entry], entry);
+        }
+    }
+
+    /**
+     * Create a table that maps every key to its position.
+     *
+     * @param keys The keys
+     * @return The table
+     */
+    @NonNull
+    public static KeyTable of(@NonNull String... keys) {
+        final int[] indexes = new int[keys.length];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+        return new KeyTable(keys, indexes);
+    }
+
+    /**
+     * Resolve a key.
+     *
+     * @param key The key
+     * @return The index of the key or {@link #NOT_FOUND}
+     */
+    public int indexOf(@NonNull String key) {
+        final int hash = key.hashCode();
+        int slot = spread(hash) & mask;
+        int entry;
+        while ((entry = slots[slot] - 1) != -1) {
+            final String candidate = keys[entry];
+            if (candidate == key || (hashes[entry] == hash && candidate.equals(key))) {
+                return indexes[entry];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Resolve a key given as a range of chars.
+     *
+     * @param chars  The chars
+     * @param offset The offset of the key
+     * @param length The length of the key
+     * @return The index of the key or {@link #NOT_FOUND}
+     */
+    public int indexOf(@NonNull char[] chars, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int slot = spread(hash) & mask;
+        int entry;
+        while ((entry = slots[slot] - 1) != -1) {
+            if (hashes[entry] == hash && regionMatches(keys[entry], chars, offset, length)) {
+                return indexes[entry];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Resolve a key given as a range of UTF-8 encoded bytes.
+     *
+     * @param bytes  The bytes
+     * @param offset The offset of the key
+     * @param length The length of the key
+     * @return The index of the key or {@link #NOT_FOUND}
+     */
+    public int indexOfUtf8(@NonNull byte[] bytes, int offset, int length) {
+        final int hash = utf8Hash(bytes, offset, length);
+        int slot = spread(hash) & mask;
+        int entry;
+        while ((entry = utf8Slots[slot] - 1) != -1) {
+            if (utf8Hashes[entry] == hash && regionMatches(utf8Keys[entry], bytes, offset, length)) {
+                return indexes[entry];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    private void insert(int[] slots, int hash, int entry) {
+        int slot = spread(hash) & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = entry + 1;
+    }
+
+    private static boolean regionMatches(String key, char[] chars, int offset, int length) {
+        if (key.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionMatches(byte[] key, byte[] bytes, int offset, int length) {
+        if (key.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key[i] != bytes[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int utf8Hash(byte[] bytes, int offset, int length) {
+        // identical to String.hashCode for ASCII keys
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + (bytes[i] & 0xFF);
+        }
+        return hash;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
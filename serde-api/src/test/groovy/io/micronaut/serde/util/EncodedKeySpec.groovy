@@ -0,0 +1,23 @@
+package io.micronaut.serde.util
+
+import spock.lang.Specification
+
+class EncodedKeySpec extends Specification {
+
+    def 'encoded forms are computed once per format'() {
+        given:
+        def calls = 0
+        def upper = EncodedKey.Format.of({ String name -> calls++; name.toUpperCase() })
+        def length = EncodedKey.Format.of({ String name -> name.length() })
+        def key = EncodedKey.of('name')
+
+        expect:
+        key.getEncoded(upper) == 'NAME'
+        key.getEncoded(upper).is(key.getEncoded(upper))
+        key.getEncoded(length) == 4
+        key.getEncoded(upper) == 'NAME'
+        calls == 1
+        key.name == 'name'
+        key.toString() == 'name'
+    }
+}
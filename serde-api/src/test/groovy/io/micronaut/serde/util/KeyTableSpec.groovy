@@ -0,0 +1,34 @@
+package io.micronaut.serde.util
+
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class KeyTableSpec extends Specification {
+
+    def 'keys resolve from strings, chars and utf-8 bytes'() {
+        given:
+        def table = new KeyTable(['name', 'isActive', 'active', 'gr\u00fc\u00dfe', 'name'] as String[], [0, 1, 1, 2, 3] as int[])
+
+        expect:
+        table.indexOf(key) == index
+        table.indexOf(('xx' + key + 'x').toCharArray(), 2, key.length()) == index
+        def bytes = ('"' + key + '"').getBytes(StandardCharsets.UTF_8)
+        table.indexOfUtf8(bytes, 1, bytes.length - 2) == index
+
+        where:
+        key               | index
+        'name'            | 0
+        'isActive'        | 1
+        'active'          | 1
+        'gr\u00fc\u00dfe' | 2
+        'nam'             | KeyTable.NOT_FOUND
+        'names'           | KeyTable.NOT_FOUND
+        ''                | KeyTable.NOT_FOUND
+    }
+
+    def 'empty table'() {
+        expect:
+        KeyTable.of().indexOf('foo') == KeyTable.NOT_FOUND
+    }
+}
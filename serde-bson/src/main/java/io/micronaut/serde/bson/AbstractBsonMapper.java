@@ -21,9 +21,11 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.json.JsonStreamConfig;
 import io.micronaut.json.tree.JsonNode;
 import io.micronaut.serde.*;
+import io.micronaut.serde.exceptions.SerdeException;
 import io.micronaut.serde.support.util.BufferingJsonNodeProcessor;
 import io.micronaut.serde.support.util.JsonNodeDecoder;
 import io.micronaut.serde.support.util.JsonNodeEncoder;
+import io.micronaut.serde.support.util.SpecificSerdeCache;
 import org.bson.AbstractBsonWriter;
 import org.bson.BsonReader;
 import org.reactivestreams.Processor;
@@ -33,6 +35,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
@@ -42,10 +50,17 @@ import java.util.function.Consumer;
  */
 @Internal
 public abstract class AbstractBsonMapper implements ObjectMapper {
+    private static final int INITIAL_READ_BUFFER_SIZE = 8192;
+    // larger buffers are left to the GC rather than being kept by every thread
+    private static final int MAX_POOLED_READ_BUFFER_SIZE = 1024 * 1024;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final ThreadLocal<byte[]> READ_BUFFER = new ThreadLocal<>();
+
     protected final SerdeRegistry registry;
     protected final Class<?> view;
     protected Serializer.EncoderContext encoderContext;
     protected Deserializer.DecoderContext decoderContext;
+    protected final SpecificSerdeCache specificSerdeCache;
 
     public AbstractBsonMapper(SerdeRegistry registry) {
         this(registry, null);
@@ -56,6 +71,7 @@ public abstract class AbstractBsonMapper implements ObjectMapper {
         this.view = view;
         this.encoderContext = registry.newEncoderContext(view);
         this.decoderContext = registry.newDecoderContext(view);
+        this.specificSerdeCache = new SpecificSerdeCache(registry, encoderContext, decoderContext);
     }
 
     protected abstract BsonReader createBsonReader(ByteBuffer byteBuffer);
@@ -72,13 +88,29 @@ public abstract class AbstractBsonMapper implements ObjectMapper {
     @Override
     public <T> void writeValue(OutputStream outputStream, Argument<T> type, T object) throws IOException {
         try (AbstractBsonWriter bsonWriter = createBsonWriter(outputStream)) {
-            if (object == null) {
-                bsonWriter.writeNull();
+            writeValue(bsonWriter, type, object);
+            bsonWriter.flush();
+        }
+    }
+
+    /**
+     * Write a value to the given writer.
+     *
+     * @param bsonWriter The writer
+     * @param type       The type of the value, {@code null} to use the runtime type
+     * @param object     The value
+     * @throws IOException If an unrecoverable error occurs
+     */
+    protected final void writeValue(@NonNull AbstractBsonWriter bsonWriter, Argument<?> type, Object object) throws IOException {
+        if (object == null) {
+            bsonWriter.writeNull();
+        } else {
+            BsonWriterEncoder encoder = new BsonWriterEncoder(bsonWriter);
+            if (type == null) {
+                serialize(encoder, object);
             } else {
-                BsonWriterEncoder encoder = new BsonWriterEncoder(bsonWriter);
                 serialize(encoder, object, type);
             }
-            bsonWriter.flush();
         }
     }
 
@@ -91,13 +123,18 @@ public abstract class AbstractBsonMapper implements ObjectMapper {
 
     @Override
     public <T> T readValueFromTree(JsonNode tree, Argument<T> type) throws IOException {
-        final Deserializer<? extends T> deserializer = this.registry.findDeserializer(type).createSpecific(decoderContext, type);
+        final Deserializer<? extends T> deserializer = specificSerdeCache.findDeserializer(type);
         return deserializer.deserialize(JsonNodeDecoder.create(tree), decoderContext, type);
     }
 
     @Override
     public <T> T readValue(InputStream inputStream, Argument<T> type) throws IOException {
-        return readValue(toByteBuffer(inputStream), type);
+        final ByteBuffer byteBuffer = toByteBuffer(inputStream);
+        try {
+            return readValue(byteBuffer, type);
+        } finally {
+            releaseReadBuffer(byteBuffer);
+        }
     }
 
     @Override
@@ -105,15 +142,49 @@ public abstract class AbstractBsonMapper implements ObjectMapper {
         return readValue(ByteBuffer.wrap(byteArray), type);
     }
 
-    private <T> T readValue(ByteBuffer byteBuffer, Argument<T> type) throws IOException {
-        try (BsonReader bsonReader = createBsonReader(byteBuffer)) {
+    /**
+     * Read a value from the remaining bytes of the given buffer, without copying them. The position of the buffer
+     * is not modified.
+     *
+     * @param byteBuffer The buffer, heap or direct
+     * @param type       The type to read
+     * @param <T>        The generic type
+     * @return The value
+     * @throws IOException If an unrecoverable error occurs
+     */
+    public <T> T readValue(@NonNull ByteBuffer byteBuffer, @NonNull Argument<T> type) throws IOException {
+        Objects.requireNonNull(byteBuffer, "Byte buffer cannot be null");
+        try (BsonReader bsonReader = createBsonReader(byteBuffer.slice())) {
             return readValue(bsonReader, type);
         }
     }
 
+    /**
+     * Read a value from a file. The file is memory mapped rather than read onto the heap, so it is limited to 2GB, more
+     * than the maximum size of a BSON document. Larger dumps of several documents can be read with
+     * {@link BsonBinaryMapper#readDocuments(InputStream, Argument)}.
+     *
+     * @param path The file
+     * @param type The type to read
+     * @param <T>  The generic type
+     * @return The value
+     * @throws IOException If an unrecoverable error occurs or the file is larger than 2GB
+     */
+    public <T> T readValue(@NonNull Path path, @NonNull Argument<T> type) throws IOException {
+        Objects.requireNonNull(path, "Path cannot be null");
+        final MappedByteBuffer byteBuffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new SerdeException("File " + path + " is too large to be mapped: " + size + " bytes, the maximum is " + Integer.MAX_VALUE);
+            }
+            byteBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        return readValue(byteBuffer, type);
+    }
+
     private <T> T readValue(BsonReader bsonReader, Argument<T> type) throws IOException {
-        return registry.findDeserializer(type)
-                .createSpecific(decoderContext, type)
+        return specificSerdeCache.findDeserializer(type)
                 .deserialize(new BsonReaderDecoder(bsonReader), decoderContext, type);
     }
 
@@ -124,10 +195,13 @@ public abstract class AbstractBsonMapper implements ObjectMapper {
             @NonNull
             @Override
             protected JsonNode parseOne(@NonNull InputStream is) throws IOException {
-                try (BsonReader bsonReader = createBsonReader(toByteBuffer(is))) {
+                final ByteBuffer byteBuffer = toByteBuffer(is);
+                try (BsonReader bsonReader = createBsonReader(byteBuffer)) {
                     final BsonReaderDecoder decoder = new BsonReaderDecoder(bsonReader);
                     final Object o = decoder.decodeArbitrary();
                     return writeValueToTree(o);
+                } finally {
+                    releaseReadBuffer(byteBuffer);
                 }
             }
 
@@ -152,12 +226,7 @@ public abstract class AbstractBsonMapper implements ObjectMapper {
     @Override
     public void writeValue(OutputStream outputStream, Object object) throws IOException {
         try (AbstractBsonWriter bsonWriter = createBsonWriter(outputStream)) {
-            if (object == null) {
-                bsonWriter.writeNull();
-            } else {
-                BsonWriterEncoder encoder = new BsonWriterEncoder(bsonWriter);
-                serialize(encoder, object);
-            }
+            writeValue(bsonWriter, null, object);
             bsonWriter.flush();
         }
     }
@@ -167,7 +236,7 @@ public abstract class AbstractBsonMapper implements ObjectMapper {
     }
 
     private void serialize(Encoder encoder, Object object, Argument type) throws IOException {
-        final Serializer<Object> serializer = registry.findSerializer(type).createSpecific(encoderContext, type);
+        final Serializer<Object> serializer = specificSerdeCache.findSerializer(type);
         serializer.serialize(encoder, encoderContext, type, object);
     }
 
@@ -183,14 +252,36 @@ public abstract class AbstractBsonMapper implements ObjectMapper {
         return JsonStreamConfig.DEFAULT;
     }
 
-    private ByteBuffer toByteBuffer(InputStream inputStream) throws IOException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        byte[] byteBuffer = new byte[512];
-        int nbByteRead /* = 0*/;
-        while ((nbByteRead = inputStream.read(byteBuffer)) != -1) {
-            // appends buffer
-            baos.write(byteBuffer, 0, nbByteRead);
+    /**
+     * Read the stream into the buffer of the current thread, growing it as needed. The buffer has to be released
+     * with {@link #releaseReadBuffer(ByteBuffer)} once the value is read.
+     */
+    private static ByteBuffer toByteBuffer(InputStream inputStream) throws IOException {
+        byte[] buffer = READ_BUFFER.get();
+        if (buffer == null) {
+            buffer = new byte[INITIAL_READ_BUFFER_SIZE];
+        } else {
+            // taken out of the pool while in use, in case a deserializer reads another value
+            READ_BUFFER.set(null);
+        }
+        int count = 0;
+        int read;
+        while ((read = inputStream.read(buffer, count, buffer.length - count)) != -1) {
+            count += read;
+            if (count == buffer.length) {
+                if (count == MAX_ARRAY_SIZE) {
+                    throw new IOException("Input exceeds the maximum buffer size");
+                }
+                buffer = Arrays.copyOf(buffer, (int) Math.min((long) count * 2, MAX_ARRAY_SIZE));
+            }
+        }
+        return ByteBuffer.wrap(buffer, 0, count);
+    }
+
+    private static void releaseReadBuffer(ByteBuffer byteBuffer) {
+        final byte[] buffer = byteBuffer.array();
+        if (buffer.length <= MAX_POOLED_READ_BUFFER_SIZE) {
+            READ_BUFFER.set(buffer);
         }
-        return ByteBuffer.wrap(baos.toByteArray());
     }
 }
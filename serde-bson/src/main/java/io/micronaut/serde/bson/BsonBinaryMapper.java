@@ -15,7 +15,9 @@
  */
 package io.micronaut.serde.bson;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Order;
+import io.micronaut.core.type.Argument;
 import io.micronaut.json.JsonMapper;
 import io.micronaut.serde.SerdeRegistry;
 import jakarta.inject.Inject;
@@ -25,10 +27,14 @@ import org.bson.BsonBinaryReader;
 import org.bson.BsonBinaryWriter;
 import org.bson.BsonReader;
 import org.bson.io.BasicOutputBuffer;
+import org.reactivestreams.Publisher;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Objects;
 
 /**
@@ -39,19 +45,167 @@ import java.util.Objects;
 @Singleton
 @Order(200) // lower precedence than BsonJsonMapper
 public final class BsonBinaryMapper extends AbstractBsonMapper {
+    /**
+     * Default maximum size of the documents read by {@link #readDocuments}, well above the 16MB limit of MongoDB.
+     */
+    public static final int DEFAULT_MAX_DOCUMENT_SIZE = 64 * 1024 * 1024;
+
+    private static final int INITIAL_WRITE_BUFFER_SIZE = 1024;
+    // larger buffers are left to the GC rather than being kept by every thread
+    private static final int MAX_POOLED_WRITE_BUFFER_SIZE = 1024 * 1024;
+    private static final ThreadLocal<BasicOutputBuffer> WRITE_BUFFER = new ThreadLocal<>();
+
+    private final int maxDocumentSize;
 
     @Inject
     public BsonBinaryMapper(SerdeRegistry registry) {
-        super(registry);
+        this(registry, null);
     }
 
     public BsonBinaryMapper(SerdeRegistry registry, Class<?> view) {
+        this(registry, view, DEFAULT_MAX_DOCUMENT_SIZE);
+    }
+
+    /**
+     * @param registry        The registry
+     * @param view            The view
+     * @param maxDocumentSize The maximum size of the documents read by {@link #readDocuments}, larger documents are
+     *                        rejected before being buffered
+     */
+    public BsonBinaryMapper(SerdeRegistry registry, Class<?> view, int maxDocumentSize) {
         super(registry, view);
+        if (maxDocumentSize < 5) {
+            throw new IllegalArgumentException("Maximum document size too small: " + maxDocumentSize);
+        }
+        this.maxDocumentSize = maxDocumentSize;
     }
 
     @Override
     public JsonMapper cloneWithViewClass(Class<?> viewClass) {
-        return new BsonBinaryMapper(registry, viewClass);
+        return new BsonBinaryMapper(registry, viewClass, maxDocumentSize);
+    }
+
+    /**
+     * @return The maximum size of the documents read by {@link #readDocuments}
+     */
+    public int getMaxDocumentSize() {
+        return maxDocumentSize;
+    }
+
+    @Override
+    public <T> byte[] writeValueAsBytes(Argument<T> type, T object) throws IOException {
+        return writePooled(type, object);
+    }
+
+    @Override
+    public byte[] writeValueAsBytes(Object object) throws IOException {
+        return writePooled(null, object);
+    }
+
+    /**
+     * Write a value into the given buffer, starting at its position. On success the position is moved past the
+     * written document.
+     *
+     * @param byteBuffer The buffer, heap or direct
+     * @param type       The type of the value
+     * @param object     The value
+     * @param <T>        The generic type
+     * @throws IOException                      If an unrecoverable error occurs
+     * @throws java.nio.BufferOverflowException If the document does not fit in the remaining bytes, the position
+     *                                          is left unchanged
+     */
+    public <T> void writeValue(@NonNull ByteBuffer byteBuffer, @NonNull Argument<T> type, T object) throws IOException {
+        Objects.requireNonNull(byteBuffer, "Byte buffer cannot be null");
+        final ByteBufferBsonOutput output = new ByteBufferBsonOutput(byteBuffer);
+        try (BsonBinaryWriter bsonWriter = new BsonBinaryWriter(output)) {
+            writeValue(bsonWriter, type, object);
+        }
+        byteBuffer.position(byteBuffer.position() + output.getSize());
+    }
+
+    private byte[] writePooled(Argument<?> type, Object object) throws IOException {
+        BasicOutputBuffer buffer = WRITE_BUFFER.get();
+        if (buffer == null) {
+            buffer = new BasicOutputBuffer(INITIAL_WRITE_BUFFER_SIZE);
+        } else {
+            // taken out of the pool while in use, in case a serializer writes another value
+            WRITE_BUFFER.set(null);
+        }
+        try {
+            try (BsonBinaryWriter bsonWriter = new BsonBinaryWriter(buffer)) {
+                writeValue(bsonWriter, type, object);
+            }
+            return Arrays.copyOf(buffer.getInternalBuffer(), buffer.getSize());
+        } finally {
+            if (buffer.getInternalBuffer().length <= MAX_POOLED_WRITE_BUFFER_SIZE) {
+                buffer.truncateToPosition(0);
+                WRITE_BUFFER.set(buffer);
+            }
+        }
+    }
+
+    /**
+     * Read a sequence of concatenated documents, like a mongodump file, one document at a time.
+     *
+     * @param byteBuffer The documents, read from the position to the limit without copying
+     * @param type       The type of the documents
+     * @param <T>        The generic type
+     * @return An iterator decoding the next document on every call, failures are thrown as {@link java.io.UncheckedIOException}
+     * @throws IOException If no deserializer exists for the type
+     */
+    @NonNull
+    public <T> Iterator<T> readDocuments(@NonNull ByteBuffer byteBuffer, @NonNull Argument<T> type) throws IOException {
+        Objects.requireNonNull(byteBuffer, "Byte buffer cannot be null");
+        return documentSequence(type).iterator(byteBuffer);
+    }
+
+    /**
+     * Read a sequence of concatenated documents, like a mongodump file, one document at a time.
+     *
+     * @param inputStream The documents, closed once all documents were read or reading failed
+     * @param type        The type of the documents
+     * @param <T>         The generic type
+     * @return An iterator reading and decoding the next document on every call, failures are thrown as {@link java.io.UncheckedIOException}.
+     * The iterator is {@link java.io.Closeable} to release the stream early
+     * @throws IOException If no deserializer exists for the type
+     */
+    @NonNull
+    public <T> Iterator<T> readDocuments(@NonNull InputStream inputStream, @NonNull Argument<T> type) throws IOException {
+        Objects.requireNonNull(inputStream, "Input stream cannot be null");
+        return documentSequence(type).iterator(inputStream);
+    }
+
+    /**
+     * Read a sequence of concatenated documents, like a mongodump file, from chunks with arbitrary boundaries.
+     *
+     * @param chunks The chunks of the documents
+     * @param type   The type of the documents
+     * @param <T>    The generic type
+     * @return A publisher emitting every document once it is complete
+     * @throws IOException If no deserializer exists for the type
+     */
+    @NonNull
+    public <T> Publisher<T> readDocuments(@NonNull Publisher<byte[]> chunks, @NonNull Argument<T> type) throws IOException {
+        Objects.requireNonNull(chunks, "Publisher cannot be null");
+        return documentSequence(type).publisher(chunks);
+    }
+
+    /**
+     * A binary BSON input can't have an array at the root, the values are read as a sequence of documents like
+     * {@link #readDocuments(InputStream, Argument)} does.
+     */
+    @Override
+    public <T> Iterator<T> readValuesAsIterator(InputStream inputStream, Argument<T> type) throws IOException {
+        try {
+            return readDocuments(inputStream, type);
+        } catch (IOException | RuntimeException e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    private <T> BsonDocumentSequence<T> documentSequence(Argument<T> type) throws IOException {
+        return new BsonDocumentSequence<>(specificSerdeCache.findDeserializer(type), decoderContext, type, maxDocumentSize);
     }
 
     @Override
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.bson;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.util.SpreadProcessor;
+import org.bson.BsonBinaryReader;
+import org.reactivestreams.Publisher;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Decodes a sequence of concatenated BSON documents, as written by mongodump, one document at a time. Documents are
+ * framed by their length prefix and deserialized straight into the target type.
+ *
+ * @param <T> The type of the documents
+ */
+@Internal
+final class BsonDocumentSequence<T> {
+    private static final int LENGTH_PREFIX_SIZE = 4;
+    // the smallest document is the length prefix and the terminating null byte
+    private static final int MIN_DOCUMENT_SIZE = 5;
+
+    private final Deserializer<? extends T> deserializer;
+    private final Deserializer.DecoderContext decoderContext;
+    private final Argument<T> type;
+    private final int maxDocumentSize;
+
+    BsonDocumentSequence(Deserializer<? extends T> deserializer,
+                         Deserializer.DecoderContext decoderContext,
+                         Argument<T> type,
+                         int maxDocumentSize) {
+        this.deserializer = deserializer;
+        this.decoderContext = decoderContext;
+        this.type = type;
+        this.maxDocumentSize = maxDocumentSize;
+    }
+
+    /**
+     * @param byteBuffer The documents, read from the position to the limit without copying
+     * @return The lazily decoded documents
+     */
+    Iterator<T> iterator(ByteBuffer byteBuffer) {
+        final ByteBuffer documents = byteBuffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return documents.hasRemaining();
+            }
+
+            @Override
+            public T next() {
+                if (!documents.hasRemaining()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    if (documents.remaining() < LENGTH_PREFIX_SIZE) {
+                        throw truncated();
+                    }
+                    final int length = documentLength(documents.getInt(documents.position()));
+                    if (documents.remaining() < length) {
+                        throw truncated();
+                    }
+                    final ByteBuffer document = documents.slice();
+                    document.limit(length);
+                    documents.position(documents.position() + length);
+                    return decode(document);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * @param inputStream The documents, closed once all documents were read or reading failed
+     * @return The lazily decoded documents, reading the stream one document at a time. The iterator is
+     * {@link Closeable} to release the stream early
+     */
+    Iterator<T> iterator(InputStream inputStream) {
+        return new StreamIterator(inputStream);
+    }
+
+    /**
+     * @param chunks Chunks of the documents, with arbitrary boundaries
+     * @return The documents, decoded as they are completed by the chunks
+     */
+    Publisher<T> publisher(Publisher<byte[]> chunks) {
+        return subscriber -> {
+            final DocumentProcessor processor = new DocumentProcessor();
+            processor.subscribe(subscriber);
+            chunks.subscribe(processor);
+        };
+    }
+
+    private T decode(ByteBuffer document) throws IOException {
+        try (BsonBinaryReader reader = new BsonBinaryReader(document)) {
+            return deserializer.deserialize(new BsonReaderDecoder(reader), decoderContext, type);
+        }
+    }
+
+    private int documentLength(int length) throws SerdeException {
+        if (length < MIN_DOCUMENT_SIZE) {
+            throw new SerdeException("Invalid BSON document length: " + length);
+        }
+        if (length > maxDocumentSize) {
+            throw new SerdeException("BSON document length " + length + " exceeds the maximum of " + maxDocumentSize);
+        }
+        return length;
+    }
+
+    private static SerdeException truncated() {
+        return new SerdeException("Truncated BSON document at the end of the input");
+    }
+
+    private static boolean readFully(InputStream inputStream, byte[] buffer, int offset, int length, boolean allowEnd) throws IOException {
+        int count = 0;
+        while (count < length) {
+            final int read = inputStream.read(buffer, offset + count, length - count);
+            if (read == -1) {
+                if (count == 0 && allowEnd) {
+                    return false;
+                }
+                throw new EOFException("Truncated BSON document at the end of the input");
+            }
+            count += read;
+        }
+        return true;
+    }
+
+    /**
+     * Reads one document at a time into a buffer reused for every document, the decoded values don't reference it.
+     */
+    private final class StreamIterator implements Iterator<T>, Closeable {
+        private final InputStream inputStream;
+        private byte[] buffer = new byte[512];
+        private boolean prefixRead;
+        private boolean closed;
+
+        StreamIterator(InputStream inputStream) {
+            this.inputStream = inputStream;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!prefixRead && !closed) {
+                try {
+                    prefixRead = readFully(inputStream, buffer, 0, LENGTH_PREFIX_SIZE, true);
+                    if (!prefixRead) {
+                        close();
+                    }
+                } catch (IOException e) {
+                    throw failed(e);
+                }
+            }
+            return prefixRead;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            prefixRead = false;
+            try {
+                final int length = documentLength(ByteBuffer.wrap(buffer).order(ByteOrder.LITTLE_ENDIAN).getInt(0));
+                if (length > buffer.length) {
+                    buffer = Arrays.copyOf(buffer, (int) Math.min(Math.max(length, buffer.length * 2L), maxDocumentSize));
+                }
+                readFully(inputStream, buffer, LENGTH_PREFIX_SIZE, length - LENGTH_PREFIX_SIZE, false);
+                return decode(ByteBuffer.wrap(buffer, 0, length));
+            } catch (IOException e) {
+                throw failed(e);
+            } catch (RuntimeException e) {
+                closeAfterFailure(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                prefixRead = false;
+                inputStream.close();
+            }
+        }
+
+        private UncheckedIOException failed(IOException e) {
+            closeAfterFailure(e);
+            return new UncheckedIOException(e);
+        }
+
+        private void closeAfterFailure(Exception failure) {
+            try {
+                close();
+            } catch (IOException e) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * Accumulates chunks until a document is complete.
+     */
+    private final class DocumentProcessor extends SpreadProcessor<byte[], T> {
+        private byte[] pending = new byte[512];
+        private int start;
+        private int end;
+
+        @Override
+        protected void spread(byte[] chunk, Collection<T> out) throws IOException {
+            append(chunk);
+            while (end - start >= LENGTH_PREFIX_SIZE) {
+                final int length = documentLength(ByteBuffer.wrap(pending, start, LENGTH_PREFIX_SIZE).order(ByteOrder.LITTLE_ENDIAN).getInt());
+                if (end - start < length) {
+                    break;
+                }
+                out.add(decode(ByteBuffer.wrap(pending, start, length).slice()));
+                start += length;
+            }
+        }
+
+        @Override
+        protected void complete(Collection<T> out) throws SerdeException {
+            if (start != end) {
+                throw truncated();
+            }
+        }
+
+        private void append(byte[] chunk) {
+            if (end + chunk.length > pending.length) {
+                // drop the decoded documents before growing
+                final int remaining = end - start;
+                if (remaining + chunk.length > pending.length) {
+                    final byte[] grown = new byte[Math.max(remaining + chunk.length, pending.length * 2)];
+                    System.arraycopy(pending, start, grown, 0, remaining);
+                    pending = grown;
+                } else {
+                    System.arraycopy(pending, start, pending, 0, remaining);
+                }
+                start = 0;
+                end = remaining;
+            }
+            System.arraycopy(chunk, 0, pending, end, chunk.length);
+            end += chunk.length;
+        }
+    }
+}
@@ -17,8 +17,11 @@ package io.micronaut.serde.bson;
 
 import io.micronaut.context.annotation.BootstrapContextCompatible;
 import io.micronaut.core.annotation.Order;
+import io.micronaut.core.type.Argument;
 import io.micronaut.json.JsonMapper;
+import io.micronaut.serde.Deserializer;
 import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.support.DecoderValueIterator;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.bson.AbstractBsonWriter;
@@ -28,10 +31,15 @@ import org.bson.json.JsonReader;
 import org.bson.json.JsonWriter;
 import org.bson.json.JsonWriterSettings;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Reader;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 
 /**
  * Textual JSON Bson mapper.
@@ -57,9 +65,28 @@ public final class BsonJsonMapper extends AbstractBsonMapper {
         return new BsonJsonMapper(registry, viewClass);
     }
 
+    @Override
+    public <T> Iterator<T> readValuesAsIterator(InputStream inputStream, Argument<T> type) throws IOException {
+        final Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+        try {
+            final Deserializer<? extends T> deserializer = specificSerdeCache.findDeserializer(type);
+            final BsonReaderDecoder decoder = new BsonReaderDecoder(new JsonReader(reader));
+            return DecoderValueIterator.create(decoder, null, deserializer, decoderContext, type, reader);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
     @Override
     protected BsonReader createBsonReader(ByteBuffer byteBuffer) {
-        return new JsonReader(new String(byteBuffer.array(), StandardCharsets.UTF_8));
+        final String json;
+        if (byteBuffer.hasArray()) {
+            json = new String(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining(), StandardCharsets.UTF_8);
+        } else {
+            json = StandardCharsets.UTF_8.decode(byteBuffer.duplicate()).toString();
+        }
+        return new JsonReader(json);
     }
 
     @Override
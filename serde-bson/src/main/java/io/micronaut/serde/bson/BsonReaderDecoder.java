@@ -16,12 +16,14 @@
 package io.micronaut.serde.bson;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.serde.support.AbstractChildReuseStreamDecoder;
 import io.micronaut.serde.support.AbstractStreamDecoder;
 import io.micronaut.serde.Decoder;
 import io.micronaut.serde.exceptions.SerdeException;
 import org.bson.BsonBinaryReader;
 import org.bson.BsonBinaryWriter;
 import org.bson.BsonReader;
+import org.bson.BsonReaderMark;
 import org.bson.BsonType;
 import org.bson.BsonWriter;
 import org.bson.codecs.DecoderContext;
@@ -35,6 +37,7 @@ import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 
 /**
@@ -43,12 +46,14 @@ import java.util.Deque;
  * @author Denis Stepanov
  */
 @Internal
-public final class BsonReaderDecoder extends AbstractStreamDecoder {
+public final class BsonReaderDecoder extends AbstractChildReuseStreamDecoder {
     private final BsonReader bsonReader;
     private final Deque<Context> contextStack;
 
     private BsonType currentBsonType;
     private TokenType currentToken;
+    // the name can only be read once from the reader, kept for decodeKey after decodeKeyIndex
+    private String currentKey;
 
     public BsonReaderDecoder(BsonReader bsonReader) {
         super(Object.class);
@@ -88,6 +93,7 @@ public final class BsonReaderDecoder extends AbstractStreamDecoder {
 
     @Override
     protected void nextToken() {
+        currentKey = null;
         if (currentToken != null) {
             switch (currentToken) {
                 case START_ARRAY:
@@ -180,7 +186,34 @@ public final class BsonReaderDecoder extends AbstractStreamDecoder {
 
     @Override
     protected String getCurrentKey() {
-        return bsonReader.readName();
+        String key = currentKey;
+        if (key == null) {
+            key = bsonReader.readName();
+            currentKey = key;
+        }
+        return key;
+    }
+
+    @Override
+    protected String lookaheadCurrentObject(String key) {
+        final BsonReaderMark mark = bsonReader.getMark();
+        try {
+            BsonType type = currentBsonType;
+            String name = currentKey != null ? currentKey : bsonReader.readName();
+            while (true) {
+                if (key.equals(name)) {
+                    return type == BsonType.STRING ? bsonReader.readString() : null;
+                }
+                bsonReader.skipValue();
+                type = bsonReader.readBsonType();
+                if (type == BsonType.END_OF_DOCUMENT) {
+                    return null;
+                }
+                name = bsonReader.readName();
+            }
+        } finally {
+            mark.reset();
+        }
     }
 
     @Override
@@ -316,6 +349,99 @@ public final class BsonReaderDecoder extends AbstractStreamDecoder {
         bsonReader.skipValue();
     }
 
+    @Override
+    protected int[] decodeIntElements() throws IOException {
+        int[] buffer = new int[INITIAL_ARRAY_CAPACITY];
+        int size = 0;
+        while (currentToken != TokenType.END_ARRAY) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            switch (currentBsonType) {
+                case INT32:
+                    buffer[size] = bsonReader.readInt32();
+                    break;
+                case NULL:
+                    bsonReader.readNull();
+                    break;
+                default:
+                    // coercions
+                    buffer[size++] = decodeInt();
+                    continue;
+            }
+            // the elements of an array have no name to read
+            currentBsonType = bsonReader.readBsonType();
+            currentToken = toToken(currentBsonType, Context.ARRAY);
+            size++;
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    @Override
+    protected long[] decodeLongElements() throws IOException {
+        long[] buffer = new long[INITIAL_ARRAY_CAPACITY];
+        int size = 0;
+        while (currentToken != TokenType.END_ARRAY) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            switch (currentBsonType) {
+                case INT64:
+                    buffer[size] = bsonReader.readInt64();
+                    break;
+                case INT32:
+                    buffer[size] = bsonReader.readInt32();
+                    break;
+                case NULL:
+                    bsonReader.readNull();
+                    break;
+                default:
+                    // coercions
+                    buffer[size++] = decodeLong();
+                    continue;
+            }
+            // the elements of an array have no name to read
+            currentBsonType = bsonReader.readBsonType();
+            currentToken = toToken(currentBsonType, Context.ARRAY);
+            size++;
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    @Override
+    protected double[] decodeDoubleElements() throws IOException {
+        double[] buffer = new double[INITIAL_ARRAY_CAPACITY];
+        int size = 0;
+        while (currentToken != TokenType.END_ARRAY) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            switch (currentBsonType) {
+                case DOUBLE:
+                    buffer[size] = bsonReader.readDouble();
+                    break;
+                case INT32:
+                    buffer[size] = bsonReader.readInt32();
+                    break;
+                case INT64:
+                    buffer[size] = bsonReader.readInt64();
+                    break;
+                case NULL:
+                    bsonReader.readNull();
+                    break;
+                default:
+                    // coercions
+                    buffer[size++] = decodeDouble();
+                    continue;
+            }
+            // the elements of an array have no name to read
+            currentBsonType = bsonReader.readBsonType();
+            currentToken = toToken(currentBsonType, Context.ARRAY);
+            size++;
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
     @Override
     protected TokenType currentToken() {
         return currentToken;
@@ -25,6 +25,7 @@ import org.bson.types.ObjectId;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
 
 /**
  * Bson implementation of {@link Encoder}.
@@ -34,56 +35,65 @@ import java.math.BigInteger;
 @Internal
 public final class BsonWriterEncoder implements Encoder {
     private final BsonWriter bsonWriter;
-    private final boolean isArray;
-    private final BsonWriterEncoder parent;
 
-    private String currentKey = null;
-    private int currentIndex = 0;
+    // state of every nesting level, level 0 is the root. A single encoder serves all levels
+    private boolean[] arrayLevels = new boolean[8];
+    private int[] indexes = new int[8];
+    private String[] keys = new String[8];
+    private int depth = 0;
 
     public BsonWriterEncoder(BsonWriter bsonWriter) {
         this.bsonWriter = bsonWriter;
-        this.isArray = false;
-        this.parent = null;
     }
 
-    private BsonWriterEncoder(BsonWriterEncoder parent, boolean isArray) {
-        this.bsonWriter = parent.bsonWriter;
-        this.isArray = isArray;
-        this.parent = parent;
+    private void postEncodeValue() {
+        indexes[depth]++;
     }
 
-    private void postEncodeValue() {
-        currentIndex++;
+    private void push(boolean isArray) {
+        final int level = ++depth;
+        if (level == indexes.length) {
+            arrayLevels = Arrays.copyOf(arrayLevels, level * 2);
+            indexes = Arrays.copyOf(indexes, level * 2);
+            keys = Arrays.copyOf(keys, level * 2);
+        }
+        arrayLevels[level] = isArray;
+        indexes[level] = 0;
+        keys[level] = null;
     }
 
     @Override
     public Encoder encodeArray(Argument<?> type) {
         bsonWriter.writeStartArray();
-        return new BsonWriterEncoder(this, true);
+        push(true);
+        return this;
     }
 
     @Override
     public Encoder encodeObject(Argument<?> type) {
         bsonWriter.writeStartDocument();
-        return new BsonWriterEncoder(this, false);
+        push(false);
+        return this;
     }
 
     @Override
     public void finishStructure() {
-        if (parent == null) {
+        if (depth == 0) {
             throw new IllegalStateException("Not in a structure");
         }
-        if (isArray) {
+        if (arrayLevels[depth]) {
             bsonWriter.writeEndArray();
         } else {
             bsonWriter.writeEndDocument();
         }
-        parent.postEncodeValue();
+        keys[depth] = null;
+        depth--;
+        postEncodeValue();
     }
 
     @Override
     public void encodeKey(String key) {
-        this.currentKey = key;
+        keys[depth] = key;
         bsonWriter.writeName(key);
     }
 
@@ -144,7 +154,6 @@ public final class BsonWriterEncoder implements Encoder {
     @Override
     public void encodeBigInteger(BigInteger value) {
         encodeBigDecimal(new BigDecimal(value));
-        postEncodeValue();
     }
 
     @Override
@@ -159,23 +168,51 @@ public final class BsonWriterEncoder implements Encoder {
         postEncodeValue();
     }
 
+    @Override
+    public void encodeIntArray(Argument<?> type, int[] values, int offset, int length) {
+        bsonWriter.writeStartArray();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            bsonWriter.writeInt32(values[i]);
+        }
+        bsonWriter.writeEndArray();
+        postEncodeValue();
+    }
+
+    @Override
+    public void encodeLongArray(Argument<?> type, long[] values, int offset, int length) {
+        bsonWriter.writeStartArray();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            bsonWriter.writeInt64(values[i]);
+        }
+        bsonWriter.writeEndArray();
+        postEncodeValue();
+    }
+
+    @Override
+    public void encodeDoubleArray(Argument<?> type, double[] values, int offset, int length) {
+        bsonWriter.writeStartArray();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            bsonWriter.writeDouble(values[i]);
+        }
+        bsonWriter.writeEndArray();
+        postEncodeValue();
+    }
+
     @NonNull
     @Override
     public String currentPath() {
         StringBuilder builder = new StringBuilder();
-        BsonWriterEncoder enc = this;
-        while (enc != null) {
-            if (enc != this) {
-                builder.insert(0, "->");
+        for (int level = 0; level <= depth; level++) {
+            if (level != 0) {
+                builder.append("->");
             }
-            if (enc.currentKey == null) {
-                if (enc.parent != null) {
-                    builder.insert(0, enc.currentIndex);
+            if (keys[level] == null) {
+                if (level != 0) {
+                    builder.append(indexes[level]);
                 }
             } else {
-                builder.insert(0, enc.currentKey);
+                builder.append(keys[level]);
             }
-            enc = enc.parent;
         }
         return builder.toString();
     }
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.bson;
+
+import io.micronaut.core.annotation.Internal;
+import org.bson.BsonSerializationException;
+import org.bson.io.BsonOutput;
+import org.bson.types.ObjectId;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * {@link BsonOutput} writing directly into a caller supplied {@link ByteBuffer}, starting at its position. Positions
+ * are relative to that start. Writing past the limit fails with a {@link java.nio.BufferOverflowException}.
+ */
+@Internal
+final class ByteBufferBsonOutput implements BsonOutput {
+    private final ByteBuffer buffer;
+
+    /**
+     * @param target The buffer to write to, its position is not modified
+     */
+    ByteBufferBsonOutput(ByteBuffer target) {
+        this.buffer = target.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public int getPosition() {
+        return buffer.position();
+    }
+
+    @Override
+    public int getSize() {
+        return buffer.position();
+    }
+
+    @Override
+    public void truncateToPosition(int newPosition) {
+        if (newPosition > buffer.position() || newPosition < 0) {
+            throw new IllegalArgumentException("Invalid position: " + newPosition);
+        }
+        buffer.position(newPosition);
+    }
+
+    @Override
+    public void writeBytes(byte[] bytes) {
+        buffer.put(bytes);
+    }
+
+    @Override
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        buffer.put(bytes, offset, length);
+    }
+
+    @Override
+    public void writeByte(int value) {
+        buffer.put((byte) value);
+    }
+
+    @Override
+    public void writeCString(String value) {
+        writeCharacters(value, true);
+    }
+
+    @Override
+    public void writeString(String value) {
+        final int lengthPosition = buffer.position();
+        buffer.putInt(0);
+        final int length = writeCharacters(value, false);
+        buffer.putInt(lengthPosition, length);
+    }
+
+    @Override
+    public void writeDouble(double value) {
+        buffer.putDouble(value);
+    }
+
+    @Override
+    public void writeInt32(int value) {
+        buffer.putInt(value);
+    }
+
+    @Override
+    public void writeInt32(int position, int value) {
+        buffer.putInt(position, value);
+    }
+
+    @Override
+    public void writeInt64(long value) {
+        buffer.putLong(value);
+    }
+
+    @Override
+    public void writeObjectId(ObjectId value) {
+        value.putToByteBuffer(buffer);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Write the UTF-8 bytes of the value followed by the null terminator.
+     *
+     * @return The number of bytes written, including the terminator
+     */
+    private int writeCharacters(String value, boolean checkForNull) {
+        final ByteBuffer buffer = this.buffer;
+        final int start = buffer.position();
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                if (checkForNull && c == 0) {
+                    throw new BsonSerializationException(String.format("BSON cstring '%s' is not valid because it contains a null character at index %d", value, i));
+                }
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | (cp >> 18)));
+                buffer.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (cp & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, replaced like String.getBytes does
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        buffer.put((byte) 0);
+        return buffer.position() - start;
+    }
+}
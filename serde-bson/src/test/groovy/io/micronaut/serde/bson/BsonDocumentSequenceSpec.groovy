@@ -0,0 +1,211 @@
+package io.micronaut.serde.bson
+
+import io.micronaut.core.type.Argument
+import io.micronaut.serde.SerdeRegistry
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+
+@MicronautTest
+class BsonDocumentSequenceSpec extends Specification {
+
+    @Inject
+    BsonBinaryMapper bsonBinaryMapper
+
+    @Inject
+    BsonJsonMapper bsonJsonMapper
+
+    @Inject
+    SerdeRegistry registry
+
+    def 'read documents from a byte buffer and a stream'() {
+        given:
+        def documents = (0..<100).collect { [name: 'doc' + it, number: it, tags: ['x'] * (it % 5)] }
+        def bytes = concat(documents)
+
+        expect:
+        bsonBinaryMapper.readDocuments(ByteBuffer.wrap(bytes), Argument.mapOf(String, Object)).toList() == documents
+        bsonBinaryMapper.readDocuments(new ByteArrayInputStream(bytes), Argument.mapOf(String, Object)).toList() == documents
+        !bsonBinaryMapper.readDocuments(new ByteArrayInputStream(new byte[0]), Argument.mapOf(String, Object)).hasNext()
+    }
+
+    def 'a truncated document fails'() {
+        given:
+        def bytes = concat([[name: 'a'], [name: 'b']])
+        def truncated = Arrays.copyOf(bytes, bytes.length - 3)
+
+        when:
+        bsonBinaryMapper.readDocuments(new ByteArrayInputStream(truncated), Argument.mapOf(String, Object)).toList()
+
+        then:
+        thrown(UncheckedIOException)
+
+        when:
+        bsonBinaryMapper.readDocuments(ByteBuffer.wrap(truncated), Argument.mapOf(String, Object)).toList()
+
+        then:
+        thrown(UncheckedIOException)
+    }
+
+    def 'a document length above the maximum is rejected before buffering'() {
+        given:
+        def hostile = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putInt(Integer.MAX_VALUE).array()
+        def small = new BsonBinaryMapper(registry, null, 16)
+
+        when:
+        bsonBinaryMapper.readDocuments(new ByteArrayInputStream(hostile), Argument.mapOf(String, Object)).next()
+
+        then:
+        def e = thrown(UncheckedIOException)
+        e.cause.message.contains('exceeds the maximum')
+
+        when:
+        small.readDocuments(new ByteArrayInputStream(concat([[name: 'a long enough name']])), Argument.mapOf(String, Object)).next()
+
+        then:
+        e = thrown(UncheckedIOException)
+        e.cause.message.contains('exceeds the maximum of 16')
+    }
+
+    def 'the stream is closed once all documents were read or reading failed'() {
+        given:
+        def bytes = concat([[name: 'a'], [name: 'b']])
+        def complete = new ClosingStream(bytes)
+        def truncated = new ClosingStream(Arrays.copyOf(bytes, bytes.length - 3))
+
+        when:
+        def documents = bsonBinaryMapper.readDocuments(complete, Argument.mapOf(String, Object)).toList()
+
+        then:
+        documents == [[name: 'a'], [name: 'b']]
+        complete.closed
+
+        when:
+        bsonBinaryMapper.readDocuments(truncated, Argument.mapOf(String, Object)).toList()
+
+        then:
+        thrown(UncheckedIOException)
+        truncated.closed
+    }
+
+    def 'read documents from chunks with arbitrary boundaries'() {
+        given:
+        def documents = (0..<20).collect { [name: 'doc' + it, number: it] }
+        def bytes = concat(documents)
+        def chunks = bytes.toList().collate(chunkSize).collect { it as byte[] }
+        def received = []
+        Throwable error = null
+        boolean completed = false
+
+        when:
+        bsonBinaryMapper.readDocuments(publisher(chunks), Argument.mapOf(String, Object)).subscribe(new Subscriber<Map<String, Object>>() {
+            @Override
+            void onSubscribe(Subscription s) {
+                s.request(Long.MAX_VALUE)
+            }
+
+            @Override
+            void onNext(Map<String, Object> document) {
+                received << document
+            }
+
+            @Override
+            void onError(Throwable t) {
+                error = t
+            }
+
+            @Override
+            void onComplete() {
+                completed = true
+            }
+        })
+
+        then:
+        error == null
+        completed
+        received == documents
+
+        where:
+        chunkSize << [1, 7, 64, 100_000]
+    }
+
+    def 'read values as iterator'() {
+        given:
+        def documents = [[name: 'a'], [name: 'b']]
+
+        expect:
+        bsonBinaryMapper.readValuesAsIterator(new ByteArrayInputStream(concat(documents)), Argument.mapOf(String, Object)).toList() == documents
+        bsonJsonMapper.readValuesAsIterator(new ByteArrayInputStream('[{"name":"a"},{"name":"b"}]'.bytes), Argument.mapOf(String, Object)).toList() == documents
+        bsonJsonMapper.readValuesAsIterator(new ByteArrayInputStream('{"name":"a"}'.bytes), Argument.mapOf(String, Object)).toList() == [[name: 'a']]
+    }
+
+    def 'closing the values releases the stream early'() {
+        given:
+        def bytes = concat([[name: 'a'], [name: 'b'], [name: 'c']])
+        def iterated = new ClosingStream(bytes)
+        def streamed = new ClosingStream(bytes)
+
+        when:
+        def iterator = bsonBinaryMapper.readValuesAsIterator(iterated, Argument.mapOf(String, Object))
+        iterator.next()
+        ((Closeable) iterator).close()
+
+        then:
+        iterated.closed
+        !iterator.hasNext()
+
+        when:
+        def first = bsonBinaryMapper.readValuesAsStream(streamed, Argument.mapOf(String, Object)).withCloseable { it.findFirst().get() }
+
+        then:
+        first == [name: 'a']
+        streamed.closed
+    }
+
+    private static class ClosingStream extends ByteArrayInputStream {
+        boolean closed
+
+        ClosingStream(byte[] bytes) {
+            super(bytes)
+        }
+
+        @Override
+        void close() throws IOException {
+            closed = true
+            super.close()
+        }
+    }
+
+    private byte[] concat(List<Map<String, Object>> documents) {
+        def out = new ByteArrayOutputStream()
+        documents.each { out.write(bsonBinaryMapper.writeValueAsBytes(it)) }
+        return out.toByteArray()
+    }
+
+    private static Publisher<byte[]> publisher(List<byte[]> chunks) {
+        return { Subscriber<? super byte[]> subscriber ->
+            def iterator = chunks.iterator()
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                void request(long n) {
+                    for (long i = 0; i < n && iterator.hasNext(); i++) {
+                        subscriber.onNext(iterator.next())
+                    }
+                    if (!iterator.hasNext()) {
+                        subscriber.onComplete()
+                    }
+                }
+
+                @Override
+                void cancel() {
+                }
+            })
+        } as Publisher<byte[]>
+    }
+}
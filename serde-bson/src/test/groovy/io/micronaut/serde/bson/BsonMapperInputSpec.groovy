@@ -0,0 +1,74 @@
+package io.micronaut.serde.bson
+
+import io.micronaut.core.type.Argument
+import io.micronaut.serde.exceptions.SerdeException
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.file.Files
+
+@MicronautTest
+class BsonMapperInputSpec extends Specification {
+
+    @Inject
+    BsonBinaryMapper bsonBinaryMapper
+
+    @Inject
+    BsonJsonMapper bsonJsonMapper
+
+    def 'read from heap and direct byte buffers'() {
+        given:
+        def bytes = bsonBinaryMapper.writeValueAsBytes([name: 'Fred', tags: ['a', 'b']])
+        def heap = ByteBuffer.allocate(bytes.length + 4)
+        heap.put([1, 2] as byte[]).put(bytes).flip().position(2)
+        def direct = ByteBuffer.allocateDirect(bytes.length).put(bytes)
+        direct.flip()
+
+        expect:
+        bsonBinaryMapper.readValue(heap, Argument.mapOf(String, Object)) == [name: 'Fred', tags: ['a', 'b']]
+        heap.position() == 2
+        bsonBinaryMapper.readValue(direct, Argument.mapOf(String, Object)) == [name: 'Fred', tags: ['a', 'b']]
+        bsonJsonMapper.readValue(ByteBuffer.wrap('xx{"name":"Fred"}'.bytes, 2, 15), Argument.mapOf(String, Object)) == [name: 'Fred']
+    }
+
+    def 'read from a memory mapped file'() {
+        given:
+        def file = Files.createTempFile('bson', '.bson')
+        Files.write(file, bsonBinaryMapper.writeValueAsBytes([name: 'Fred', number: 10]))
+
+        expect:
+        bsonBinaryMapper.readValue(file, Argument.mapOf(String, Object)) == [name: 'Fred', number: 10]
+
+        cleanup:
+        Files.deleteIfExists(file)
+    }
+
+    def 'files too large to be mapped are rejected'() {
+        given:
+        def file = Files.createTempFile('bson', '.bson')
+        new RandomAccessFile(file.toFile(), 'rw').withCloseable { it.setLength(Integer.MAX_VALUE + 1L) }
+
+        when:
+        bsonBinaryMapper.readValue(file, Argument.mapOf(String, Object))
+
+        then:
+        def e = thrown(SerdeException)
+        e.message.contains('too large')
+
+        cleanup:
+        Files.deleteIfExists(file)
+    }
+
+    def 'read streams larger and smaller than the pooled buffer'() {
+        given:
+        def large = [text: 'x' * 100_000]
+        def small = [text: 'y']
+
+        expect:
+        bsonBinaryMapper.readValue(new ByteArrayInputStream(bsonBinaryMapper.writeValueAsBytes(large)), Argument.mapOf(String, Object)) == large
+        bsonBinaryMapper.readValue(new ByteArrayInputStream(bsonBinaryMapper.writeValueAsBytes(small)), Argument.mapOf(String, Object)) == small
+        bsonJsonMapper.readValue(new ByteArrayInputStream('{"text":"z"}'.bytes), Argument.mapOf(String, Object)) == [text: 'z']
+    }
+}
@@ -0,0 +1,96 @@
+package io.micronaut.serde.bson
+
+import io.micronaut.core.type.Argument
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.nio.BufferOverflowException
+import java.nio.ByteBuffer
+
+@MicronautTest
+class BsonMapperOutputSpec extends Specification {
+
+    @Inject
+    BsonBinaryMapper bsonBinaryMapper
+
+    def 'pooled buffers produce exact documents'() {
+        given:
+        def value = [name: 'Fred é😀', tags: ['a', 'b'], nested: [number: 10L]]
+        def expected = streamed(value)
+
+        expect:
+        bsonBinaryMapper.writeValueAsBytes(value) == expected
+        bsonBinaryMapper.writeValueAsBytes(Argument.mapOf(String, Object), value) == expected
+        // the second write reuses the buffer of the first one
+        bsonBinaryMapper.writeValueAsBytes([a: 'b']) == streamed([a: 'b'])
+        bsonBinaryMapper.writeValueAsBytes(large()) == streamed(large())
+        bsonBinaryMapper.writeValueAsBytes(value) == expected
+    }
+
+    def 'write into heap and direct byte buffers'() {
+        given:
+        def value = [name: 'Fred é😀', tags: ['a', 'b'], nested: [number: 10L]]
+        def expected = streamed(value)
+        def heap = ByteBuffer.allocate(expected.length + 2)
+        heap.position(2)
+        def direct = ByteBuffer.allocateDirect(expected.length)
+
+        when:
+        bsonBinaryMapper.writeValue(heap, Argument.mapOf(String, Object), value)
+        bsonBinaryMapper.writeValue(direct, Argument.mapOf(String, Object), value)
+        def fromDirect = new byte[expected.length]
+        direct.flip()
+        direct.get(fromDirect)
+
+        then:
+        heap.position() == expected.length + 2
+        Arrays.copyOfRange(heap.array(), 2, expected.length + 2) == expected
+        fromDirect == expected
+    }
+
+    def 'write into a too small buffer'() {
+        given:
+        def buffer = ByteBuffer.allocate(8)
+
+        when:
+        bsonBinaryMapper.writeValue(buffer, Argument.mapOf(String, Object), [name: 'Fred'])
+
+        then:
+        thrown BufferOverflowException
+        buffer.position() == 0
+    }
+
+    def 'primitive arrays round trip'() {
+        given:
+        def value = [
+                ints   : (0..99) as int[],
+                longs  : [Long.MAX_VALUE, 0L, -1L] as long[],
+                doubles: (0..99).collect { it / 4d } as double[]
+        ]
+
+        when:
+        def bytes = bsonBinaryMapper.writeValueAsBytes(value)
+
+        then:
+        bsonBinaryMapper.readValue(bytes, Argument.mapOf(String, int[])).ints == value.ints
+        bsonBinaryMapper.readValue(bytes, Argument.mapOf(String, long[])).longs == value.longs
+        bsonBinaryMapper.readValue(bytes, Argument.mapOf(String, double[])).doubles == value.doubles
+        // int32 and int64 elements are widened
+        bsonBinaryMapper.readValue(bytes, Argument.mapOf(String, double[])).ints == (0..99) as double[]
+    }
+
+    private byte[] streamed(Object value) {
+        def output = new ByteArrayOutputStream()
+        bsonBinaryMapper.writeValue(output, value)
+        return output.toByteArray()
+    }
+
+    private static Map<String, Object> large() {
+        def large = [:]
+        for (int i = 0; i < 50000; i++) {
+            large['key' + i] = 'value' + i
+        }
+        return large
+    }
+}
@@ -30,4 +30,42 @@ class BsonWriterEncoderSpec extends Specification {
         then:
         array.currentPath() == '->baz->1'
     }
+
+    def 'nested structures reuse the encoder'() {
+        given:
+        def document = new BsonDocument()
+        def encoder = new BsonWriterEncoder(new BsonDocumentWriter(document))
+
+        when:
+        def outer = encoder.encodeObject(Argument.VOID)
+        outer.encodeKey('list')
+        def array = outer.encodeArray(Argument.VOID)
+        array.encodeInt(1)
+        def inner = array.encodeObject(Argument.VOID)
+        inner.encodeKey('a')
+        inner.encodeBigInteger(BigInteger.TEN)
+        then:
+        array.is(outer)
+        inner.is(outer)
+        inner.currentPath() == '->list->1->a'
+
+        when:
+        inner.finishStructure()
+        array.encodeInt(2)
+        then:
+        array.currentPath() == '->list->3'
+
+        when:
+        array.finishStructure()
+        outer.encodeKey('b')
+        outer.encodeString('c')
+        outer.finishStructure()
+        then:
+        document.toJson() == '{"list": [1, {"a": {"$numberDecimal": "10"}}, 2], "b": "c"}'
+
+        when:
+        encoder.finishStructure()
+        then:
+        thrown IllegalStateException
+    }
 }
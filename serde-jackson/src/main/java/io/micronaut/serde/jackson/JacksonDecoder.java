@@ -16,11 +16,14 @@
 package io.micronaut.serde.jackson;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.json.UTF8StreamJsonParser;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.serde.support.AbstractChildReuseStreamDecoder;
 import io.micronaut.serde.support.AbstractStreamDecoder;
+import io.micronaut.serde.support.util.NumberParser;
 import io.micronaut.serde.Decoder;
 import io.micronaut.serde.exceptions.InvalidFormatException;
 import io.micronaut.serde.exceptions.SerdeException;
@@ -28,6 +31,7 @@ import io.micronaut.serde.exceptions.SerdeException;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
 
 /**
  * Implementation of the {@link io.micronaut.serde.Decoder} interface for Jackson.
@@ -54,11 +58,24 @@ public final class JacksonDecoder extends AbstractChildReuseStreamDecoder {
     }
 
     public static Decoder create(JsonParser parser, Class<?> view) throws IOException {
+        return create(parser, view, null);
+    }
+
+    /**
+     * Create a decoder that can look ahead in the raw input, e.g. for the subtype discriminator.
+     *
+     * @param parser The parser
+     * @param view   The view
+     * @param source The byte array the parser was created for, {@code null} if it parses another input
+     * @return The decoder
+     * @throws IOException If the first token can't be read
+     */
+    public static Decoder create(JsonParser parser, Class<?> view, @Nullable byte[] source) throws IOException {
         if (!parser.hasCurrentToken()) {
             parser.nextToken();
         }
         if (parser instanceof UTF8StreamJsonParser) {
-            return new SpecializedJacksonDecoder((UTF8StreamJsonParser) parser, view);
+            return new SpecializedJacksonDecoder((UTF8StreamJsonParser) parser, view, source);
         }
         return new JacksonDecoder(parser, view);
     }
@@ -123,6 +140,42 @@ public final class JacksonDecoder extends AbstractChildReuseStreamDecoder {
         return parser.getValueAsString();
     }
 
+    @Override
+    protected int getIntegerFromString() throws IOException {
+        if (!parser.hasTextCharacters()) {
+            return super.getIntegerFromString();
+        }
+        try {
+            return NumberParser.parseInt(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        } catch (NumberFormatException e) {
+            throw createDeserializationException("Unable to coerce string to integer", parser.getText());
+        }
+    }
+
+    @Override
+    protected long getLongFromString() throws IOException {
+        if (!parser.hasTextCharacters()) {
+            return super.getLongFromString();
+        }
+        try {
+            return NumberParser.parseLong(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        } catch (NumberFormatException e) {
+            throw createDeserializationException("Unable to coerce string to integer", parser.getText());
+        }
+    }
+
+    @Override
+    protected double getDoubleFromString() throws IOException {
+        if (!parser.hasTextCharacters()) {
+            return super.getDoubleFromString();
+        }
+        try {
+            return NumberParser.parseDouble(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        } catch (NumberFormatException e) {
+            throw createDeserializationException("Unable to coerce string to double", parser.getText());
+        }
+    }
+
     @Override
     protected boolean getBoolean() throws IOException {
         return parser.getBooleanValue();
@@ -163,4 +216,76 @@ public final class JacksonDecoder extends AbstractChildReuseStreamDecoder {
     protected void skipChildren() throws IOException {
         parser.skipChildren();
     }
+
+    @Override
+    protected int[] decodeIntElements() throws IOException {
+        int[] buffer = new int[INITIAL_ARRAY_CAPACITY];
+        int size = 0;
+        JsonToken token = parser.currentToken();
+        while (token != JsonToken.END_ARRAY) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                buffer[size] = parser.getIntValue();
+                token = parser.nextToken();
+            } else if (token == JsonToken.VALUE_NULL) {
+                token = parser.nextToken();
+            } else {
+                // coercions
+                buffer[size] = decodeInt();
+                token = parser.currentToken();
+            }
+            size++;
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    @Override
+    protected long[] decodeLongElements() throws IOException {
+        long[] buffer = new long[INITIAL_ARRAY_CAPACITY];
+        int size = 0;
+        JsonToken token = parser.currentToken();
+        while (token != JsonToken.END_ARRAY) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                buffer[size] = parser.getLongValue();
+                token = parser.nextToken();
+            } else if (token == JsonToken.VALUE_NULL) {
+                token = parser.nextToken();
+            } else {
+                // coercions
+                buffer[size] = decodeLong();
+                token = parser.currentToken();
+            }
+            size++;
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    @Override
+    protected double[] decodeDoubleElements() throws IOException {
+        double[] buffer = new double[INITIAL_ARRAY_CAPACITY];
+        int size = 0;
+        JsonToken token = parser.currentToken();
+        while (token != JsonToken.END_ARRAY) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+                buffer[size] = parser.getDoubleValue();
+                token = parser.nextToken();
+            } else if (token == JsonToken.VALUE_NULL) {
+                token = parser.nextToken();
+            } else {
+                // coercions
+                buffer[size] = decodeDouble();
+                token = parser.currentToken();
+            }
+            size++;
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
 }
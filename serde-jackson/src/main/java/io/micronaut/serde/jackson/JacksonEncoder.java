@@ -17,11 +17,13 @@ package io.micronaut.serde.jackson;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
 import io.micronaut.serde.Encoder;
+import io.micronaut.serde.util.EncodedKey;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -34,6 +36,11 @@ import java.util.Objects;
 public abstract class JacksonEncoder implements Encoder {
     // Changes must be reflected in {@link SpecializedJacksonEncoder}!
 
+    /**
+     * Keys as {@link SerializedString}, which caches the quoted and encoded forms of the key.
+     */
+    static final EncodedKey.Format<SerializedString> SERIALIZED_STRING = EncodedKey.Format.of(SerializedString::new);
+
     protected final JsonGenerator generator;
     @Nullable
     private final JacksonEncoder parent;
@@ -123,6 +130,12 @@ public abstract class JacksonEncoder implements Encoder {
         generator.writeFieldName(key);
     }
 
+    @Override
+    public final void encodeKey(@NonNull EncodedKey key) throws IOException {
+        Objects.requireNonNull(key, "key");
+        generator.writeFieldName(key.getEncoded(SERIALIZED_STRING));
+    }
+
     @Override
     public final void encodeString(@NonNull String value) throws IOException {
         Objects.requireNonNull(value, "value");
@@ -186,6 +199,24 @@ public abstract class JacksonEncoder implements Encoder {
         generator.writeNull();
     }
 
+    @Override
+    public final void encodeIntArray(@NonNull Argument<?> type, @NonNull int[] values, int offset, int length) throws IOException {
+        checkChild();
+        generator.writeArray(values, offset, length);
+    }
+
+    @Override
+    public final void encodeLongArray(@NonNull Argument<?> type, @NonNull long[] values, int offset, int length) throws IOException {
+        checkChild();
+        generator.writeArray(values, offset, length);
+    }
+
+    @Override
+    public final void encodeDoubleArray(@NonNull Argument<?> type, @NonNull double[] values, int offset, int length) throws IOException {
+        checkChild();
+        generator.writeArray(values, offset, length);
+    }
+
     private static final class ArrayEncoder extends JacksonEncoder {
         ArrayEncoder(JacksonEncoder parent) {
             super(parent);
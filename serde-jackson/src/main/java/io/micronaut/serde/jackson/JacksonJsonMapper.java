@@ -45,6 +45,9 @@ import io.micronaut.serde.ObjectMapper;
 import io.micronaut.serde.SerdeRegistry;
 import io.micronaut.serde.Serializer;
 import io.micronaut.serde.UpdatingDeserializer;
+import io.micronaut.serde.support.AbstractStreamDecoder;
+import io.micronaut.serde.support.DecoderValueIterator;
+import io.micronaut.serde.support.util.SpecificSerdeCache;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.reactivestreams.Processor;
@@ -53,6 +56,7 @@ import org.reactivestreams.Subscriber;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.function.Consumer;
 
@@ -73,6 +77,7 @@ public final class JacksonJsonMapper implements ObjectMapper {
     private final Class<?> view;
     private final Serializer.EncoderContext encoderContext;
     private final Deserializer.DecoderContext decoderContext;
+    private final SpecificSerdeCache specificSerdeCache;
 
     private JacksonJsonMapper(@NonNull SerdeRegistry registry, @NonNull JsonStreamConfig deserializationConfig, @Nullable Class<?> view) {
         this.registry = registry;
@@ -81,6 +86,7 @@ public final class JacksonJsonMapper implements ObjectMapper {
         this.view = view;
         this.encoderContext = registry.newEncoderContext(view);
         this.decoderContext = registry.newDecoderContext(view);
+        this.specificSerdeCache = new SpecificSerdeCache(registry, encoderContext, decoderContext);
     }
 
     @Inject
@@ -102,8 +108,7 @@ public final class JacksonJsonMapper implements ObjectMapper {
 
     private <T> void writeValue(JsonGenerator gen, T value, Argument<T> argument) throws IOException {
         gen.setCodec(objectCodecImpl);
-        Serializer<? super T> serializer = registry.findSerializer(argument)
-                                                   .createSpecific(encoderContext, argument);
+        Serializer<? super T> serializer = specificSerdeCache.findSerializer(argument);
         final Encoder encoder = JacksonEncoder.create(gen);
         serializer.serialize(
                 encoder,
@@ -113,13 +118,17 @@ public final class JacksonJsonMapper implements ObjectMapper {
     }
 
     private <T> T readValue(JsonParser parser, Argument<T> type) throws IOException {
-        return readValue0(parser, type);
+        return readValue0(parser, type, null);
     }
 
-    @SuppressWarnings({"rawtypes", "unchecked"})
     private <T> T readValue0(JsonParser parser, Argument<?> type) throws IOException {
+        return readValue0(parser, type, null);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private <T> T readValue0(JsonParser parser, Argument<?> type, @Nullable byte[] source) throws IOException {
         parser.setCodec(objectCodecImpl);
-        Deserializer deserializer = registry.findDeserializer(type).createSpecific(decoderContext, (Argument) type);
+        Deserializer deserializer = specificSerdeCache.findDeserializer(type);
         if (!parser.hasCurrentToken()) {
             parser.nextToken();
         }
@@ -127,7 +136,7 @@ public final class JacksonJsonMapper implements ObjectMapper {
         if (parser.currentToken() == JsonToken.VALUE_NULL && !deserializer.allowNull()) {
             return null;
         }
-        final Decoder decoder = JacksonDecoder.create(parser, view);
+        final Decoder decoder = JacksonDecoder.create(parser, view, source);
         return (T) deserializer.deserialize(
                 decoder,
                 decoderContext,
@@ -161,10 +170,35 @@ public final class JacksonJsonMapper implements ObjectMapper {
         }
     }
 
+    @Override
+    public <T> Iterator<T> readValuesAsIterator(@NonNull InputStream inputStream, @NonNull Argument<T> type) throws IOException {
+        final JsonParser parser = FACTORY.createParser(inputStream);
+        try {
+            parser.setCodec(objectCodecImpl);
+            final Deserializer<? extends T> deserializer = specificSerdeCache.findDeserializer(type);
+            if (parser.nextToken() == null) {
+                parser.close();
+                return Collections.emptyIterator();
+            }
+            // jackson reads any number of root values, e.g. newline delimited json
+            return DecoderValueIterator.create(
+                    (AbstractStreamDecoder) JacksonDecoder.create(parser, view),
+                    () -> parser.currentToken() != null,
+                    deserializer,
+                    decoderContext,
+                    type,
+                    parser
+            );
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
     @Override
     public <T> T readValue(@NonNull byte[] byteArray, @NonNull Argument<T> type) throws IOException {
         try (JsonParser parser = FACTORY.createParser(byteArray)) {
-            return readValue(parser, type);
+            return readValue0(parser, type, byteArray);
         }
     }
 
@@ -231,7 +265,7 @@ public final class JacksonJsonMapper implements ObjectMapper {
     public void updateValueFromTree(Object value, JsonNode tree) throws IOException {
         if (tree != null && value != null) {
             Argument<Object> type = (Argument<Object>) Argument.of(value.getClass());
-            Deserializer deserializer = registry.findDeserializer(type).createSpecific(decoderContext, type);
+            Deserializer deserializer = specificSerdeCache.findDeserializer(type);
             if (deserializer instanceof UpdatingDeserializer) {
 
                 try (JsonParser parser = treeCodec.treeAsTokens(tree)) {
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.jackson;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Scans the raw UTF-8 bytes of a JSON object for the string value of a key, without tokenizing the skipped values.
+ * The scan is conservative: it gives up on escapes, non-ASCII keys and anything it doesn't expect, the caller then
+ * falls back to the parser.
+ */
+@Internal
+final class JsonLookahead {
+    private static final int GIVE_UP = -1;
+
+    private JsonLookahead() {
+    }
+
+    /**
+     * Find the string value of a key in the remaining members of an object.
+     *
+     * @param json       The input
+     * @param offset     The offset of the current key, pointing at its opening quote
+     * @param currentKey The current key, used to verify the offset
+     * @param key        The key to look for
+     * @return The value or {@code null} if the key wasn't found, its value isn't a plain string or the scan gave up
+     */
+    @Nullable
+    static String findString(@NonNull byte[] json, int offset, @NonNull String currentKey, @NonNull String key) {
+        int i = offset;
+        boolean first = true;
+        while (true) {
+            if (i >= json.length || json[i] != '"') {
+                return null;
+            }
+            final int keyStart = i + 1;
+            final int keyEnd = endOfPlainString(json, keyStart);
+            if (keyEnd == GIVE_UP) {
+                return null;
+            }
+            if (first) {
+                if (!matches(json, keyStart, keyEnd, currentKey)) {
+                    // not where we expected the parser to be
+                    return null;
+                }
+                first = false;
+            }
+            final boolean found = matches(json, keyStart, keyEnd, key);
+            i = skipWhitespace(json, keyEnd + 1);
+            if (i >= json.length || json[i] != ':') {
+                return null;
+            }
+            i = skipWhitespace(json, i + 1);
+            if (found) {
+                if (i >= json.length || json[i] != '"') {
+                    return null;
+                }
+                final int valueEnd = endOfPlainString(json, i + 1);
+                if (valueEnd == GIVE_UP) {
+                    return null;
+                }
+                return new String(json, i + 1, valueEnd - i - 1, StandardCharsets.UTF_8);
+            }
+            i = skipValue(json, i);
+            if (i == GIVE_UP) {
+                return null;
+            }
+            i = skipWhitespace(json, i);
+            if (i >= json.length || json[i] != ',') {
+                // end of the object, or malformed
+                return null;
+            }
+            i = skipWhitespace(json, i + 1);
+        }
+    }
+
+    /**
+     * @return The index of the closing quote, {@link #GIVE_UP} if the string has escapes or is unterminated
+     */
+    private static int endOfPlainString(byte[] json, int start) {
+        for (int i = start; i < json.length; i++) {
+            final byte b = json[i];
+            if (b == '"') {
+                return i;
+            }
+            if (b == '\\') {
+                return GIVE_UP;
+            }
+        }
+        return GIVE_UP;
+    }
+
+    /**
+     * @return The index of the closing quote, {@link #GIVE_UP} if the string is unterminated
+     */
+    private static int endOfString(byte[] json, int start) {
+        for (int i = start; i < json.length; i++) {
+            final byte b = json[i];
+            if (b == '"') {
+                return i;
+            }
+            if (b == '\\') {
+                i++;
+            }
+        }
+        return GIVE_UP;
+    }
+
+    /**
+     * @return The index after the value, {@link #GIVE_UP} if it's malformed
+     */
+    private static int skipValue(byte[] json, int start) {
+        if (start >= json.length) {
+            return GIVE_UP;
+        }
+        final byte first = json[start];
+        if (first == '"') {
+            final int end = endOfString(json, start + 1);
+            return end == GIVE_UP ? GIVE_UP : end + 1;
+        }
+        if (first == '{' || first == '[') {
+            int depth = 0;
+            for (int i = start; i < json.length; i++) {
+                final byte b = json[i];
+                if (b == '"') {
+                    i = endOfString(json, i + 1);
+                    if (i == GIVE_UP) {
+                        return GIVE_UP;
+                    }
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    if (--depth == 0) {
+                        return i + 1;
+                    }
+                }
+            }
+            return GIVE_UP;
+        }
+        // number, true, false or null
+        int i = start;
+        while (i < json.length) {
+            final byte b = json[i];
+            if (b == ',' || b == '}' || b == ']' || isWhitespace(b)) {
+                break;
+            }
+            i++;
+        }
+        return i == start ? GIVE_UP : i;
+    }
+
+    private static int skipWhitespace(byte[] json, int start) {
+        int i = start;
+        while (i < json.length && isWhitespace(json[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    /**
+     * Compare the bytes to an ASCII string, non-ASCII strings never match.
+     */
+    private static boolean matches(byte[] json, int start, int end, String s) {
+        if (end - start != s.length()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            if (c >= 0x80 || json[start + i] != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
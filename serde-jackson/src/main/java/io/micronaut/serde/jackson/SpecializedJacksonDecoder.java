@@ -19,14 +19,18 @@ import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.json.UTF8StreamJsonParser;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.serde.exceptions.InvalidFormatException;
 import io.micronaut.serde.exceptions.SerdeException;
 import io.micronaut.serde.support.AbstractChildReuseStreamDecoder;
 import io.micronaut.serde.support.AbstractStreamDecoder;
+import io.micronaut.serde.support.util.NumberParser;
+import io.micronaut.serde.util.KeyTable;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
 
 /**
  * Implementation of the {@link io.micronaut.serde.Decoder} interface for Jackson.
@@ -36,15 +40,24 @@ import java.math.BigInteger;
 @Internal
 final class SpecializedJacksonDecoder extends AbstractChildReuseStreamDecoder {
     private final UTF8StreamJsonParser parser;
+    @Nullable
+    private final byte[] source;
 
     private SpecializedJacksonDecoder(@NonNull SpecializedJacksonDecoder parent) {
         super(parent);
         this.parser = parent.parser;
+        this.source = parent.source;
     }
 
-    SpecializedJacksonDecoder(UTF8StreamJsonParser parser, @NonNull Class<?> view) {
+    /**
+     * @param parser The parser
+     * @param view   The view
+     * @param source The whole input of the parser, if it parses a byte array, to look ahead in
+     */
+    SpecializedJacksonDecoder(UTF8StreamJsonParser parser, @NonNull Class<?> view, @Nullable byte[] source) {
         super(view);
         this.parser = parser;
+        this.source = source;
     }
 
     @Override
@@ -94,6 +107,25 @@ final class SpecializedJacksonDecoder extends AbstractChildReuseStreamDecoder {
         return parser.getCurrentName();
     }
 
+    @Override
+    protected int getCurrentStringIndex(@NonNull KeyTable table) throws IOException {
+        // the text buffer of the parser, no string is created
+        return table.indexOf(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    @Override
+    protected String lookaheadCurrentObject(@NonNull String key) throws IOException {
+        if (source == null) {
+            return null;
+        }
+        // the token location of a field name is its opening quote
+        final long offset = parser.getTokenLocation().getByteOffset();
+        if (offset < 0 || offset >= source.length) {
+            return null;
+        }
+        return JsonLookahead.findString(source, (int) offset, parser.getCurrentName(), key);
+    }
+
     @Override
     protected AbstractStreamDecoder createChildDecoder() {
         return new SpecializedJacksonDecoder(this);
@@ -104,6 +136,33 @@ final class SpecializedJacksonDecoder extends AbstractChildReuseStreamDecoder {
         return parser.getValueAsString();
     }
 
+    @Override
+    protected int getIntegerFromString() throws IOException {
+        try {
+            return NumberParser.parseInt(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        } catch (NumberFormatException e) {
+            throw createDeserializationException("Unable to coerce string to integer", parser.getText());
+        }
+    }
+
+    @Override
+    protected long getLongFromString() throws IOException {
+        try {
+            return NumberParser.parseLong(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        } catch (NumberFormatException e) {
+            throw createDeserializationException("Unable to coerce string to integer", parser.getText());
+        }
+    }
+
+    @Override
+    protected double getDoubleFromString() throws IOException {
+        try {
+            return NumberParser.parseDouble(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        } catch (NumberFormatException e) {
+            throw createDeserializationException("Unable to coerce string to double", parser.getText());
+        }
+    }
+
     @Override
     protected boolean getBoolean() throws IOException {
         return parser.getBooleanValue();
@@ -147,4 +206,76 @@ final class SpecializedJacksonDecoder extends AbstractChildReuseStreamDecoder {
     protected void skipChildren() throws IOException {
         parser.skipChildren();
     }
+
+    @Override
+    protected int[] decodeIntElements() throws IOException {
+        int[] buffer = new int[INITIAL_ARRAY_CAPACITY];
+        int size = 0;
+        JsonToken token = parser.currentToken();
+        while (token != JsonToken.END_ARRAY) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                buffer[size] = parser.getIntValue();
+                token = parser.nextToken();
+            } else if (token == JsonToken.VALUE_NULL) {
+                token = parser.nextToken();
+            } else {
+                // coercions
+                buffer[size] = decodeInt();
+                token = parser.currentToken();
+            }
+            size++;
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    @Override
+    protected long[] decodeLongElements() throws IOException {
+        long[] buffer = new long[INITIAL_ARRAY_CAPACITY];
+        int size = 0;
+        JsonToken token = parser.currentToken();
+        while (token != JsonToken.END_ARRAY) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                buffer[size] = parser.getLongValue();
+                token = parser.nextToken();
+            } else if (token == JsonToken.VALUE_NULL) {
+                token = parser.nextToken();
+            } else {
+                // coercions
+                buffer[size] = decodeLong();
+                token = parser.currentToken();
+            }
+            size++;
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    @Override
+    protected double[] decodeDoubleElements() throws IOException {
+        double[] buffer = new double[INITIAL_ARRAY_CAPACITY];
+        int size = 0;
+        JsonToken token = parser.currentToken();
+        while (token != JsonToken.END_ARRAY) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+                buffer[size] = parser.getDoubleValue();
+                token = parser.nextToken();
+            } else if (token == JsonToken.VALUE_NULL) {
+                token = parser.nextToken();
+            } else {
+                // coercions
+                buffer[size] = decodeDouble();
+                token = parser.currentToken();
+            }
+            size++;
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
 }
@@ -21,6 +21,7 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
 import io.micronaut.serde.Encoder;
+import io.micronaut.serde.util.EncodedKey;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -112,6 +113,12 @@ abstract class SpecializedJacksonEncoder implements Encoder {
         generator.writeFieldName(key);
     }
 
+    @Override
+    public final void encodeKey(@NonNull EncodedKey key) throws IOException {
+        Objects.requireNonNull(key, "key");
+        generator.writeFieldName(key.getEncoded(JacksonEncoder.SERIALIZED_STRING));
+    }
+
     @Override
     public final void encodeString(@NonNull String value) throws IOException {
         Objects.requireNonNull(value, "value");
@@ -175,6 +182,24 @@ abstract class SpecializedJacksonEncoder implements Encoder {
         generator.writeNull();
     }
 
+    @Override
+    public final void encodeIntArray(@NonNull Argument<?> type, @NonNull int[] values, int offset, int length) throws IOException {
+        checkChild();
+        generator.writeArray(values, offset, length);
+    }
+
+    @Override
+    public final void encodeLongArray(@NonNull Argument<?> type, @NonNull long[] values, int offset, int length) throws IOException {
+        checkChild();
+        generator.writeArray(values, offset, length);
+    }
+
+    @Override
+    public final void encodeDoubleArray(@NonNull Argument<?> type, @NonNull double[] values, int offset, int length) throws IOException {
+        checkChild();
+        generator.writeArray(values, offset, length);
+    }
+
     private static final class ArrayEncoder extends SpecializedJacksonEncoder {
         ArrayEncoder(SpecializedJacksonEncoder parent) {
             super(parent);
@@ -3,6 +3,7 @@ package io.micronaut.serde.jackson
 import com.fasterxml.jackson.core.JsonFactoryBuilder
 import io.micronaut.serde.Decoder
 import io.micronaut.serde.exceptions.SerdeException
+import io.micronaut.serde.support.AbstractChildReuseStreamDecoder
 import org.intellij.lang.annotations.Language
 import spock.lang.Specification
 
@@ -40,6 +41,49 @@ class JacksonDecoderSpec extends Specification {
         array.finishStructure()
     }
 
+    def 'strict checks reject the use of a stale child decoder'() {
+        given:
+        def decoder = (AbstractChildReuseStreamDecoder) createDecoder('{"a":{"b":1},"c":[2]}')
+        decoder.setStrictChecks(true)
+        def outer = decoder.decodeObject()
+        outer.decodeKey()
+        def inner = outer.decodeObject()
+
+        when:
+        outer.decodeKey()
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message == 'There is still an unfinished child parser'
+
+        when:
+        inner.decodeKey()
+        inner.decodeInt()
+        inner.decodeKey()
+        inner.finishStructure()
+        inner.decodeKey()
+
+        then:
+        e = thrown(IllegalStateException)
+        e.message == 'This child parser has already completed'
+
+        when:
+        decoder.setStrictChecks(false)
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def 'without strict checks a single decoder serves all nesting levels'() {
+        given:
+        def decoder = createDecoder('{"a":{"b":1}}')
+        def outer = decoder.decodeObject()
+        outer.decodeKey()
+
+        expect:
+        outer.decodeObject().is(decoder)
+    }
+
     def 'char reading'() {
         given:
         def decoder = createDecoder('["a",42]')
@@ -78,6 +122,31 @@ class JacksonDecoderSpec extends Specification {
         createDecoder('false').decodeBigDecimal() == BigDecimal.ZERO
     }
 
+    def 'quoted numbers'() {
+        given:
+        def factory = new JsonFactoryBuilder().build()
+        def decoder = JacksonDecoder.create(utf8 ? factory.createParser(json.getBytes('UTF-8')) : factory.createParser(json))
+        def array = decoder.decodeArray()
+
+        expect:
+        array.decodeInt() == -42
+        array.decodeLong() == 5000000000L
+        array.decodeDouble() == 0.1d
+        array.decodeDouble() == -2.5e-3d
+        array.decodeDouble() == 1.7976931348623157E308d
+        array.finishStructure()
+
+        when:
+        createDecoder('"4x"').decodeInt()
+
+        then:
+        thrown SerdeException
+
+        where:
+        utf8 << [false, true]
+        json = '["-42","5000000000","0.1","-2.5E-3","1.7976931348623157E308"]'
+    }
+
     def 'buffering'() {
         expect:
         createDecoder('"a"').decodeBuffer().decodeString() == 'a'
@@ -108,6 +177,25 @@ class JacksonDecoderSpec extends Specification {
         object.finishStructure()
     }
 
+    def 'bulk primitive arrays'() {
+        given:
+        def factory = new JsonFactoryBuilder().build()
+        def decoder = JacksonDecoder.create(utf8 ? factory.createParser(json.getBytes('UTF-8')) : factory.createParser(json))
+        def array = decoder.decodeArray()
+
+        expect:
+        array.decodeIntArray() == [1, 0, 3, 4] as int[]
+        array.decodeLongArray() == [5000000000L, 2] as long[]
+        array.decodeDoubleArray() == [1.5d, 2d, 0d] as double[]
+        array.decodeLongArray() == (0L..99L) as long[]
+        array.decodeInt() == 7
+        array.finishStructure()
+
+        where:
+        utf8 << [false, true]
+        json = '[[1,null,"3",[4]],[5000000000,2],[1.5,2,null],' + (0..99).toString().replace(' ', '') + ',7]'
+    }
+
     def 'arbitrary decode'() {
         expect:
         createDecoder('{"f1": 42, "f2": "foo", "f3": true, "f4": [56, {"f5": "bar"}]}').decodeArbitrary() == [
@@ -127,4 +127,64 @@ class CustomKeyConverter2 implements TypeConverter<String, CustomKey> {
         bean.data == [(new CustomKey("foo")): 200]
 
     }
+
+    void "test serialize maps and lists with values of mixed runtime types"() {
+        given:
+        def context = buildContext('''
+package test;
+
+import java.util.List;
+import java.util.Map;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+class MixedValues {
+    private final Map<String, Object> values;
+    private final List<Object> items;
+    private final Map<String, Integer> counts;
+
+    public MixedValues(Map<String, Object> values, List<Object> items, Map<String, Integer> counts) {
+        this.values = values;
+        this.items = items;
+        this.counts = counts;
+    }
+
+    public Map<String, Object> getValues() {
+        return values;
+    }
+
+    public List<Object> getItems() {
+        return items;
+    }
+
+    public Map<String, Integer> getCounts() {
+        return counts;
+    }
+}
+
+@Serdeable
+class Item {
+    private final String name;
+
+    public Item(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
+''')
+        def item = newInstance(context, 'test.Item', ["a"] as Object[])
+        def values = [first: item, second: "b", third: [1, "c", item], fourth: null, fifth: newInstance(context, 'test.Item', ["d"] as Object[])]
+        def bean = newInstance(context, 'test.MixedValues', [values, [item, 2, "e", null, [f: 3]], [x: 1, y: 2]] as Object[])
+
+        when:
+        def result = writeJson(jsonMapper, bean)
+
+        then:
+        result == '{"values":{"first":{"name":"a"},"second":"b","third":[1,"c",{"name":"a"}],"fourth":null,"fifth":{"name":"d"}},' +
+                '"items":[{"name":"a"},2,"e",null,{"f":3}],"counts":{"x":1,"y":2}}'
+    }
 }
@@ -0,0 +1,78 @@
+package io.micronaut.serde.jackson
+
+import io.micronaut.core.type.Argument
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.util.stream.Collectors
+
+@MicronautTest
+class JacksonReadValuesSpec extends Specification {
+
+    @Inject
+    JacksonJsonMapper jsonMapper
+
+    def 'read the elements of an array one at a time'() {
+        when:
+        def iterator = jsonMapper.readValuesAsIterator(stream('[{"a":1},{"b":[2,3]},null,{}]'), Argument.mapOf(String, Object))
+
+        then:
+        iterator.next() == [a: 1]
+        iterator.next() == [b: [2, 3]]
+        iterator.next() == null
+        iterator.next() == [:]
+        !iterator.hasNext()
+    }
+
+    def 'read newline delimited values'() {
+        expect:
+        jsonMapper.readValuesAsIterator(stream('{"a":1}\n{"a":2}\n\n{"a":3}\n'), Argument.mapOf(String, Object)).toList() == [[a: 1], [a: 2], [a: 3]]
+        jsonMapper.readValuesAsIterator(stream('"x" "y"'), Argument.of(String)).toList() == ['x', 'y']
+        jsonMapper.readValuesAsIterator(stream(''), Argument.of(String)).toList() == []
+    }
+
+    def 'closing the stream closes the input'() {
+        given:
+        def closed = false
+        def input = new FilterInputStream(stream('[1,2,3]')) {
+            @Override
+            void close() throws IOException {
+                closed = true
+                super.close()
+            }
+        }
+
+        when:
+        def stream = jsonMapper.readValuesAsStream(input, Argument.of(Integer))
+        def first = stream.limit(1).collect(Collectors.toList())
+        stream.close()
+
+        then:
+        first == [1]
+        closed
+    }
+
+    def 'malformed input fails while iterating and closes the input'() {
+        given:
+        def closed = false
+        def input = new FilterInputStream(stream('[{"a":1},{"a":')) {
+            @Override
+            void close() throws IOException {
+                closed = true
+                super.close()
+            }
+        }
+
+        when:
+        jsonMapper.readValuesAsIterator(input, Argument.mapOf(String, Object)).toList()
+
+        then:
+        thrown(UncheckedIOException)
+        closed
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes('UTF-8'))
+    }
+}
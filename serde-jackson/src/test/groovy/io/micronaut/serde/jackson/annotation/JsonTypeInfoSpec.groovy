@@ -5,6 +5,8 @@ import io.micronaut.serde.jackson.JsonCompileSpec
 import spock.lang.Ignore
 import spock.lang.Unroll
 
+import java.nio.charset.StandardCharsets
+
 class JsonTypeInfoSpec extends JsonCompileSpec {
 
     @Unroll
@@ -59,6 +61,30 @@ class Test {
         include << JsonTypeInfo.As.values() - [JsonTypeInfo.As.PROPERTY, JsonTypeInfo.As.WRAPPER_OBJECT]
     }
 
+    void "test fail compilation on a registered subtype that is not a subtype"() {
+        when:
+        buildBeanIntrospection('subtypeerrors.Test', """
+package subtypeerrors;
+
+import com.fasterxml.jackson.annotation.*;
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+@JsonSubTypes(@JsonSubTypes.Type(value = Other.class, name = "other"))
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+class Test {
+    public String name;
+}
+
+class Other {
+    public String name;
+}
+""")
+        then:
+        def e = thrown(RuntimeException)
+        e.message.contains("Registered subtype [subtypeerrors.Other] must be a subtype of the annotated type: subtypeerrors.Test")
+    }
+
     void "test subtype binding as property for interface"() {
         given:
         def context = buildContext("""
@@ -461,4 +487,185 @@ class Cat extends Animal {
         cleanup:
         context.close()
     }
+
+    void "test subtype binding as property with the discriminator after other properties"() {
+        given:
+        def context = buildContext("""
+package subtypes;
+
+import com.fasterxml.jackson.annotation.*;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.serde.annotation.Serdeable;
+import java.util.List;
+import java.util.Map;
+
+@JsonTypeInfo(
+  use = JsonTypeInfo.Id.NAME,
+  include = JsonTypeInfo.As.PROPERTY,
+  property = "type")
+class Animal {
+    public String name;
+    public List<String> tags;
+    public Map<String, Integer> scores;
+}
+
+@JsonTypeName("dog")
+class Dog extends Animal {
+    public double barkVolume;
+}
+
+@JsonTypeName("fish")
+class Fish extends Animal {
+}
+
+@JsonTypeName("cat")
+@JsonPropertyOrder({"lives", "name", "type"})
+class Cat extends Animal {
+    public int lives;
+}
+""")
+        def argument = argumentOf(context, 'subtypes.Animal')
+        def json = '{"name":"Fred \\"the dog\\"","tags":["a","}"],"scores":{"x":1,"type":2},"barkVolume":1.1,"type":"dog"}'
+
+        when:"the discriminator is looked ahead in the bytes"
+        def dog = jsonMapper.readValue(json.getBytes(StandardCharsets.UTF_8), argument)
+
+        then:
+        dog.getClass().simpleName == 'Dog'
+        dog.name == 'Fred "the dog"'
+        dog.tags == ['a', '}']
+        dog.scores == [x: 1, type: 2]
+        dog.barkVolume == 1.1d
+
+        when:"the tokens before the discriminator are buffered"
+        dog = jsonMapper.readValue(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), argument)
+
+        then:
+        dog.getClass().simpleName == 'Dog'
+        dog.name == 'Fred "the dog"'
+        dog.tags == ['a', '}']
+        dog.scores == [x: 1, type: 2]
+        dog.barkVolume == 1.1d
+
+        when:"the discriminator is missing"
+        def animal = jsonMapper.readValue('{"name":"Joe"}', argument)
+
+        then:
+        animal.getClass().simpleName == 'Animal'
+        animal.name == 'Joe'
+
+        when:"a subtype without properties and a subtype with a property order are written"
+        def fish = newInstance(context, 'subtypes.Fish', [:])
+        def cat = newInstance(context, 'subtypes.Cat', [name:"Joe", lives: 9])
+
+        then:"the discriminator is written first"
+        writeJson(jsonMapper, fish).startsWith('{"type":"fish"')
+        writeJson(jsonMapper, cat).startsWith('{"type":"cat"')
+        jsonMapper.readValue('{"lives":9,"type":"cat"}', argument).getClass().simpleName == 'Cat'
+
+        cleanup:
+        context.close()
+    }
+
+    void "test only registered subtypes are resolved"() {
+        given:
+        def context = buildContext("""
+package subtypes;
+
+import com.fasterxml.jackson.annotation.*;
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+@JsonSubTypes(@JsonSubTypes.Type(value = Dog.class, names = {"dog", "hound"}))
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+class Animal {
+    public String name;
+}
+
+@Serdeable
+@JsonTypeName("dog")
+class Dog extends Animal {
+    public double barkVolume;
+}
+
+@Serdeable
+@JsonTypeName("cat")
+class Cat extends Animal {
+    public int lives;
+}
+
+@Serdeable
+@JsonTypeName("hound")
+class Hound extends Animal {
+}
+""")
+        def argument = argumentOf(context, 'subtypes.Animal')
+
+        when:"the registered subtype is read by its name and its alias"
+        def dog = jsonMapper.readValue('{"type":"dog","name":"Fred","barkVolume":1.1}', argument)
+        def alias = jsonMapper.readValue('{"type":"hound","name":"Rex"}', argument)
+
+        then:"the registered alias wins over the name of a subtype that is not registered"
+        dog.getClass().simpleName == 'Dog'
+        dog.barkVolume == 1.1d
+        alias.getClass().simpleName == 'Dog'
+
+        when:"a subtype that is not registered is read"
+        def cat = jsonMapper.readValue('{"type":"cat","name":"Joe","lives":9}', argument)
+
+        then:"the registered list is authoritative and the base type is read"
+        cat.getClass().simpleName == 'Animal'
+        cat.name == 'Joe'
+
+        cleanup:
+        context.close()
+    }
+
+    void "test a subtype property named like the discriminator is never bound"() {
+        given:
+        def context = buildContext("""
+package subtypes;
+
+import com.fasterxml.jackson.annotation.*;
+import io.micronaut.serde.annotation.Serdeable;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+class Animal {
+    public String name;
+}
+
+@JsonTypeName("dog")
+class Dog extends Animal {
+    public String type;
+}
+
+@JsonTypeName("cat")
+class Cat extends Animal {
+    public final String type;
+    Cat(String type) {
+        this.type = type;
+    }
+}
+""")
+        def argument = argumentOf(context, 'subtypes.Animal')
+
+        when:
+        def fromString = jsonMapper.readValue(json, argument)
+        def fromBytes = jsonMapper.readValue(json.getBytes(StandardCharsets.UTF_8), argument)
+        def fromStream = jsonMapper.readValue(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), argument)
+
+        then:"the discriminator is skipped whatever its position and the kind of input"
+        [fromString, fromBytes, fromStream].every { it.getClass().simpleName == subtype }
+        [fromString, fromBytes, fromStream].every { it.name == 'Fred' && it.type == null }
+
+        cleanup:
+        context.close()
+
+        where:
+        json                                  | subtype
+        '{"type":"dog","name":"Fred"}'        | 'Dog'
+        '{"name":"Fred","type":"dog"}'        | 'Dog'
+        '{"type":"cat","name":"Fred"}'        | 'Cat'
+        '{"name":"Fred","type":"cat"}'        | 'Cat'
+    }
 }
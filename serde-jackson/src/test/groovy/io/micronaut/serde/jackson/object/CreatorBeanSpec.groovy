@@ -0,0 +1,113 @@
+package io.micronaut.serde.jackson.object
+
+import io.micronaut.serde.SerdeRegistry
+import io.micronaut.serde.exceptions.SerdeException
+import io.micronaut.serde.jackson.JsonCompileSpec
+import spock.lang.Unroll
+
+class CreatorBeanSpec extends JsonCompileSpec {
+
+    // the naming strategy is only known at runtime, so the bean has no expected keys and doesn't use a schema
+    private static final String ACCOUNT = '''
+package creatorbean;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.micronaut.core.annotation.AnnotatedElement;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.annotation.Serdeable;
+import io.micronaut.serde.config.naming.PropertyNamingStrategy;
+import jakarta.inject.Singleton;
+
+@Serdeable(naming = SameNames.class)
+@JsonIgnoreProperties(ignoreUnknown = IGNORE_UNKNOWN)
+class Account {
+    private final String name;
+    private final long number;
+    private final boolean active;
+    private final String note;
+
+    @JsonCreator
+    Account(String name, @JsonAlias("id") long number, boolean active, @Nullable String note) {
+        this.name = name;
+        this.number = number;
+        this.active = active;
+        this.note = note;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getNumber() {
+        return number;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    @Nullable
+    public String getNote() {
+        return note;
+    }
+}
+
+@Singleton
+class SameNames implements PropertyNamingStrategy {
+    @Override
+    public String translate(AnnotatedElement element) {
+        return element.getName();
+    }
+}
+'''
+
+    @Unroll
+    void "test deserialize creator bean from #json"() {
+        given:
+        def context = buildContext('creatorbean.Account', ACCOUNT.replace('IGNORE_UNKNOWN', 'true'))
+        def registry = context.getBean(SerdeRegistry)
+        def deserializer = registry.findDeserializer(typeUnderTest)
+                .createSpecific(registry.newDecoderContext(null), typeUnderTest)
+
+        expect:
+        deserializer.getClass().simpleName == 'CreatorObjectDeserializer'
+
+        when:
+        def account = jsonMapper.readValue(json, typeUnderTest)
+
+        then:
+        account.name == 'Fred'
+        account.number == 10
+        account.active
+        account.note == note
+
+        cleanup:
+        context.close()
+
+        where:
+        json                                                                    | note
+        '{"name":"Fred","number":10,"active":true,"note":"n"}'                  | 'n'
+        '{"name":"Fred","number":10,"active":true}'                             | null
+        '{"active":true,"id":10,"note":"n","name":"Fred"}'                      | 'n'
+        '{"name":"Fred","unknown":{"a":[1,2]},"number":10,"active":true}'       | null
+        '{"name":"Fred","number":10,"active":true,"note":null,"name":"Fred"}'   | null
+        '{"note":"n","name":"Fred","number":10,"active":true,"extra":[1]}'      | 'n'
+    }
+
+    void "test unknown properties fail a creator bean that doesn't ignore them"() {
+        given:
+        def context = buildContext('creatorbean.Account', ACCOUNT.replace('IGNORE_UNKNOWN', 'false'))
+
+        when:
+        jsonMapper.readValue('{"name":"Fred","number":10,"active":true,"note":"n","extra":1}', typeUnderTest)
+
+        then:
+        def e = thrown(SerdeException)
+        e.message.contains('Unknown property [extra]')
+
+        cleanup:
+        context.close()
+    }
+}
@@ -0,0 +1,174 @@
+package io.micronaut.serde.jackson.object
+
+import io.micronaut.core.beans.BeanIntrospection
+import io.micronaut.serde.config.annotation.SerdeConfig
+import io.micronaut.serde.exceptions.SerdeException
+import io.micronaut.serde.jackson.JsonCompileSpec
+import spock.lang.Unroll
+
+class ExpectedKeyOrderSpec extends JsonCompileSpec {
+
+    void "test expected keys are computed at compilation time"() {
+        when:
+        BeanIntrospection introspection = buildBeanIntrospection('expectedkeys.Test', '''
+package expectedkeys;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+@JsonPropertyOrder({"active", "name"})
+class Test {
+    private String name;
+    private int balance;
+    private boolean active;
+    private String secret;
+    public void setName(String name) {
+        this.name = name;
+    }
+    public String getName() {
+        return name;
+    }
+    public void setBalance(int balance) {
+        this.balance = balance;
+    }
+    public int getBalance() {
+        return balance;
+    }
+    @JsonProperty("isActive")
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+    @JsonProperty("isActive")
+    public boolean isActive() {
+        return active;
+    }
+    @JsonIgnore
+    public String getSecret() {
+        return secret;
+    }
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+}
+''')
+
+        then:
+        introspection.stringValues(SerdeConfig, SerdeConfig.EXPECTED_KEYS) as List == ['isActive', 'name', 'balance']
+    }
+
+    @Unroll
+    void "test deserialize creator bean from #json"() {
+        given:
+        def context = buildContext('expectedkeys.Account', '''
+package expectedkeys;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+class Account {
+    private final String name;
+    private final long number;
+    private final boolean active;
+    private final String note;
+
+    @JsonCreator
+    Account(String name, long number, @JsonProperty("isActive") boolean active, @Nullable String note) {
+        this.name = name;
+        this.number = number;
+        this.active = active;
+        this.note = note;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getNumber() {
+        return number;
+    }
+
+    @JsonProperty("isActive")
+    public boolean isActive() {
+        return active;
+    }
+
+    @Nullable
+    public String getNote() {
+        return note;
+    }
+}
+''')
+
+        when:
+        def account = jsonMapper.readValue(json, typeUnderTest)
+
+        then:
+        account.name == 'Fred'
+        account.number == 10
+        account.active
+        account.note == note
+
+        cleanup:
+        context.close()
+
+        where:
+        json                                                                        | note
+        '{"name":"Fred","number":10,"isActive":true,"note":"n"}'                   | 'n'
+        '{"name":"Fred","number":10,"isActive":true}'                               | null
+        '{"isActive":true,"number":10,"name":"Fred","note":"n"}'                   | 'n'
+        '{"name":"Fred","unknown":{"a":[1,2]},"number":10,"isActive":true}'         | null
+        '{"name":"Fred","number":10,"isActive":true,"note":null,"name":"Fred"}'     | null
+    }
+
+    void "test deserialize bean out of order with missing required property"() {
+        given:
+        def context = buildContext('expectedkeys.Test', '''
+package expectedkeys;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+class Test {
+    private String name;
+    private int balance;
+    public void setName(@NonNull String name) {
+        this.name = name;
+    }
+    @NonNull
+    public String getName() {
+        return name;
+    }
+    public void setBalance(int balance) {
+        this.balance = balance;
+    }
+    public int getBalance() {
+        return balance;
+    }
+}
+''')
+
+        when:
+        def bean = jsonMapper.readValue('{"balance":5,"name":"Fred"}', typeUnderTest)
+
+        then:
+        bean.name == 'Fred'
+        bean.balance == 5
+
+        when:
+        jsonMapper.readValue('{"balance":5}', typeUnderTest)
+
+        then:
+        def e = thrown(SerdeException)
+        e.message.contains('Required property')
+
+        cleanup:
+        context.close()
+    }
+}
@@ -0,0 +1,98 @@
+package io.micronaut.serde.jackson.object
+
+import io.micronaut.serde.jackson.JsonCompileSpec
+
+class PropertyConsumerSpec extends JsonCompileSpec {
+
+    void "test deserialize bean with more than 64 properties"() {
+        given:
+        def count = 70
+        def members = (0..<count).collect { i ->
+            """
+    private int p$i;
+    public int getP$i() {
+        return p$i;
+    }
+    public void setP$i(int p$i) {
+        this.p$i = p$i;
+    }"""
+        }.join('\n')
+        def context = buildContext('consumer.Test', """
+package consumer;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+class Test {
+$members
+}
+""")
+
+        when:
+        def odd = (0..<count).findAll { it % 2 == 1 }
+        def bean = jsonMapper.readValue('{' + odd.collect { "\"p$it\":$it" }.join(',') + '}', typeUnderTest)
+        def all = jsonMapper.readValue('{' + (0..<count).reverse().collect { "\"p$it\":${it + 1}" }.join(',') + '}', typeUnderTest)
+
+        then:
+        (0..<count).every { bean."p$it" == (it % 2 == 1 ? it : 0) }
+        (0..<count).every { all."p$it" == it + 1 }
+
+        cleanup:
+        context.close()
+    }
+
+    void "test deserialize recursive bean"() {
+        given:
+        def context = buildContext('consumer.Node', '''
+package consumer;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+class Node {
+    private String name;
+    private int depth;
+    private Node child;
+    public String getName() {
+        return name;
+    }
+    public void setName(String name) {
+        this.name = name;
+    }
+    public int getDepth() {
+        return depth;
+    }
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+    @Nullable
+    public Node getChild() {
+        return child;
+    }
+    public void setChild(@Nullable Node child) {
+        this.child = child;
+    }
+}
+''')
+
+        when:
+        def first = jsonMapper.readValue('{"name":"a","child":{"name":"b","child":{"depth":2,"name":"c"},"depth":1}}', typeUnderTest)
+        def second = jsonMapper.readValue('{"child":{"name":"e"},"name":"d"}', typeUnderTest)
+
+        then:
+        first.name == 'a'
+        first.depth == 0
+        first.child.name == 'b'
+        first.child.depth == 1
+        first.child.child.name == 'c'
+        first.child.child.depth == 2
+        first.child.child.child == null
+        second.name == 'd'
+        second.child.name == 'e'
+        second.child.child == null
+
+        cleanup:
+        context.close()
+    }
+}
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
+import io.micronaut.serde.support.AbstractChildReuseStreamDecoder;
 import io.micronaut.serde.support.AbstractStreamDecoder;
 import io.micronaut.serde.exceptions.SerdeException;
 import jakarta.json.JsonNumber;
@@ -27,7 +28,7 @@ import jakarta.json.stream.JsonParser;
 /**
  * Implementation of the {@link io.micronaut.serde.Decoder} interface for JSON-P.
  */
-public class JsonParserDecoder extends AbstractStreamDecoder {
+public class JsonParserDecoder extends AbstractChildReuseStreamDecoder {
     private final JsonParser jsonParser;
     private JsonParser.Event currentEvent;
 
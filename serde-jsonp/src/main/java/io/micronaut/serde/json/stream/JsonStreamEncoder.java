@@ -18,6 +18,7 @@ package io.micronaut.serde.json.stream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.type.Argument;
@@ -26,49 +27,59 @@ import jakarta.json.stream.JsonGenerator;
 
 final class JsonStreamEncoder implements Encoder {
     private final JsonGenerator jsonGenerator;
-    private final JsonStreamEncoder parent;
-    private String currentKey;
-    private int currentIndex;
+
+    // state of every nesting level, level 0 is the root. A single encoder serves all levels
+    private int[] indexes = new int[8];
+    private String[] keys = new String[8];
+    private int depth = 0;
 
     public JsonStreamEncoder(JsonGenerator jsonGenerator) {
         this.jsonGenerator = jsonGenerator;
-        this.parent = null;
     }
 
-    private JsonStreamEncoder(JsonStreamEncoder parent) {
-        this.jsonGenerator = parent.jsonGenerator;
-        this.parent = parent;
+    private void postEncodeValue() {
+        indexes[depth]++;
     }
 
-    private void postEncodeValue() {
-        currentIndex++;
+    private void push() {
+        final int level = ++depth;
+        if (level == indexes.length) {
+            indexes = Arrays.copyOf(indexes, level * 2);
+            keys = Arrays.copyOf(keys, level * 2);
+        }
+        indexes[level] = 0;
+        keys[level] = null;
     }
 
     @Override
     public Encoder encodeArray(Argument<?> type) throws IOException {
         jsonGenerator.writeStartArray();
-        return new JsonStreamEncoder(this);
+        push();
+        return this;
     }
 
     @Override
     public Encoder encodeObject(Argument<?> type) throws IOException {
         jsonGenerator.writeStartObject();
-        return new JsonStreamEncoder(this);
+        push();
+        return this;
     }
 
     @Override
     public void finishStructure() throws IOException {
-        if (parent == null) {
+        if (depth == 0) {
             throw new IllegalStateException("Not a structure");
         }
         jsonGenerator.writeEnd();
-        parent.postEncodeValue();
+        keys[depth] = null;
+        depth--;
+        postEncodeValue();
     }
 
     @Override
     public void encodeKey(String key) throws IOException {
         jsonGenerator.writeKey(key);
-        this.currentKey = key;
+        keys[depth] = key;
     }
 
     @Override
@@ -147,19 +158,17 @@ final class JsonStreamEncoder implements Encoder {
     @Override
     public String currentPath() {
         StringBuilder builder = new StringBuilder();
-        JsonStreamEncoder enc = this;
-        while (enc != null) {
-            if (enc != this) {
-                builder.insert(0, "->");
+        for (int level = 0; level <= depth; level++) {
+            if (level != 0) {
+                builder.append("->");
             }
-            if (enc.currentKey == null) {
-                if (enc.parent != null) {
-                    builder.insert(0, enc.currentIndex);
+            if (keys[level] == null) {
+                if (level != 0) {
+                    builder.append(indexes[level]);
                 }
             } else {
-                builder.insert(0, enc.currentKey);
+                builder.append(keys[level]);
             }
-            enc = enc.parent;
         }
         return builder.toString();
     }
@@ -26,9 +26,11 @@ import io.micronaut.serde.Encoder;
 import io.micronaut.serde.ObjectMapper;
 import io.micronaut.serde.SerdeRegistry;
 import io.micronaut.serde.Serializer;
+import io.micronaut.serde.support.DecoderValueIterator;
 import io.micronaut.serde.support.util.BufferingJsonNodeProcessor;
 import io.micronaut.serde.support.util.JsonNodeDecoder;
 import io.micronaut.serde.support.util.JsonNodeEncoder;
+import io.micronaut.serde.support.util.SpecificSerdeCache;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.json.Json;
@@ -41,6 +43,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -52,16 +55,21 @@ import java.util.function.Consumer;
 public class JsonStreamMapper implements ObjectMapper {
     private final SerdeRegistry registry;
     private final Class<?> view;
+    private final Serializer.EncoderContext encoderContext;
+    private final Deserializer.DecoderContext decoderContext;
+    private final SpecificSerdeCache specificSerdeCache;
 
     @Inject
     public JsonStreamMapper(SerdeRegistry registry) {
-        this.registry = registry;
-        this.view = null;
+        this(registry, null);
     }
 
     public JsonStreamMapper(SerdeRegistry registry, Class<?> view) {
         this.registry = registry;
         this.view = view;
+        this.encoderContext = registry.newEncoderContext(view);
+        this.decoderContext = registry.newDecoderContext(view);
+        this.specificSerdeCache = new SpecificSerdeCache(registry, encoderContext, decoderContext);
     }
 
     @Override
@@ -71,11 +79,10 @@ public class JsonStreamMapper implements ObjectMapper {
 
     @Override
     public <T> T readValueFromTree(JsonNode tree, Argument<T> type) throws IOException {
-        Deserializer.DecoderContext context = registry.newDecoderContext(view);
-        final Deserializer<? extends T> deserializer = this.registry.findDeserializer(type).createSpecific(context, type);
+        final Deserializer<? extends T> deserializer = specificSerdeCache.findDeserializer(type);
         return deserializer.deserialize(
                 JsonNodeDecoder.create(tree),
-                context,
+                decoderContext,
                 type
         );
     }
@@ -87,6 +94,19 @@ public class JsonStreamMapper implements ObjectMapper {
         }
     }
 
+    @Override
+    public <T> Iterator<T> readValuesAsIterator(InputStream inputStream, Argument<T> type) throws IOException {
+        final JsonParser parser = Json.createParser(inputStream);
+        try {
+            final Deserializer<? extends T> deserializer = specificSerdeCache.findDeserializer(type);
+            // JSON-P only allows a single root value
+            return DecoderValueIterator.create(new JsonParserDecoder(parser), null, deserializer, decoderContext, type, parser);
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
     @Override
     public <T> T readValue(byte[] byteArray, Argument<T> type) throws IOException {
         try (JsonParser parser = Json.createParser(new ByteArrayInputStream(byteArray))) {
@@ -95,11 +115,10 @@ public class JsonStreamMapper implements ObjectMapper {
     }
 
     private <T> T readValue(JsonParser parser, Argument<T> type) throws IOException {
-        Deserializer.DecoderContext context = registry.newDecoderContext(view);
-        final Deserializer<? extends T> deserializer = this.registry.findDeserializer(type).createSpecific(context, type);
+        final Deserializer<? extends T> deserializer = specificSerdeCache.findDeserializer(type);
         return deserializer.deserialize(
                 new JsonParserDecoder(parser),
-                context,
+                decoderContext,
                 type
         );
     }
@@ -165,11 +184,10 @@ public class JsonStreamMapper implements ObjectMapper {
     }
 
     private void serialize(Encoder encoder, Object object, Argument type) throws IOException {
-        Serializer.EncoderContext context = registry.newEncoderContext(view);
-        final Serializer<Object> serializer = registry.findSerializer(type).createSpecific(context, type);
+        final Serializer<Object> serializer = specificSerdeCache.findSerializer(type);
         serializer.serialize(
                 encoder,
-                context,
+                encoderContext,
                 type, object
         );
     }
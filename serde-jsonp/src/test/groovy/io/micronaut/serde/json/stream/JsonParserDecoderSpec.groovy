@@ -122,4 +122,34 @@ class JsonParserDecoderSpec extends Specification {
                 f4: [56, [f5: 'bar']]
         ]
     }
+
+    def "nested structures reuse the decoder"() {
+        given:
+        def decoder = createDecoder('{"a":[1,{"b":2}],"c":3}')
+
+        when:
+        def object = decoder.decodeObject()
+        def key = object.decodeKey()
+        def array = object.decodeArray()
+        def first = array.decodeInt()
+        def inner = array.decodeObject()
+        def innerKey = inner.decodeKey()
+        def innerValue = inner.decodeInt()
+        inner.finishStructure()
+        array.finishStructure()
+        def next = object.decodeKey()
+        def last = object.decodeInt()
+
+        then:
+        object.is(decoder)
+        array.is(decoder)
+        inner.is(decoder)
+        key == 'a'
+        first == 1
+        innerKey == 'b'
+        innerValue == 2
+        next == 'c'
+        last == 3
+        object.decodeKey() == null
+    }
 }
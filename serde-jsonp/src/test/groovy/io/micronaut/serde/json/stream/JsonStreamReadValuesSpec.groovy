@@ -0,0 +1,28 @@
+package io.micronaut.serde.json.stream
+
+import io.micronaut.core.type.Argument
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest
+class JsonStreamReadValuesSpec extends Specification {
+
+    @Inject
+    JsonStreamMapper jsonMapper
+
+    def 'read the elements of an array one at a time'() {
+        expect:
+        jsonMapper.readValuesAsIterator(stream('[{"a":1},{"b":[2,3]},{}]'), Argument.mapOf(String, Object)).toList() == [[a: 1], [b: [2, 3]], [:]]
+        jsonMapper.readValuesAsStream(stream('["x","y"]'), Argument.of(String)).toArray() == ['x', 'y'] as Object[]
+    }
+
+    def 'a single root value is read as one value'() {
+        expect:
+        jsonMapper.readValuesAsIterator(stream('{"a":1}'), Argument.mapOf(String, Object)).toList() == [[a: 1]]
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes('UTF-8'))
+    }
+}
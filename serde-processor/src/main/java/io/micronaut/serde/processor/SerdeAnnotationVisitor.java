@@ -60,8 +60,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -599,9 +601,15 @@ public class SerdeAnnotationVisitor implements TypeElementVisitor<SerdeConfig, S
                     String[] names = subtype.stringValues("names");
                     String typeName;
 
+                    if (subElement != null && !subElement.isAssignable(element)) {
+                        // the registered subtypes are used as is at runtime
+                        context.fail("Registered subtype [" + className + "] must be a subtype of the annotated type: " + element.getName(), element);
+                        return;
+                    }
                     if (subElement != null && !subElement.hasStereotype(SerdeConfig.class)) {
                         if (ArrayUtils.isNotEmpty(names)) {
-                            typeName = names[0]; // TODO: support multiple
+                            // written with the first name, every name is accepted when reading
+                            typeName = names[0];
                         } else {
                             typeName = subElement.getSimpleName();
                         }
@@ -716,6 +724,9 @@ public class SerdeAnnotationVisitor implements TypeElementVisitor<SerdeConfig, S
                         allowSetters,
                         propertyNamingStrategy
                 );
+                computeExpectedKeys(element, beanProperties, fields);
+            } else {
+                computeExpectedKeys(element, beanProperties, Collections.emptyList());
             }
 
             final Optional<ClassElement> superType = findTypeInfo(element, false);
@@ -944,6 +955,34 @@ public class SerdeAnnotationVisitor implements TypeElementVisitor<SerdeConfig, S
         }
     }
 
+    private void computeExpectedKeys(ClassElement element,
+                                     List<? extends TypedElement> beanProperties,
+                                     List<? extends TypedElement> fields) {
+        if (element.isAbstract() || element.isInterface() || element.hasDeclaredAnnotation(SerdeConfig.Subtyped.class)) {
+            return;
+        }
+        if (element.stringValue(SerdeConfig.class, SerdeConfig.RUNTIME_NAMING).isPresent()) {
+            // names are only known at runtime
+            return;
+        }
+        // the same ordering the serializer applies, so that round-tripped documents hit the expected order
+        final List<TypedElement> candidates = Stream.<TypedElement>concat(beanProperties.stream(), fields.stream())
+                .filter(p -> !p.booleanValue(SerdeConfig.class, SerdeConfig.IGNORED).orElse(false))
+                .sorted(Comparator.comparingInt(p -> p.intValue(Order.class).orElse(0)))
+                .collect(Collectors.toList());
+        final Set<String> keys = new LinkedHashSet<>(candidates.size());
+        for (TypedElement candidate : candidates) {
+            keys.add(
+                    candidate.stringValue(SerdeConfig.class, SerdeConfig.PROPERTY).orElseGet(candidate::getName)
+            );
+        }
+        if (!keys.isEmpty()) {
+            element.annotate(SerdeConfig.class, builder ->
+                    builder.member(SerdeConfig.EXPECTED_KEYS, keys.toArray(new String[0]))
+            );
+        }
+    }
+
     private void ignoreProperty(boolean allowGetters, boolean allowSetters, TypedElement beanProperty) {
         final Consumer<Element> configurer = m ->
                 m.annotate(SerdeConfig.class, (builder) ->
@@ -18,6 +18,7 @@ dependencies {
     annotationProcessor("io.micronaut.docs:micronaut-docs-asciidoc-config-props:2.0.0")
 
     compileOnly(mn.micronaut.management)
+    compileOnly(libs.micrometer)
     api(projects.serdeApi)
 
     testAnnotationProcessor(mn.micronaut.inject.java)
@@ -26,4 +27,5 @@ dependencies {
     testImplementation(mn.micronaut.test.spock)
     testImplementation(mn.micronaut.http.server.netty)
     testImplementation(mn.micronaut.management)
+    testImplementation(libs.micrometer)
 }
\ No newline at end of file
@@ -21,22 +21,53 @@ import io.micronaut.core.annotation.NonNull;
 import java.io.IOException;
 
 /**
- * {@link AbstractStreamDecoder} extension that does not need to allocate for child decoders.
+ * {@link AbstractStreamDecoder} extension that does not need to allocate for child decoders. A single instance serves
+ * all nesting levels and only counts the depth, so the ownership checks of {@link AbstractStreamDecoder} are skipped
+ * unless strict checks are enabled, by default through the {@link #STRICT_CHECKS_PROPERTY} system property or for a
+ * single decoder through {@link #setStrictChecks(boolean)}.
  */
 @Internal
 public abstract class AbstractChildReuseStreamDecoder extends AbstractStreamDecoder {
+    /**
+     * System property that makes these decoders allocate a child decoder per structure again, keeping the ownership
+     * checks. Meant for debugging and tests.
+     */
+    public static final String STRICT_CHECKS_PROPERTY = "micronaut.serde.decoder.strict-checks";
+
+    private static final boolean STRICT_CHECKS = Boolean.getBoolean(STRICT_CHECKS_PROPERTY);
+
+    private boolean strictChecks = STRICT_CHECKS;
     private int depth = 0;
 
     protected AbstractChildReuseStreamDecoder(@NonNull AbstractStreamDecoder parent) {
         super(parent);
+        if (parent instanceof AbstractChildReuseStreamDecoder) {
+            this.strictChecks = ((AbstractChildReuseStreamDecoder) parent).strictChecks;
+        }
     }
 
     protected AbstractChildReuseStreamDecoder(@NonNull Class<?> view) {
         super(view);
     }
 
+    /**
+     * Enable or disable the ownership checks for this decoder and the child decoders it creates, overriding the
+     * {@link #STRICT_CHECKS_PROPERTY} system property. Must be called before the first array or object is decoded.
+     *
+     * @param strictChecks Whether to allocate a child decoder per structure and check its use
+     */
+    public final void setStrictChecks(boolean strictChecks) {
+        if (depth != 0 || parent != null || child != null) {
+            throw new IllegalStateException("Strict checks can only be changed before decoding a structure");
+        }
+        this.strictChecks = strictChecks;
+    }
+
     @Override
     AbstractStreamDecoder childDecoder() {
+        if (strictChecks) {
+            return super.childDecoder();
+        }
         depth++;
         parent = this;
         return this;
@@ -44,10 +75,17 @@ public abstract class AbstractChildReuseStreamDecoder extends AbstractStreamDeco
 
     @Override
     void checkChild() {
+        if (strictChecks) {
+            super.checkChild();
+        }
     }
 
     @Override
     void transferControlToParent() throws IOException {
+        if (strictChecks) {
+            super.transferControlToParent();
+            return;
+        }
         if (--depth == 0) {
             parent = null;
         }
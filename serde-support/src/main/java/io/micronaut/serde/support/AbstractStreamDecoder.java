@@ -22,11 +22,13 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.json.tree.JsonNode;
 import io.micronaut.serde.Decoder;
 import io.micronaut.serde.support.util.JsonNodeDecoder;
+import io.micronaut.serde.util.KeyTable;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,10 +39,15 @@ import java.util.function.Function;
  */
 @Internal
 public abstract class AbstractStreamDecoder implements Decoder {
+    /**
+     * Initial capacity of the buffers of the bulk array decoding methods.
+     */
+    protected static final int INITIAL_ARRAY_CAPACITY = 16;
+
     @Nullable
     AbstractStreamDecoder parent;
 
-    private AbstractStreamDecoder child = null;
+    AbstractStreamDecoder child = null;
 
     private boolean currentlyUnwrappingArray = false;
 
@@ -240,6 +247,61 @@ public abstract class AbstractStreamDecoder implements Decoder {
         return fieldName;
     }
 
+    /**
+     * Resolve the current object field name against the given table. Only called for {@link TokenType#KEY}.
+     * Implementations with access to the raw input should override this to avoid materializing the key.
+     *
+     * @param table The table of known keys
+     * @return The index of the key in the table or {@link KeyTable#NOT_FOUND}
+     * @throws java.io.IOException if an unrecoverable error occurs
+     */
+    protected int getCurrentKeyIndex(@NonNull KeyTable table) throws IOException {
+        return table.indexOf(getCurrentKey());
+    }
+
+    @Override
+    public final int decodeKeyIndex(@NonNull KeyTable table) throws IOException {
+        checkChild();
+        TokenType currentToken = currentToken();
+        if (currentToken == TokenType.END_OBJECT) {
+            // stay on the end token, will be handled in finishStructure
+            return END_OF_OBJECT;
+        }
+        if (currentToken != TokenType.KEY) {
+            throw new IllegalStateException("Not at a field name");
+        }
+        final int index = getCurrentKeyIndex(table);
+        if (index == KeyTable.NOT_FOUND) {
+            // stay on the key, will be handled in decodeKey
+            return UNRESOLVED_KEY;
+        }
+        nextToken();
+        return index;
+    }
+
+    /**
+     * Look ahead in the remaining keys of the current object, from the current key on, for the string value of the
+     * given key. Only called for {@link TokenType#KEY}, the position of the input must be left unchanged.
+     *
+     * @param key The key
+     * @return The value or {@code null} if it was not found or looking ahead is not supported
+     * @throws java.io.IOException if an unrecoverable error occurs
+     */
+    @Nullable
+    protected String lookaheadCurrentObject(@NonNull String key) throws IOException {
+        return null;
+    }
+
+    @Nullable
+    @Override
+    public final String lookaheadString(@NonNull String key) throws IOException {
+        checkChild();
+        if (currentToken() != TokenType.KEY) {
+            return null;
+        }
+        return lookaheadCurrentObject(key);
+    }
+
     /**
      * Create a new child decoder using {@link AbstractStreamDecoder#AbstractStreamDecoder(AbstractStreamDecoder)}.
      * @return The new decoder
@@ -314,6 +376,30 @@ public abstract class AbstractStreamDecoder implements Decoder {
         }
     }
 
+    /**
+     * Resolve the current string value against the given table. Only called for {@link TokenType#STRING}.
+     * Implementations with access to the raw input should override this to avoid materializing the value.
+     *
+     * @param table The table of known values
+     * @return The index of the value in the table or {@link KeyTable#NOT_FOUND}
+     * @throws java.io.IOException if an unrecoverable error occurs
+     */
+    protected int getCurrentStringIndex(@NonNull KeyTable table) throws IOException {
+        return table.indexOf(coerceScalarToString());
+    }
+
+    @Override
+    public final int decodeStringIndex(@NonNull KeyTable table) throws IOException {
+        preDecodeValue();
+        if (currentToken() != TokenType.STRING) {
+            // coercions
+            return table.indexOf(decodeString());
+        }
+        final int index = getCurrentStringIndex(table);
+        nextToken();
+        return index;
+    }
+
     /**
      * Decode the current {@link TokenType#BOOLEAN} value. Called for no other token type.
      * @return The boolean value
@@ -452,12 +538,61 @@ public abstract class AbstractStreamDecoder implements Decoder {
         }
     }
 
+    /**
+     * Parse the current {@link TokenType#STRING} value as an int. Only called for {@link TokenType#STRING}.
+     * Implementations with access to the raw input should override this to parse it without materializing the string.
+     *
+     * @return The value
+     * @throws java.io.IOException if the value is not an int
+     */
+    protected int getIntegerFromString() throws IOException {
+        String string = coerceScalarToString();
+        try {
+            return Integer.parseInt(string);
+        } catch (NumberFormatException e) {
+            throw createDeserializationException("Unable to coerce string to integer", string);
+        }
+    }
+
+    /**
+     * Parse the current {@link TokenType#STRING} value as a long. Only called for {@link TokenType#STRING}.
+     * Implementations with access to the raw input should override this to parse it without materializing the string.
+     *
+     * @return The value
+     * @throws java.io.IOException if the value is not a long
+     */
+    protected long getLongFromString() throws IOException {
+        String string = coerceScalarToString();
+        try {
+            return Long.parseLong(string);
+        } catch (NumberFormatException e) {
+            throw createDeserializationException("Unable to coerce string to integer", string);
+        }
+    }
+
+    /**
+     * Parse the current {@link TokenType#STRING} value as a double. Only called for {@link TokenType#STRING}.
+     * Implementations with access to the raw input should override this to parse it without materializing the string,
+     * e.g. with {@link io.micronaut.serde.support.util.NumberParser}.
+     *
+     * @return The value
+     * @throws java.io.IOException if the value is not a double
+     */
+    protected double getDoubleFromString() throws IOException {
+        String string = coerceScalarToString();
+        try {
+            return Double.parseDouble(string);
+        } catch (NumberFormatException e) {
+            throw createDeserializationException("Unable to coerce string to double", string);
+        }
+    }
+
     private int decodeInteger(long min, long max, boolean stringsAsChars) throws IOException {
         preDecodeValue();
         switch (currentToken()) {
             case STRING:
-                String string = coerceScalarToString();
                 if (stringsAsChars) {
+                    String string = coerceScalarToString();
                     if (string.length() != 1) {
                         throw createDeserializationException("When decoding char value, must give a single character", string);
                     }
@@ -465,12 +600,7 @@ public abstract class AbstractStreamDecoder implements Decoder {
                     nextToken();
                     return c;
                 } else {
-                    int value;
-                    try {
-                        value = Integer.parseInt(string);
-                    } catch (NumberFormatException e) {
-                        throw createDeserializationException("Unable to coerce string to integer", string);
-                    }
+                    int value = getIntegerFromString();
                     nextToken();
                     return value;
                 }
@@ -501,8 +631,8 @@ public abstract class AbstractStreamDecoder implements Decoder {
         preDecodeValue();
         switch (currentToken()) {
             case STRING:
-                String string = coerceScalarToString();
                 if (stringsAsChars) {
+                    String string = coerceScalarToString();
                     if (string.length() != 1) {
                         throw createDeserializationException("When decoding char value, must give a single character", string);
                     }
@@ -510,12 +640,7 @@ public abstract class AbstractStreamDecoder implements Decoder {
                     nextToken();
                     return c;
                 } else {
-                    long value;
-                    try {
-                        value = Long.parseLong(string);
-                    } catch (NumberFormatException e) {
-                        throw createDeserializationException("Unable to coerce string to integer", string);
-                    }
+                    long value = getLongFromString();
                     nextToken();
                     return value;
                 }
@@ -557,13 +682,7 @@ public abstract class AbstractStreamDecoder implements Decoder {
                 nextToken();
                 return value;
             case STRING:
-                String string = coerceScalarToString();
-                double number;
-                try {
-                    number = Double.parseDouble(string);
-                } catch (NumberFormatException e) {
-                    throw createDeserializationException("Unable to coerce string to double",  string);
-                }
+                double number = getDoubleFromString();
                 nextToken();
                 return number;
             case BOOLEAN:
@@ -584,6 +703,132 @@ public abstract class AbstractStreamDecoder implements Decoder {
         }
     }
 
+    @NonNull
+    @Override
+    public final int[] decodeIntArray() throws IOException {
+        preDecodeValue();
+        if (currentToken() != TokenType.START_ARRAY) {
+            throw unexpectedToken(TokenType.START_ARRAY);
+        }
+        nextToken();
+        final int[] values = decodeIntElements();
+        nextToken();
+        return values;
+    }
+
+    /**
+     * Decode the elements of the current array as int values, {@code null} elements as {@code 0}. Called on the first
+     * element and returns on the {@link TokenType#END_ARRAY}. Implementations with access to the raw input can
+     * override this with a tighter loop.
+     *
+     * @return The values
+     * @throws java.io.IOException if an unrecoverable error occurs
+     */
+    protected int[] decodeIntElements() throws IOException {
+        int[] buffer = new int[INITIAL_ARRAY_CAPACITY];
+        int size = 0;
+        TokenType token;
+        while ((token = currentToken()) != TokenType.END_ARRAY) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            if (token == TokenType.NUMBER) {
+                buffer[size] = getInteger();
+                nextToken();
+            } else if (token == TokenType.NULL) {
+                nextToken();
+            } else {
+                buffer[size] = decodeInt();
+            }
+            size++;
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    @NonNull
+    @Override
+    public final long[] decodeLongArray() throws IOException {
+        preDecodeValue();
+        if (currentToken() != TokenType.START_ARRAY) {
+            throw unexpectedToken(TokenType.START_ARRAY);
+        }
+        nextToken();
+        final long[] values = decodeLongElements();
+        nextToken();
+        return values;
+    }
+
+    /**
+     * Decode the elements of the current array as long values, {@code null} elements as {@code 0}. Called on the first
+     * element and returns on the {@link TokenType#END_ARRAY}. Implementations with access to the raw input can
+     * override this with a tighter loop.
+     *
+     * @return The values
+     * @throws java.io.IOException if an unrecoverable error occurs
+     */
+    protected long[] decodeLongElements() throws IOException {
+        long[] buffer = new long[INITIAL_ARRAY_CAPACITY];
+        int size = 0;
+        TokenType token;
+        while ((token = currentToken()) != TokenType.END_ARRAY) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            if (token == TokenType.NUMBER) {
+                buffer[size] = getLong();
+                nextToken();
+            } else if (token == TokenType.NULL) {
+                nextToken();
+            } else {
+                buffer[size] = decodeLong();
+            }
+            size++;
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    @NonNull
+    @Override
+    public final double[] decodeDoubleArray() throws IOException {
+        preDecodeValue();
+        if (currentToken() != TokenType.START_ARRAY) {
+            throw unexpectedToken(TokenType.START_ARRAY);
+        }
+        nextToken();
+        final double[] values = decodeDoubleElements();
+        nextToken();
+        return values;
+    }
+
+    /**
+     * Decode the elements of the current array as double values, {@code null} elements as {@code 0}. Called on the first
+     * element and returns on the {@link TokenType#END_ARRAY}. Implementations with access to the raw input can
+     * override this with a tighter loop.
+     *
+     * @return The values
+     * @throws java.io.IOException if an unrecoverable error occurs
+     */
+    protected double[] decodeDoubleElements() throws IOException {
+        double[] buffer = new double[INITIAL_ARRAY_CAPACITY];
+        int size = 0;
+        TokenType token;
+        while ((token = currentToken()) != TokenType.END_ARRAY) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            if (token == TokenType.NUMBER) {
+                buffer[size] = getDouble();
+                nextToken();
+            } else if (token == TokenType.NULL) {
+                nextToken();
+            } else {
+                buffer[size] = decodeDouble();
+            }
+            size++;
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
     @NonNull
     @Override
     public final BigInteger decodeBigInteger() throws IOException {
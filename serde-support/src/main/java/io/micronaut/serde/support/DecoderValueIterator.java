@@ -0,0 +1,172 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.Deserializer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator decoding one value at a time, for {@link io.micronaut.serde.ObjectMapper#readValuesAsIterator}. If the
+ * input is an array its elements are decoded, otherwise the root values. The input is closed once all values were
+ * read or decoding failed, failures are thrown as {@link UncheckedIOException}.
+ *
+ * @param <T> The type of the values
+ * @since 1.0.0
+ */
+@Internal
+public final class DecoderValueIterator<T> implements Iterator<T>, Closeable {
+    private final Decoder decoder;
+    private final boolean array;
+    @Nullable
+    private final MoreValues moreValues;
+    private final Deserializer<? extends T> deserializer;
+    private final Deserializer.DecoderContext decoderContext;
+    private final Argument<T> type;
+    private final Closeable input;
+    private boolean singleValueRead;
+    private boolean closed;
+
+    private DecoderValueIterator(Decoder decoder,
+                                 boolean array,
+                                 @Nullable MoreValues moreValues,
+                                 Deserializer<? extends T> deserializer,
+                                 Deserializer.DecoderContext decoderContext,
+                                 Argument<T> type,
+                                 Closeable input) {
+        this.decoder = decoder;
+        this.array = array;
+        this.moreValues = moreValues;
+        this.deserializer = deserializer;
+        this.decoderContext = decoderContext;
+        this.type = type;
+        this.input = input;
+    }
+
+    /**
+     * Create an iterator.
+     *
+     * @param rootDecoder    The root decoder, positioned at the first value
+     * @param moreValues     Checks whether the input has another root value, {@code null} if the format only allows a
+     *                       single root value
+     * @param deserializer   The deserializer of the values
+     * @param decoderContext The decoder context
+     * @param type           The type of the values
+     * @param input          Closed once all values were read
+     * @param <T>            The type of the values
+     * @return The iterator
+     * @throws IOException If the array can't be decoded
+     */
+    @NonNull
+    public static <T> DecoderValueIterator<T> create(@NonNull AbstractStreamDecoder rootDecoder,
+                                                     @Nullable MoreValues moreValues,
+                                                     @NonNull Deserializer<? extends T> deserializer,
+                                                     @NonNull Deserializer.DecoderContext decoderContext,
+                                                     @NonNull Argument<T> type,
+                                                     @NonNull Closeable input) throws IOException {
+        if (rootDecoder.currentToken() == AbstractStreamDecoder.TokenType.START_ARRAY) {
+            return new DecoderValueIterator<>(rootDecoder.decodeArray(type), true, null, deserializer, decoderContext, type, input);
+        }
+        return new DecoderValueIterator<>(rootDecoder, false, moreValues, deserializer, decoderContext, type, input);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        try {
+            final boolean hasNext;
+            if (array) {
+                hasNext = decoder.hasNextArrayValue();
+                if (!hasNext) {
+                    decoder.finishStructure();
+                }
+            } else if (moreValues != null) {
+                hasNext = moreValues.hasMoreValues();
+            } else {
+                hasNext = !singleValueRead;
+            }
+            if (!hasNext) {
+                close();
+            }
+            return hasNext;
+        } catch (IOException e) {
+            throw failed(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        singleValueRead = true;
+        try {
+            if (!deserializer.allowNull() && decoder.decodeNull()) {
+                return null;
+            }
+            return deserializer.deserialize(decoder, decoderContext, type);
+        } catch (IOException e) {
+            throw failed(e);
+        } catch (RuntimeException e) {
+            closeAfterFailure(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            input.close();
+        }
+    }
+
+    private UncheckedIOException failed(IOException e) {
+        closeAfterFailure(e);
+        return new UncheckedIOException(e);
+    }
+
+    private void closeAfterFailure(Exception failure) {
+        try {
+            close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Checks whether the input has another root value.
+     */
+    @FunctionalInterface
+    public interface MoreValues {
+        /**
+         * @return Whether there is another value
+         * @throws IOException If the input fails
+         */
+        boolean hasMoreValues() throws IOException;
+    }
+}
@@ -22,7 +22,6 @@ import io.micronaut.serde.Deserializer;
 import io.micronaut.serde.SerdeRegistry;
 import io.micronaut.serde.config.naming.PropertyNamingStrategy;
 import io.micronaut.serde.exceptions.SerdeException;
-import io.micronaut.serde.reference.AbstractPropertyReferenceManager;
 import io.micronaut.serde.reference.PropertyReference;
 
 import java.util.Collection;
@@ -33,7 +32,7 @@ import java.util.Collection;
  * @since 1.0.0
  */
 @Internal
-class DefaultDecoderContext extends AbstractPropertyReferenceManager implements Deserializer.DecoderContext {
+class DefaultDecoderContext extends ThreadLocalPropertyReferenceManager implements Deserializer.DecoderContext {
     private final SerdeRegistry registry;
 
     DefaultDecoderContext(SerdeRegistry registry) {
@@ -63,15 +62,13 @@ class DefaultDecoderContext extends AbstractPropertyReferenceManager implements
 
     @Override
     public <B, P> PropertyReference<B, P> resolveReference(PropertyReference<B, P> reference) {
-        if (refs != null) {
-            final PropertyReference<?, ?> first = refs.peekFirst();
-            if (first != null) {
-                if (first.getReferenceName().equals(reference.getProperty().getName())) {
-                    final Object o = first.getReference();
-                    if (o != null) {
-                        //noinspection unchecked
-                        return (PropertyReference<B, P>) first;
-                    }
+        final PropertyReference<?, ?> first = currentManagedRef();
+        if (first != null) {
+            if (first.getReferenceName().equals(reference.getProperty().getName())) {
+                final Object o = first.getReference();
+                if (o != null) {
+                    //noinspection unchecked
+                    return (PropertyReference<B, P>) first;
                 }
             }
         }
@@ -21,7 +21,6 @@ import io.micronaut.serde.SerdeRegistry;
 import io.micronaut.serde.Serializer;
 import io.micronaut.serde.config.naming.PropertyNamingStrategy;
 import io.micronaut.serde.exceptions.SerdeException;
-import io.micronaut.serde.reference.AbstractPropertyReferenceManager;
 import io.micronaut.serde.reference.PropertyReference;
 import io.micronaut.serde.reference.SerializationReference;
 
@@ -31,7 +30,7 @@ import io.micronaut.serde.reference.SerializationReference;
  * @since 1.0.0
  */
 @Internal
-class DefaultEncoderContext extends AbstractPropertyReferenceManager implements Serializer.EncoderContext {
+class DefaultEncoderContext extends ThreadLocalPropertyReferenceManager implements Serializer.EncoderContext {
     private final SerdeRegistry registry;
 
     DefaultEncoderContext(SerdeRegistry registry) {
@@ -57,12 +56,10 @@ class DefaultEncoderContext extends AbstractPropertyReferenceManager implements
     @Override
     public <B, P> SerializationReference<B, P> resolveReference(SerializationReference<B, P> reference) {
         final Object value = reference.getReference();
-        if (refs != null) {
-            final PropertyReference<?, ?> managedReference = refs.peekFirst();
-            if (managedReference != null && managedReference.getProperty().getName().equals(reference.getReferenceName())) {
-                if (managedReference.getReference() == value) {
-                    return null;
-                }
+        final PropertyReference<?, ?> managedReference = currentManagedRef();
+        if (managedReference != null && managedReference.getProperty().getName().equals(reference.getReferenceName())) {
+            if (managedReference.getReference() == value) {
+                return null;
             }
         }
         return reference;
@@ -43,10 +43,13 @@ import io.micronaut.serde.support.serdes.NumberSerde;
 import io.micronaut.serde.support.serializers.ObjectSerializer;
 import io.micronaut.serde.util.NullableDeserializer;
 import io.micronaut.serde.util.NullableSerde;
+import io.micronaut.serde.support.util.TypeCache;
 import io.micronaut.serde.support.util.TypeKey;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import java.io.IOException;
+import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
@@ -57,7 +60,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -65,9 +70,9 @@ import java.util.Objects;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -80,8 +85,10 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
     private final Serializer<Object> objectSerializer;
     private final Map<Class<?>, List<BeanDefinition<Serializer>>> serializerDefMap;
     private final Map<Class<?>, List<BeanDefinition<Deserializer>>> deserializerDefMap;
-    private final Map<TypeKey, Serializer<?>> serializerMap = new ConcurrentHashMap<>(50);
-    private final Map<TypeKey, Deserializer<?>> deserializerMap = new ConcurrentHashMap<>(50);
+    // every supertype of a type with a deserializer bean, those are the only types the bean context can match
+    private final Set<Class<?>> deserializerSupertypes = new HashSet<>();
+    private final TypeCache<Serializer<?>> serializerMap;
+    private final TypeCache<Deserializer<?>> deserializerMap;
     private final BeanContext beanContext;
     private final SerdeIntrospections introspections;
     private final Deserializer<Object> objectDeserializer;
@@ -93,6 +100,46 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
             ObjectDeserializer objectDeserializer,
             Serde<Object[]> objectArraySerde,
             SerdeIntrospections introspections) {
+        this(
+                beanContext,
+                objectSerializer,
+                objectDeserializer,
+                objectArraySerde,
+                introspections,
+                new TypeCache<>(SerdeCaches.SERIALIZERS, TypeCache.UNBOUNDED),
+                new TypeCache<>(SerdeCaches.DESERIALIZERS, TypeCache.UNBOUNDED)
+        );
+    }
+
+    @Inject
+    public DefaultSerdeRegistry(
+            BeanContext beanContext,
+            ObjectSerializer objectSerializer,
+            ObjectDeserializer objectDeserializer,
+            Serde<Object[]> objectArraySerde,
+            SerdeIntrospections introspections,
+            SerdeCaches caches) {
+        this(
+                beanContext,
+                objectSerializer,
+                objectDeserializer,
+                objectArraySerde,
+                introspections,
+                caches.create(SerdeCaches.SERIALIZERS, caches.getConfiguration().getSerializers()),
+                caches.create(SerdeCaches.DESERIALIZERS, caches.getConfiguration().getDeserializers())
+        );
+    }
+
+    private DefaultSerdeRegistry(
+            BeanContext beanContext,
+            ObjectSerializer objectSerializer,
+            ObjectDeserializer objectDeserializer,
+            Serde<Object[]> objectArraySerde,
+            SerdeIntrospections introspections,
+            TypeCache<Serializer<?>> serializerMap,
+            TypeCache<Deserializer<?>> deserializerMap) {
+        this.serializerMap = serializerMap;
+        this.deserializerMap = deserializerMap;
         final Collection<BeanDefinition<Serializer>> serializers =
                 beanContext.getBeanDefinitions(Serializer.class);
         final Collection<BeanDefinition<Deserializer>> deserializers =
@@ -143,6 +190,10 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
             }
         }
 
+        for (Class<?> deserializableType : deserializerDefMap.keySet()) {
+            deserializerSupertypes.addAll(typeHierarchy(deserializableType));
+        }
+
         registerBuiltInSerdes();
         registerPrimitiveSerdes();
         this.objectSerializer = objectSerializer;
@@ -150,26 +201,26 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
     }
 
     private void registerPrimitiveSerdes() {
-        this.deserializerMap.put(
+        this.deserializerMap.pin(
                 new TypeKey(Argument.BOOLEAN),
                 (decoder, decoderContext, type) -> decoder.decodeBoolean()
         );
-        this.deserializerMap.put(
+        this.deserializerMap.pin(
                 new TypeKey(Argument.of(Boolean.class)),
                 (NullableDeserializer<Boolean>) (decoder, decoderContext, type) -> decoder.decodeBoolean()
         );
-        this.deserializerMap.put(
+        this.deserializerMap.pin(
                 new TypeKey(Argument.CHAR),
                 (decoder, decoderContext, type) -> decoder.decodeChar()
         );
-        this.deserializerMap.put(
+        this.deserializerMap.pin(
                 new TypeKey(Argument.of(Character.class)),
                 (NullableDeserializer<Character>) (decoder, decoderContext, type) -> decoder.decodeChar()
         );
     }
 
     private void registerBuiltInSerdes() {
-        this.deserializerMap.put(new TypeKey(Argument.STRING),
+        this.deserializerMap.pin(new TypeKey(Argument.STRING),
                                  (NullableDeserializer<String>) (decoder, decoderContext, type) -> decoder.decodeString());
         Stream.of(
                 new IntegerSerde(),
@@ -203,8 +254,8 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
     private void register(SerdeRegistrar<?> serdeRegistrar) {
         for (Argument<?> type : serdeRegistrar.getTypes()) {
             final TypeKey typeEntry = new TypeKey(type);
-            DefaultSerdeRegistry.this.deserializerMap.put(typeEntry, serdeRegistrar);
-            DefaultSerdeRegistry.this.serializerMap.put(typeEntry, serdeRegistrar);
+            DefaultSerdeRegistry.this.deserializerMap.pin(typeEntry, serdeRegistrar);
+            DefaultSerdeRegistry.this.serializerMap.pin(typeEntry, serdeRegistrar);
         }
     }
 
@@ -230,36 +281,37 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
         final Deserializer<?> deserializer = deserializerMap.get(key);
         if (deserializer != null) {
             return (Deserializer<? extends T>) deserializer;
-        } else {
-            final Argument<Deserializer> deserializerArgument = Argument.of(Deserializer.class, type);
-            final Collection<BeanRegistration<Deserializer>> beanRegistrations = beanContext
-                    .getBeanRegistrations(deserializerArgument, null);
-            Deserializer<?> deser = null;
-            if (beanRegistrations.size() == 1) {
-                deser = beanRegistrations.iterator().next().bean();
-            } else if (!beanRegistrations.isEmpty()) {
-                final List<BeanRegistration<Deserializer>> results = beanRegistrations.stream()
-                        .filter((r) -> {
-                            final Class<?>[] typeParameters = r.getBeanDefinition().getTypeParameters(Deserializer.class);
-                            return typeParameters.length == 1 && typeParameters[0].equals(type.getType());
-                        })
-                        .collect(Collectors.toList());
-                if (results.size() == 1) {
-                    deser = results.iterator().next().bean();
-                } else {
-                    deser = beanContext.findBean(deserializerArgument).orElse(null);
-                }
-            }
-            if (deser != null) {
-                deserializerMap.put(key, deser);
-                return (Deserializer<? extends T>) deser;
+        }
+        final long start = System.nanoTime();
+        final Argument<Deserializer> deserializerArgument = Argument.of(Deserializer.class, type);
+        final Collection<BeanRegistration<Deserializer>> beanRegistrations = hasDeserializerBeans(type.getType())
+                ? beanContext.getBeanRegistrations(deserializerArgument, null)
+                : Collections.emptyList();
+        Deserializer<?> deser = null;
+        if (beanRegistrations.size() == 1) {
+            deser = beanRegistrations.iterator().next().bean();
+        } else if (!beanRegistrations.isEmpty()) {
+            final List<BeanRegistration<Deserializer>> results = beanRegistrations.stream()
+                    .filter((r) -> {
+                        final Class<?>[] typeParameters = r.getBeanDefinition().getTypeParameters(Deserializer.class);
+                        return typeParameters.length == 1 && typeParameters[0].equals(type.getType());
+                    })
+                    .collect(Collectors.toList());
+            if (results.size() == 1) {
+                deser = results.iterator().next().bean();
+            } else {
+                deser = beanContext.findBean(deserializerArgument).orElse(null);
             }
         }
+        if (deser != null) {
+            deserializerMap.put(key, deser, System.nanoTime() - start);
+            return (Deserializer<? extends T>) deser;
+        }
         if (key.getType().isArray()) {
-            deserializerMap.put(key, objectArraySerde);
+            deserializerMap.put(key, objectArraySerde, System.nanoTime() - start);
             return (Deserializer<? extends T>) objectArraySerde;
         } else {
-            deserializerMap.put(key, objectDeserializer);
+            deserializerMap.put(key, objectDeserializer, System.nanoTime() - start);
             return (Deserializer<? extends T>) objectDeserializer;
         }
     }
@@ -278,12 +330,13 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
             //noinspection unchecked
             return (Serializer<? super T>) serializer;
         } else {
+            final long start = System.nanoTime();
             List<BeanDefinition<Serializer>> possibles = serializerDefMap.get(type.getType());
             if (possibles == null) {
-                for (Map.Entry<Class<?>, List<BeanDefinition<Serializer>>> entry : serializerDefMap.entrySet()) {
-                    final Class<?> targetType = entry.getKey();
-                    if (targetType.isAssignableFrom(type.getType())) {
-                        possibles = entry.getValue();
+                // probe the supertypes, nearest first, rather than testing every serializer type
+                for (Class<?> targetType : typeHierarchy(type.getType())) {
+                    possibles = serializerDefMap.get(targetType);
+                    if (possibles != null) {
                         final Argument<?>[] params = type.getTypeParameters();
                         if (ArrayUtils.isNotEmpty(params)) {
                             // narrow for generics
@@ -318,7 +371,7 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
                 if (possibles.size() == 1) {
                     final BeanDefinition<Serializer> definition = possibles.iterator().next();
                     final Serializer locatedSerializer = beanContext.getBean(definition);
-                    serializerMap.put(key, locatedSerializer);
+                    serializerMap.put(key, locatedSerializer, System.nanoTime() - start);
                     return locatedSerializer;
                 } else if (possibles.isEmpty()) {
                     throw new SerdeException("No serializers found for type: " + type);
@@ -326,16 +379,59 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
 
                     final BeanDefinition<Serializer> definition = lastChanceResolve(type, possibles);
                     final Serializer locatedSerializer = beanContext.getBean(definition);
-                    serializerMap.put(key, locatedSerializer);
+                    serializerMap.put(key, locatedSerializer, System.nanoTime() - start);
                     return locatedSerializer;
                 }
             } else {
-                serializerMap.put(key, objectSerializer);
+                serializerMap.put(key, objectSerializer, System.nanoTime() - start);
             }
         }
         return objectSerializer;
     }
 
+    /**
+     * Whether a deserializer bean may exist for the given type, i.e. whether a type with a deserializer bean is a
+     * subtype or supertype of it. Arrays are always looked up since array types have no supertype chain.
+     */
+    private boolean hasDeserializerBeans(Class<?> type) {
+        if (type.isArray() || deserializerSupertypes.contains(type)) {
+            return true;
+        }
+        for (Class<?> supertype : typeHierarchy(type)) {
+            if (deserializerDefMap.containsKey(supertype)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The type, its superclasses and then its interfaces breadth first, {@link Object} excluded. Arrays of
+     * objects are followed by the arrays of the supertypes of their component type
+     */
+    private static Collection<Class<?>> typeHierarchy(Class<?> type) {
+        final Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        if (type.isArray() && !type.getComponentType().isPrimitive()) {
+            hierarchy.add(type);
+            for (Class<?> componentSupertype : typeHierarchy(type.getComponentType())) {
+                hierarchy.add(Array.newInstance(componentSupertype, 0).getClass());
+            }
+            hierarchy.add(Array.newInstance(Object.class, 0).getClass());
+        }
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            hierarchy.add(c);
+        }
+        final List<Class<?>> pending = new ArrayList<>(hierarchy);
+        for (int i = 0; i < pending.size(); i++) {
+            for (Class<?> anInterface : pending.get(i).getInterfaces()) {
+                if (hierarchy.add(anInterface)) {
+                    pending.add(anInterface);
+                }
+            }
+        }
+        return hierarchy;
+    }
+
     private BeanDefinition<Serializer> lastChanceResolve(
             Argument<?> type,
             Collection<BeanDefinition<Serializer>> candidates) throws SerdeException {
@@ -604,31 +700,14 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
         @Override
         public boolean[] deserializeNonNull(Decoder decoder, DecoderContext decoderContext, Argument<? super boolean[]> type)
                 throws IOException {
-            final Decoder arrayDecoder = decoder.decodeArray();
-            boolean[] buffer = new boolean[50];
-            int index = 0;
-            while (arrayDecoder.hasNextArrayValue()) {
-                if (buffer.length == index) {
-                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
-                }
-                if (!arrayDecoder.decodeNull()) {
-                    buffer[index] = arrayDecoder.decodeBoolean();
-                }
-                index++;
-            }
-            arrayDecoder.finishStructure();
-            return Arrays.copyOf(buffer, index);
+            return decoder.decodeBooleanArray();
         }
 
         @Override
         public void serialize(Encoder encoder,
                               EncoderContext context,
                               Argument<? extends boolean[]> type, boolean[] value) throws IOException {
-            final Encoder arrayEncoder = encoder.encodeArray(type);
-            for (boolean i : value) {
-                arrayEncoder.encodeBoolean(i);
-            }
-            arrayEncoder.finishStructure();
+            encoder.encodeBooleanArray(type, value, 0, value.length);
         }
 
         @Override
@@ -646,31 +725,14 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
         @Override
         public double[] deserializeNonNull(Decoder decoder, DecoderContext decoderContext, Argument<? super double[]> type)
                 throws IOException {
-            final Decoder arrayDecoder = decoder.decodeArray();
-            double[] buffer = new double[50];
-            int index = 0;
-            while (arrayDecoder.hasNextArrayValue()) {
-                if (buffer.length == index) {
-                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
-                }
-                if (!arrayDecoder.decodeNull()) {
-                    buffer[index] = arrayDecoder.decodeDouble();
-                }
-                index++;
-            }
-            arrayDecoder.finishStructure();
-            return Arrays.copyOf(buffer, index);
+            return decoder.decodeDoubleArray();
         }
 
         @Override
         public void serialize(Encoder encoder,
                               EncoderContext context,
                               Argument<? extends double[]> type, double[] value) throws IOException {
-            final Encoder arrayEncoder = encoder.encodeArray(type);
-            for (double i : value) {
-                arrayEncoder.encodeDouble(i);
-            }
-            arrayEncoder.finishStructure();
+            encoder.encodeDoubleArray(type, value, 0, value.length);
         }
 
         @Override
@@ -688,31 +750,14 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
         @Override
         public short[] deserializeNonNull(Decoder decoder, DecoderContext decoderContext, Argument<? super short[]> type)
                 throws IOException {
-            final Decoder arrayDecoder = decoder.decodeArray();
-            short[] buffer = new short[50];
-            int index = 0;
-            while (arrayDecoder.hasNextArrayValue()) {
-                if (buffer.length == index) {
-                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
-                }
-                if (!arrayDecoder.decodeNull()) {
-                    buffer[index] = arrayDecoder.decodeShort();
-                }
-                index++;
-            }
-            arrayDecoder.finishStructure();
-            return Arrays.copyOf(buffer, index);
+            return decoder.decodeShortArray();
         }
 
         @Override
         public void serialize(Encoder encoder,
                               EncoderContext context,
                               Argument<? extends short[]> type, short[] value) throws IOException {
-            final Encoder arrayEncoder = encoder.encodeArray(type);
-            for (short i : value) {
-                arrayEncoder.encodeShort(i);
-            }
-            arrayEncoder.finishStructure();
+            encoder.encodeShortArray(type, value, 0, value.length);
         }
 
         @Override
@@ -730,31 +775,14 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
         @Override
         public float[] deserializeNonNull(Decoder decoder, DecoderContext decoderContext, Argument<? super float[]> type)
                 throws IOException {
-            final Decoder arrayDecoder = decoder.decodeArray();
-            float[] buffer = new float[50];
-            int index = 0;
-            while (arrayDecoder.hasNextArrayValue()) {
-                if (buffer.length == index) {
-                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
-                }
-                if (!arrayDecoder.decodeNull()) {
-                    buffer[index] = arrayDecoder.decodeFloat();
-                }
-                index++;
-            }
-            arrayDecoder.finishStructure();
-            return Arrays.copyOf(buffer, index);
+            return decoder.decodeFloatArray();
         }
 
         @Override
         public void serialize(Encoder encoder,
                               EncoderContext context,
                               Argument<? extends float[]> type, float[] value) throws IOException {
-            final Encoder arrayEncoder = encoder.encodeArray(type);
-            for (float i : value) {
-                arrayEncoder.encodeFloat(i);
-            }
-            arrayEncoder.finishStructure();
+            encoder.encodeFloatArray(type, value, 0, value.length);
         }
 
         @Override
@@ -773,31 +801,14 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
         @Override
         public long[] deserializeNonNull(Decoder decoder, DecoderContext decoderContext, Argument<? super long[]> type)
                 throws IOException {
-            final Decoder arrayDecoder = decoder.decodeArray();
-            long[] buffer = new long[50];
-            int index = 0;
-            while (arrayDecoder.hasNextArrayValue()) {
-                if (buffer.length == index) {
-                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
-                }
-                if (!arrayDecoder.decodeNull()) {
-                    buffer[index] = arrayDecoder.decodeLong();
-                }
-                index++;
-            }
-            arrayDecoder.finishStructure();
-            return Arrays.copyOf(buffer, index);
+            return decoder.decodeLongArray();
         }
 
         @Override
         public void serialize(Encoder encoder,
                               EncoderContext context,
                               Argument<? extends long[]> type, long[] value) throws IOException {
-            final Encoder arrayEncoder = encoder.encodeArray(type);
-            for (long i : value) {
-                arrayEncoder.encodeLong(i);
-            }
-            arrayEncoder.finishStructure();
+            encoder.encodeLongArray(type, value, 0, value.length);
         }
 
         @Override
@@ -899,31 +910,14 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
         @Override
         public int[] deserializeNonNull(Decoder decoder, DecoderContext decoderContext, Argument<? super int[]> type)
                 throws IOException {
-            final Decoder arrayDecoder = decoder.decodeArray();
-            int[] buffer = new int[50];
-            int index = 0;
-            while (arrayDecoder.hasNextArrayValue()) {
-                if (buffer.length == index) {
-                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
-                }
-                if (!arrayDecoder.decodeNull()) {
-                    buffer[index] = arrayDecoder.decodeInt();
-                }
-                index++;
-            }
-            arrayDecoder.finishStructure();
-            return Arrays.copyOf(buffer, index);
+            return decoder.decodeIntArray();
         }
 
         @Override
         public void serialize(Encoder encoder,
                               EncoderContext context,
                               Argument<? extends int[]> type, int[] value) throws IOException {
-            final Encoder arrayEncoder = encoder.encodeArray(type);
-            for (int i : value) {
-                arrayEncoder.encodeInt(i);
-            }
-            arrayEncoder.finishStructure();
+            encoder.encodeIntArray(type, value, 0, value.length);
         }
 
         @Override
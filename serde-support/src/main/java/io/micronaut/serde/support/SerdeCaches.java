@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.serde.support.config.SerdeCacheConfiguration;
+import io.micronaut.serde.support.util.TypeCache;
+import jakarta.inject.Singleton;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Creates the per type caches of the registry, the object serializer and the object deserializer, and keeps track
+ * of them so their statistics can be exposed.
+ *
+ * @since 1.0.0
+ */
+@Internal
+@Singleton
+public final class SerdeCaches {
+    public static final String SERIALIZERS = "serializers";
+    public static final String DESERIALIZERS = "deserializers";
+    public static final String SER_BEANS = "ser-beans";
+    public static final String DESER_BEANS = "deser-beans";
+
+    private final SerdeCacheConfiguration configuration;
+    private final Collection<TypeCache<?>> caches = new CopyOnWriteArrayList<>();
+    private final Collection<Consumer<TypeCache<?>>> listeners = new CopyOnWriteArrayList<>();
+
+    public SerdeCaches(SerdeCacheConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * @return The configuration of the cache bounds
+     */
+    @NonNull
+    public SerdeCacheConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Create a cache and track it.
+     *
+     * @param name        The name of the cache
+     * @param maximumSize The maximum number of entries
+     * @param <V>         The type of the values
+     * @return The cache
+     */
+    @NonNull
+    public synchronized <V> TypeCache<V> create(@NonNull String name, long maximumSize) {
+        final TypeCache<V> cache = new TypeCache<>(name, maximumSize);
+        caches.add(cache);
+        for (Consumer<TypeCache<?>> listener : listeners) {
+            listener.accept(cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Apply an action to every cache, the caches already created and those created later, e.g. when the registry
+     * is created after the metrics are bound.
+     *
+     * @param action The action
+     */
+    public synchronized void forEachCache(@NonNull Consumer<TypeCache<?>> action) {
+        for (TypeCache<?> cache : caches) {
+            action.accept(cache);
+        }
+        listeners.add(action);
+    }
+
+    /**
+     * @return The created caches
+     */
+    @NonNull
+    public Collection<TypeCache<?>> getCaches() {
+        return Collections.unmodifiableCollection(caches);
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospectionReference;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.SerdeIntrospections;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.Serializer;
+import io.micronaut.serde.annotation.Serdeable;
+import io.micronaut.serde.support.config.SerdeWarmupConfiguration;
+import io.micronaut.serde.support.deserializers.ObjectDeserializer;
+import io.micronaut.serde.support.serializers.ObjectSerializer;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resolves and initializes the serializers and deserializers of all serdeable types at startup, so the first
+ * requests don't pay for it. Enabled with {@code micronaut.serde.warmup.enabled}.
+ *
+ * @since 1.0.0
+ */
+@Internal
+@Singleton
+@Requires(property = SerdeWarmupConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+public final class SerdeWarmup implements ApplicationEventListener<StartupEvent> {
+    private static final Logger LOG = LoggerFactory.getLogger(SerdeWarmup.class);
+
+    private final SerdeIntrospections introspections;
+    private final SerdeRegistry registry;
+    private final ObjectSerializer objectSerializer;
+    private final ObjectDeserializer objectDeserializer;
+    private final SerdeWarmupConfiguration configuration;
+    private volatile Report report;
+
+    public SerdeWarmup(SerdeIntrospections introspections,
+                       SerdeRegistry registry,
+                       ObjectSerializer objectSerializer,
+                       ObjectDeserializer objectDeserializer,
+                       SerdeWarmupConfiguration configuration) {
+        this.introspections = introspections;
+        this.registry = registry;
+        this.objectSerializer = objectSerializer;
+        this.objectDeserializer = objectDeserializer;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void onApplicationEvent(StartupEvent event) {
+        final Report report = warmUp();
+        this.report = report;
+        if (LOG.isInfoEnabled()) {
+            LOG.info("Warmed up {} serializers and {} deserializers in {}ms, {} serializers and {} deserializers failed",
+                    report.getSerializerNanos().size(),
+                    report.getDeserializerNanos().size(),
+                    TimeUnit.NANOSECONDS.toMillis(report.getTotalNanos()),
+                    report.getSerializerFailures().size(),
+                    report.getDeserializerFailures().size());
+        }
+        if (LOG.isDebugEnabled()) {
+            logSlowestFirst("serializer", report.getSerializerNanos());
+            logSlowestFirst("deserializer", report.getDeserializerNanos());
+            report.getSerializerFailures().forEach((type, failure) ->
+                    LOG.debug("Failed to warm up serializer of {}: {}", type, failure.getMessage()));
+            report.getDeserializerFailures().forEach((type, failure) ->
+                    LOG.debug("Failed to warm up deserializer of {}: {}", type, failure.getMessage()));
+        }
+    }
+
+    /**
+     * @return The report of the startup warm-up, {@code null} until it completed
+     */
+    @Nullable
+    public Report getReport() {
+        return report;
+    }
+
+    /**
+     * Resolve and initialize the serializers and deserializers of all serdeable types.
+     *
+     * @return The time each type took
+     */
+    @NonNull
+    public Report warmUp() {
+        final long start = System.nanoTime();
+        final Report report = new Report();
+        final Serializer.EncoderContext encoderContext = registry.newEncoderContext(null);
+        final Deserializer.DecoderContext decoderContext = registry.newDecoderContext(null);
+        final Collection<BeanIntrospection<Object>> candidates = introspections.getBeanIntrospector()
+                .findIntrospections(BeanIntrospectionReference::isPresent);
+        final List<Runnable> tasks = new ArrayList<>(candidates.size() * 2);
+        for (BeanIntrospection<Object> introspection : candidates) {
+            final Argument<Object> type = Argument.of(introspection.getBeanType());
+            if (introspection.hasStereotype(Serdeable.Serializable.class)) {
+                tasks.add(() -> warmUpSerializer(type, encoderContext, report));
+            }
+            if (introspection.hasStereotype(Serdeable.Deserializable.class)) {
+                tasks.add(() -> warmUpDeserializer(type, decoderContext, report));
+            }
+        }
+        run(tasks);
+        report.totalNanos = System.nanoTime() - start;
+        return report;
+    }
+
+    private void warmUpSerializer(Argument<Object> type, Serializer.EncoderContext encoderContext, Report report) {
+        try {
+            final long start = System.nanoTime();
+            final Serializer<? super Object> serializer = registry.findSerializer(type);
+            if (serializer == objectSerializer) {
+                objectSerializer.warmUp(type, encoderContext);
+            } else {
+                serializer.createSpecific(encoderContext, type);
+            }
+            report.serializerNanos.put(type, System.nanoTime() - start);
+        } catch (Exception | LinkageError | StackOverflowError e) {
+            report.serializerFailures.put(type, e);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void warmUpDeserializer(Argument<Object> type, Deserializer.DecoderContext decoderContext, Report report) {
+        try {
+            final long start = System.nanoTime();
+            final Deserializer deserializer = registry.findDeserializer(type);
+            if (deserializer == objectDeserializer) {
+                objectDeserializer.warmUp(type, decoderContext);
+            } else {
+                deserializer.createSpecific(decoderContext, type);
+            }
+            report.deserializerNanos.put(type, System.nanoTime() - start);
+        } catch (Exception | LinkageError | StackOverflowError e) {
+            report.deserializerFailures.put(type, e);
+        }
+    }
+
+    private void run(List<Runnable> tasks) {
+        final int parallelism = Math.min(configuration.getParallelism(), tasks.size());
+        if (parallelism <= 1) {
+            tasks.forEach(Runnable::run);
+            return;
+        }
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            final Thread thread = new Thread(runnable, "serde-warmup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<Future<?>> futures = new ArrayList<>(tasks.size());
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // warm-up failures are not fatal, the serde is resolved again on first use
+                    LOG.warn("Serde warm-up task failed: {}", e.getCause().getMessage(), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void logSlowestFirst(String kind, Map<Argument<?>, Long> nanos) {
+        nanos.entrySet().stream()
+                .sorted(Map.Entry.<Argument<?>, Long>comparingByValue().reversed())
+                .forEach(entry -> LOG.debug("Warmed up {} of {} in {}us", kind, entry.getKey(),
+                        TimeUnit.NANOSECONDS.toMicros(entry.getValue())));
+    }
+
+    /**
+     * The time each type took to warm up.
+     */
+    public static final class Report {
+        private final Map<Argument<?>, Long> serializerNanos = new ConcurrentHashMap<>();
+        private final Map<Argument<?>, Long> deserializerNanos = new ConcurrentHashMap<>();
+        private final Map<Argument<?>, Throwable> serializerFailures = new ConcurrentHashMap<>();
+        private final Map<Argument<?>, Throwable> deserializerFailures = new ConcurrentHashMap<>();
+        private long totalNanos;
+
+        /**
+         * @return The time in nanoseconds each serializer took to resolve and initialize
+         */
+        @NonNull
+        public Map<Argument<?>, Long> getSerializerNanos() {
+            return Collections.unmodifiableMap(serializerNanos);
+        }
+
+        /**
+         * @return The time in nanoseconds each deserializer took to resolve and initialize
+         */
+        @NonNull
+        public Map<Argument<?>, Long> getDeserializerNanos() {
+            return Collections.unmodifiableMap(deserializerNanos);
+        }
+
+        /**
+         * @return The types whose serializer could not be warmed up, it is resolved again on first use
+         */
+        @NonNull
+        public Map<Argument<?>, Throwable> getSerializerFailures() {
+            return Collections.unmodifiableMap(serializerFailures);
+        }
+
+        /**
+         * @return The types whose deserializer could not be warmed up, it is resolved again on first use
+         */
+        @NonNull
+        public Map<Argument<?>, Throwable> getDeserializerFailures() {
+            return Collections.unmodifiableMap(deserializerFailures);
+        }
+
+        /**
+         * @return The total time of the warm-up in nanoseconds
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.reference.AbstractPropertyReferenceManager;
+import io.micronaut.serde.reference.PropertyReference;
+
+import java.util.ArrayDeque;
+
+/**
+ * Reference manager keeping the managed references of every thread apart, so a context can be shared by a mapper
+ * rather than created for every call. All contexts share a single thread local stack, every entry remembers the
+ * context that pushed it.
+ *
+ * @since 1.0.0
+ */
+@Internal
+abstract class ThreadLocalPropertyReferenceManager extends AbstractPropertyReferenceManager {
+    private static final ThreadLocal<ArrayDeque<ManagedRef>> THREAD_REFS = ThreadLocal.withInitial(() -> new ArrayDeque<>(5));
+
+    @Override
+    public <B, P> void pushManagedRef(PropertyReference<B, P> reference) {
+        if (reference != null) {
+            THREAD_REFS.get().addFirst(new ManagedRef(this, reference));
+        }
+    }
+
+    @Override
+    public void popManagedRef() {
+        final ArrayDeque<ManagedRef> refs = THREAD_REFS.get();
+        final ManagedRef first = refs.peekFirst();
+        if (first != null && first.owner == this) {
+            refs.removeFirst();
+        }
+    }
+
+    /**
+     * @return The innermost managed reference pushed by this context on the current thread, if any
+     */
+    @Nullable
+    protected final PropertyReference<?, ?> currentManagedRef() {
+        final ManagedRef first = THREAD_REFS.get().peekFirst();
+        return first != null && first.owner == this ? first.reference : null;
+    }
+
+    private static final class ManagedRef {
+        final ThreadLocalPropertyReferenceManager owner;
+        final PropertyReference<?, ?> reference;
+
+        ManagedRef(ThreadLocalPropertyReferenceManager owner, PropertyReference<?, ?> reference) {
+            this.owner = owner;
+            this.reference = reference;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+import io.micronaut.serde.config.SerdeConfiguration;
+
+/**
+ * Bounds of the caches of serializers, deserializers and bean metadata resolved per type. Once full a cache evicts
+ * its least recently used entries, evicted entries are resolved again on their next use.
+ *
+ * @since 1.0.0
+ */
+@ConfigurationProperties(SerdeCacheConfiguration.PREFIX)
+public interface SerdeCacheConfiguration {
+    String PREFIX = SerdeConfiguration.PREFIX + ".cache";
+
+    /**
+     * @return The maximum number of serializers cached by the registry. Defaults to {@code 2048}.
+     */
+    @Bindable(defaultValue = "2048")
+    long getSerializers();
+
+    /**
+     * @return The maximum number of deserializers cached by the registry. Defaults to {@code 2048}.
+     */
+    @Bindable(defaultValue = "2048")
+    long getDeserializers();
+
+    /**
+     * @return The maximum number of serializable bean descriptions cached. Defaults to {@code 1024}.
+     */
+    @Bindable(defaultValue = "1024")
+    long getSerBeans();
+
+    /**
+     * @return The maximum number of deserializable bean descriptions cached. Defaults to {@code 1024}.
+     */
+    @Bindable(defaultValue = "1024")
+    long getDeserBeans();
+}
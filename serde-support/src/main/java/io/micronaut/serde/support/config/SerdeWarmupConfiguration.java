@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+import io.micronaut.serde.config.SerdeConfiguration;
+
+/**
+ * Configuration of the warm-up that resolves the serializers and deserializers of all serdeable types at startup,
+ * rather than on the first request that uses each type.
+ *
+ * @since 1.0.0
+ */
+@ConfigurationProperties(SerdeWarmupConfiguration.PREFIX)
+public interface SerdeWarmupConfiguration {
+    String PREFIX = SerdeConfiguration.PREFIX + ".warmup";
+
+    /**
+     * @return Whether to warm up the serializers and deserializers at startup. Defaults to {@code false}.
+     */
+    @Bindable(defaultValue = "false")
+    boolean isEnabled();
+
+    /**
+     * @return The number of threads warming up types concurrently, {@code 1} warms up on the startup thread. Defaults
+     * to {@code 1}.
+     */
+    @Bindable(defaultValue = "1")
+    int getParallelism();
+}
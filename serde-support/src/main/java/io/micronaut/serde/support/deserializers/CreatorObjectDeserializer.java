@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.deserializers;
+
+import io.micronaut.core.reflect.exception.InstantiationException;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.UpdatingDeserializer;
+import io.micronaut.serde.exceptions.InvalidFormatException;
+import io.micronaut.serde.exceptions.InvalidPropertyFormatException;
+import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.util.KeyTable;
+
+import java.io.IOException;
+
+/**
+ * A creator bean (all properties are plain creator parameters) implementation for deserialization of objects that
+ * uses introspection metadata. Every value is decoded straight into the slot of its parameter, whatever the order of
+ * the keys, so nothing is buffered before the bean is instantiated.
+ *
+ * @since 1.0.0
+ */
+final class CreatorObjectDeserializer implements Deserializer<Object>, UpdatingDeserializer<Object> {
+    private final boolean ignoreUnknown;
+    private final DeserBean<? super Object> deserBean;
+
+    public CreatorObjectDeserializer(boolean ignoreUnknown, DeserBean<? super Object> deserBean) {
+        this.ignoreUnknown = ignoreUnknown && deserBean.ignoreUnknown;
+        this.deserBean = deserBean;
+    }
+
+    @Override
+    public Object deserialize(Decoder decoder, DecoderContext decoderContext, Argument<? super Object> beanType)
+            throws IOException {
+        if (decoder.decodeNull()) {
+            return null;
+        }
+        deserBean.initialize(decoderContext);
+
+        final Decoder objectDecoder = decoder.decodeObject(beanType);
+        final Object[] params = new Object[deserBean.creatorSize];
+        readParameters(objectDecoder, decoderContext, beanType, params);
+        final Object obj;
+        try {
+            obj = deserBean.introspection.instantiate(params);
+        } catch (InstantiationException e) {
+            throw new SerdeException("Unable to deserialize type [" + beanType + "]: " + e.getMessage(), e);
+        }
+        objectDecoder.finishStructure();
+        return obj;
+    }
+
+    @Override
+    public void deserializeInto(Decoder decoder, DecoderContext decoderContext, Argument<? super Object> beanType, Object value)
+            throws IOException {
+        // creator parameters can't be set on an existing instance
+        final Decoder objectDecoder = decoder.decodeObject(beanType);
+        skipUnknownProperties(objectDecoder, beanType);
+        objectDecoder.finishStructure();
+    }
+
+    private void readParameters(Decoder objectDecoder,
+                                DecoderContext decoderContext,
+                                Argument<? super Object> beanType,
+                                Object[] params) throws IOException {
+        final PropertiesBag<? super Object>.Consumer creatorParameters = deserBean.creatorParams.newConsumer();
+        try {
+            final KeyTable keyTable = creatorParameters.getKeyTable();
+            while (true) {
+                int index = objectDecoder.decodeKeyIndex(keyTable);
+                if (index == Decoder.END_OF_OBJECT) {
+                    break;
+                }
+                String prop = null;
+                if (index == Decoder.UNRESOLVED_KEY) {
+                    prop = objectDecoder.decodeKey();
+                    if (prop == null) {
+                        break;
+                    }
+                    index = keyTable.indexOf(prop);
+                }
+                @SuppressWarnings("unchecked") final DeserBean.DerProperty<Object, Object> parameter =
+                        (DeserBean.DerProperty<Object, Object>) creatorParameters.findNotConsumed(index);
+                if (parameter == null) {
+                    // unknown or seen before
+                    skipUnknown(objectDecoder, beanType, prop != null ? prop : creatorParameters.getName(index));
+                    continue;
+                }
+                final Object val;
+                try {
+                    val = parameter.deserializer.deserialize(objectDecoder, decoderContext, parameter.argument);
+                } catch (InvalidFormatException e) {
+                    throw new InvalidPropertyFormatException(e, parameter.argument);
+                }
+                if (val == null) {
+                    // left to the default value
+                    continue;
+                }
+                creatorParameters.consume(index);
+                params[parameter.index] = val;
+                if (creatorParameters.isAllConsumed()) {
+                    skipUnknownProperties(objectDecoder, beanType);
+                    break;
+                }
+            }
+
+            if (!creatorParameters.isAllConsumed()) {
+                for (int i = creatorParameters.nextNotConsumed(0); i != -1; i = creatorParameters.nextNotConsumed(i + 1)) {
+                    creatorParameters.getProperty(i).setDefault(decoderContext, params);
+                }
+            }
+        } finally {
+            creatorParameters.release();
+        }
+    }
+
+    private void skipUnknownProperties(Decoder decoder, Argument<? super Object> beanType) throws IOException {
+        while (true) {
+            String unknownProp = decoder.decodeKey();
+            if (unknownProp == null) {
+                break;
+            } else {
+                skipUnknown(decoder, beanType, unknownProp);
+            }
+        }
+    }
+
+    private void skipUnknown(Decoder decoder, Argument<? super Object> beanType, String prop) throws IOException {
+        if (ignoreUnknown) {
+            decoder.skipValue();
+        } else {
+            throw new SerdeException("Unknown property [" + prop + "] encountered during deserialization of type: " + beanType);
+        }
+    }
+
+    @Override
+    public boolean allowNull() {
+        return true;
+    }
+
+}
@@ -38,6 +38,7 @@ import io.micronaut.serde.Deserializer;
 import io.micronaut.serde.config.annotation.SerdeConfig;
 import io.micronaut.serde.config.naming.PropertyNamingStrategy;
 import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.util.LockFreeInitializer;
 import io.micronaut.serde.support.util.SerdeAnnotationUtil;
 
 import java.util.ArrayList;
@@ -80,8 +81,11 @@ class DeserBean<T> {
     public final boolean ignoreUnknown;
     public final boolean delegating;
     public final boolean simpleBean;
+    public final boolean creatorBean;
+    @Nullable
+    public final DeserSchema<T> schema;
 
-    private volatile boolean initialized;
+    private final LockFreeInitializer<Deserializer.DecoderContext> initializer = new LockFreeInitializer<>();
     // CHECKSTYLE:ON
 
     public DeserBean(
@@ -336,38 +340,41 @@ class DeserBean<T> {
             this.readProperties.seal();
         }
         simpleBean = isSimpleBean();
+        creatorBean = isCreatorBean();
+        schema = DeserSchema.create(this);
+        initializer.add(this::resolveDeserializers);
     }
 
     public void initialize(Deserializer.DecoderContext decoderContext) throws SerdeException {
-        if (!initialized) {
-            synchronized (this) {
-                if (!initialized) {
-                    if (readProperties != null) {
-                        List<Map.Entry<String, DerProperty<T, Object>>> properties = readProperties.getProperties();
-                        for (Map.Entry<String, DerProperty<T, Object>> e : properties) {
-                            DerProperty<T, Object> property = e.getValue();
-                            initProperty(property, decoderContext);
-                        }
-                    }
-                    if (creatorParams != null) {
-                        List<Map.Entry<String, DerProperty<T, Object>>> properties = creatorParams.getProperties();
-                        for (Map.Entry<String, DerProperty<T, Object>> e : properties) {
-                            DerProperty<T, Object> property = e.getValue();
-                            initProperty(property, decoderContext);
-                        }
-                    }
-                    if (anySetter != null) {
-                        anySetter.deserializer = anySetter.valueType.equalsType(Argument.OBJECT_ARGUMENT) ? null : findDeserializer(decoderContext, anySetter.valueType);
-                    }
-                    if (unwrappedProperties != null) {
-                        for (DerProperty<T, Object> unwrappedProperty : unwrappedProperties) {
-                            initProperty(unwrappedProperty, decoderContext);
-                        }
-                    }
-                    initialized = true;
-                }
+        initializer.initialize(decoderContext);
+    }
+
+    private Runnable resolveDeserializers(Deserializer.DecoderContext decoderContext) throws SerdeException {
+        final List<Runnable> resolved = new ArrayList<>();
+        if (readProperties != null) {
+            List<Map.Entry<String, DerProperty<T, Object>>> properties = readProperties.getProperties();
+            for (Map.Entry<String, DerProperty<T, Object>> e : properties) {
+                DerProperty<T, Object> property = e.getValue();
+                resolved.add(resolveProperty(property, decoderContext));
             }
         }
+        if (creatorParams != null) {
+            List<Map.Entry<String, DerProperty<T, Object>>> properties = creatorParams.getProperties();
+            for (Map.Entry<String, DerProperty<T, Object>> e : properties) {
+                DerProperty<T, Object> property = e.getValue();
+                resolved.add(resolveProperty(property, decoderContext));
+            }
+        }
+        if (anySetter != null) {
+            final Deserializer<Object> deserializer = anySetter.valueType.equalsType(Argument.OBJECT_ARGUMENT) ? null : findDeserializer(decoderContext, anySetter.valueType);
+            resolved.add(() -> anySetter.deserializer = deserializer);
+        }
+        if (unwrappedProperties != null) {
+            for (DerProperty<T, Object> unwrappedProperty : unwrappedProperties) {
+                resolved.add(resolveProperty(unwrappedProperty, decoderContext));
+            }
+        }
+        return () -> resolved.forEach(Runnable::run);
     }
 
     private boolean isSimpleBean() {
@@ -385,11 +392,25 @@ class DeserBean<T> {
         return true;
     }
 
-    private void initProperty(DerProperty<T, Object> property, Deserializer.DecoderContext decoderContext) throws SerdeException {
-        property.deserializer = findDeserializer(decoderContext, property.argument);
+    private boolean isCreatorBean() {
+        if (delegating || this instanceof SubtypedDeserBean || creatorParams == null || readProperties != null || creatorUnwrapped != null || unwrappedProperties != null || anySetter != null) {
+            return false;
+        }
+        for (int i = 0; i < creatorParams.size(); i++) {
+            DerProperty<T, Object> property = creatorParams.getProperty(i);
+            if (property.isAnySetter || property.views != null || property.managedRef != null || introspection != property.instrospection || property.backRef != null || property.unwrapped != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Runnable resolveProperty(DerProperty<T, Object> property, Deserializer.DecoderContext decoderContext) throws SerdeException {
+        final Deserializer<Object> deserializer = findDeserializer(decoderContext, property.argument);
         if (property.unwrapped != null) {
             property.unwrapped.initialize(decoderContext);
         }
+        return () -> property.deserializer = deserializer;
     }
 
     private PropertyNamingStrategy getPropertyNamingStrategy(AnnotationMetadata annotationMetadata,
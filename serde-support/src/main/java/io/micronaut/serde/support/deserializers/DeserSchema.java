@@ -0,0 +1,180 @@
+/*
+ * Copyright 2017-2021 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.deserializers;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.ArrayUtils;
+import io.micronaut.serde.config.annotation.SerdeConfig;
+import io.micronaut.serde.util.KeyTable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Key table of a {@link DeserBean} built from the expected key order computed at compilation time.
+ * Every key is assigned an ordinal, keys in the expected order first, so that an input in that order
+ * resolves to consecutive ordinals, and decoders can resolve keys through the {@link KeyTable}.
+ *
+ * @param <T> The bean type
+ * @since 1.0.0
+ */
+@Internal
+final class DeserSchema<T> {
+
+    // CHECKSTYLE:OFF
+    /**
+     * Whether the keys bind to creator parameters, otherwise to bean properties.
+     */
+    public final boolean creator;
+    /**
+     * The key of each ordinal.
+     */
+    public final String[] keys;
+    /**
+     * The property of each ordinal, {@code null} for expected keys that are not deserializable.
+     */
+    public final DeserBean.DerProperty<T, Object>[] properties;
+    /**
+     * The table resolving keys and aliases to their ordinal, keys in the expected order first.
+     */
+    public final KeyTable table;
+    // CHECKSTYLE:ON
+
+    private DeserSchema(boolean creator,
+                        List<String> keys,
+                        List<DeserBean.DerProperty<T, Object>> properties,
+                        Map<String, Integer> lookup) {
+        this.creator = creator;
+        this.keys = keys.toArray(new String[0]);
+        //noinspection unchecked
+        this.properties = properties.toArray(new DeserBean.DerProperty[0]);
+        final String[] names = new String[lookup.size()];
+        final int[] ordinals = new int[lookup.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> e : lookup.entrySet()) {
+            names[i] = e.getKey();
+            ordinals[i++] = e.getValue();
+        }
+        this.table = new KeyTable(names, ordinals);
+    }
+
+    /**
+     * @return The number of ordinals
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Resolve the ordinal of a key or one of its aliases.
+     *
+     * @param key The key
+     * @return The ordinal or -1
+     */
+    public int indexOf(@NonNull String key) {
+        return table.indexOf(key);
+    }
+
+    /**
+     * Creates the schema of the given bean if the bean was processed at compilation time and
+     * its properties are all plain values bound either to the creator or to the bean.
+     *
+     * @param deserBean The bean
+     * @param <T>       The bean type
+     * @return The schema or {@code null} if the bean is not eligible
+     */
+    @Nullable
+    static <T> DeserSchema<T> create(@NonNull DeserBean<T> deserBean) {
+        final String[] expectedKeys = deserBean.introspection.stringValues(SerdeConfig.class, SerdeConfig.EXPECTED_KEYS);
+        if (ArrayUtils.isEmpty(expectedKeys)
+                || deserBean.delegating
+                || deserBean instanceof SubtypedDeserBean
+                || deserBean.anySetter != null
+                || deserBean.creatorUnwrapped != null
+                || deserBean.unwrappedProperties != null) {
+            return null;
+        }
+        final boolean creator;
+        final PropertiesBag<T> bag;
+        if (deserBean.creatorParams != null && deserBean.readProperties == null) {
+            creator = true;
+            bag = deserBean.creatorParams;
+        } else if (deserBean.creatorParams == null && deserBean.readProperties != null) {
+            creator = false;
+            bag = deserBean.readProperties;
+        } else {
+            return null;
+        }
+        final List<Map.Entry<String, DeserBean.DerProperty<T, Object>>> entries = bag.getProperties();
+        for (Map.Entry<String, DeserBean.DerProperty<T, Object>> e : entries) {
+            final DeserBean.DerProperty<T, Object> property = e.getValue();
+            if (property.isAnySetter
+                    || property.views != null
+                    || property.managedRef != null
+                    || property.backRef != null
+                    || property.unwrapped != null
+                    || property.instrospection != deserBean.introspection) {
+                return null;
+            }
+        }
+
+        final List<String> keys = new ArrayList<>(expectedKeys.length + entries.size());
+        final List<DeserBean.DerProperty<T, Object>> properties = new ArrayList<>(expectedKeys.length + entries.size());
+        final Map<DeserBean.DerProperty<T, Object>, Integer> ordinals = new IdentityHashMap<>(entries.size());
+        final Map<String, Integer> lookup = new HashMap<>(expectedKeys.length + entries.size());
+        for (String expectedKey : expectedKeys) {
+            if (lookup.containsKey(expectedKey)) {
+                continue;
+            }
+            final DeserBean.DerProperty<T, Object> property = bag.findProperty(expectedKey);
+            if (property != null && ordinals.containsKey(property)) {
+                lookup.put(expectedKey, ordinals.get(property));
+                continue;
+            }
+            final int ordinal = keys.size();
+            keys.add(expectedKey);
+            properties.add(property);
+            lookup.put(expectedKey, ordinal);
+            if (property != null) {
+                ordinals.put(property, ordinal);
+            }
+        }
+        // names and aliases the compiler did not see, e.g. setters matched only at runtime
+        for (Map.Entry<String, DeserBean.DerProperty<T, Object>> e : entries) {
+            final String name = e.getKey();
+            final DeserBean.DerProperty<T, Object> property = e.getValue();
+            Integer ordinal = ordinals.get(property);
+            if (ordinal == null) {
+                ordinal = keys.size();
+                keys.add(name);
+                properties.add(property);
+                ordinals.put(property, ordinal);
+            }
+            lookup.putIfAbsent(name, ordinal);
+            if (property.aliases != null) {
+                for (String alias : property.aliases) {
+                    lookup.putIfAbsent(alias, ordinal);
+                }
+            }
+        }
+        return new DeserSchema<>(creator, keys, properties, lookup);
+    }
+}
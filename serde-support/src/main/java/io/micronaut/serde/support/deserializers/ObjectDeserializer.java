@@ -17,6 +17,7 @@ package io.micronaut.serde.support.deserializers;
 
 import io.micronaut.context.annotation.Primary;
 import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.beans.exceptions.IntrospectionException;
 import io.micronaut.core.type.Argument;
@@ -26,12 +27,14 @@ import io.micronaut.serde.SerdeIntrospections;
 import io.micronaut.serde.config.DeserializationConfiguration;
 import io.micronaut.serde.config.annotation.SerdeConfig;
 import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.SerdeCaches;
+import io.micronaut.serde.support.util.TypeCache;
 import io.micronaut.serde.support.util.TypeKey;
 import io.micronaut.serde.util.CustomizableDeserializer;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation for deserialization of objects that uses introspection metadata.
@@ -44,20 +47,58 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ObjectDeserializer implements CustomizableDeserializer<Object>, DeserBeanRegistry {
     private final SerdeIntrospections introspections;
     private final boolean ignoreUnknown;
-    private final Map<TypeKey, DeserBean<? super Object>> deserBeanMap = new ConcurrentHashMap<>(50);
+    private final TypeCache<DeserBean<? super Object>> deserBeanMap;
 
     public ObjectDeserializer(SerdeIntrospections introspections, DeserializationConfiguration deserializationConfiguration) {
+        this(introspections, deserializationConfiguration, new TypeCache<>(SerdeCaches.DESER_BEANS, TypeCache.UNBOUNDED));
+    }
+
+    @Inject
+    public ObjectDeserializer(SerdeIntrospections introspections,
+                              DeserializationConfiguration deserializationConfiguration,
+                              SerdeCaches caches) {
+        this(introspections, deserializationConfiguration, caches.create(SerdeCaches.DESER_BEANS, caches.getConfiguration().getDeserBeans()));
+    }
+
+    private ObjectDeserializer(SerdeIntrospections introspections,
+                               DeserializationConfiguration deserializationConfiguration,
+                               TypeCache<DeserBean<? super Object>> deserBeanMap) {
         this.introspections = introspections;
         this.ignoreUnknown = deserializationConfiguration.isIgnoreUnknown();
+        this.deserBeanMap = deserBeanMap;
     }
 
     @Override
     public Deserializer<Object> createSpecific(DecoderContext context, Argument<? super Object> type) throws SerdeException {
         DeserBean<? super Object> deserBean = getDeserializableBean(type, context);
+        final Deserializer<Object> deserializer;
         if (deserBean.simpleBean) {
-            return new SimpleObjectDeserializer(ignoreUnknown, deserBean);
+            deserializer = new SimpleObjectDeserializer(ignoreUnknown, deserBean);
+        } else if (deserBean.creatorBean && deserBean.schema == null) {
+            deserializer = new CreatorObjectDeserializer(ignoreUnknown, deserBean);
+        } else {
+            deserializer = new SpecificObjectDeserializer(ignoreUnknown, deserBean);
+        }
+        if (deserBean.schema != null) {
+            return new SchemaObjectDeserializer(ignoreUnknown, deserBean, deserializer);
+        }
+        return deserializer;
+    }
+
+    /**
+     * Resolve and initialize the bean description of the given type ahead of its first use.
+     *
+     * @param type           The type
+     * @param decoderContext The decoder context
+     * @throws SerdeException If the type can't be deserialized
+     */
+    @Internal
+    public void warmUp(Argument<?> type, DecoderContext decoderContext) throws SerdeException {
+        try {
+            getDeserializableBean(type, decoderContext).initialize(decoderContext);
+        } catch (IntrospectionException e) {
+            throw new SerdeException(e.getMessage(), e);
         }
-        return new SpecificObjectDeserializer(ignoreUnknown, deserBean);
     }
 
     @Override
@@ -65,8 +106,9 @@ public class ObjectDeserializer implements CustomizableDeserializer<Object>, Des
         TypeKey key = new TypeKey(type);
         DeserBean<T> deserBeanSupplier = (DeserBean) deserBeanMap.get(key);
         if (deserBeanSupplier == null) {
+            final long start = System.nanoTime();
             deserBeanSupplier = createDeserBean(type, decoderContext);
-            deserBeanMap.put(key, (DeserBean) deserBeanSupplier);
+            deserBeanMap.put(key, (DeserBean) deserBeanSupplier, System.nanoTime() - start);
         }
         return deserBeanSupplier;
     }
@@ -18,34 +18,38 @@ package io.micronaut.serde.support.deserializers;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.serde.util.KeyTable;
 
+import java.lang.ref.SoftReference;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
- * The collection of properties. Some operations are delegating to {@link BeanIntrospection} property index resolving,
- * which is using compile-time string switch instead of map.
+ * The collection of properties. Once sealed, names and aliases are resolved through a {@link KeyTable}, which
+ * decoders can also match against the raw key of the input.
  *
  * @param <T> The bean type
  * @author Denis Stepanov
  * @since 1.0.0
  */
 final class PropertiesBag<T> {
-
     private final BeanIntrospection<T> beanIntrospection;
     private final int[] originalNameToPropertiesMapping;
     private List<DeserBean.DerProperty<T, Object>> properties;
+    private List<String> names;
     @Nullable
     private Map<String, Integer> nameToPropertiesMapping;
+    @Nullable
+    private KeyTable keyTable;
+    // held softly, the consumer references this bag and would otherwise keep the key of the entry reachable
+    private final ThreadLocal<SoftReference<Consumer>> pooledConsumer = new ThreadLocal<>();
 
     public PropertiesBag(BeanIntrospection<T> beanIntrospection) {
         this(beanIntrospection, beanIntrospection.getBeanProperties().size());
@@ -57,6 +61,7 @@ final class PropertiesBag<T> {
         this.originalNameToPropertiesMapping = new int[beanPropertiesSize];
         Arrays.fill(originalNameToPropertiesMapping, -1);
         this.properties = new ArrayList<>(expectedPropertiesSize);
+        this.names = new ArrayList<>(expectedPropertiesSize);
     }
 
     public void register(String name, DeserBean.DerProperty<T, Object> derProperty, boolean addAliases) {
@@ -78,11 +83,60 @@ final class PropertiesBag<T> {
             }
         }
         properties.add(derProperty);
+        names.add(name);
     }
 
     public void seal() {
         ((ArrayList) properties).trimToSize();
         properties = Collections.unmodifiableList(properties);
+        ((ArrayList) names).trimToSize();
+        names = Collections.unmodifiableList(names);
+        keyTable = createKeyTable();
+    }
+
+    private KeyTable createKeyTable() {
+        final int mappedSize = nameToPropertiesMapping == null ? 0 : nameToPropertiesMapping.size();
+        final List<String> names = new ArrayList<>(originalNameToPropertiesMapping.length + mappedSize);
+        final List<Integer> indexes = new ArrayList<>(originalNameToPropertiesMapping.length + mappedSize);
+        // original names take precedence, the table keeps the first index of a name
+        for (int index : originalNameToPropertiesMapping) {
+            if (index != -1) {
+                names.add(properties.get(index).beanProperty.getName());
+                indexes.add(index);
+            }
+        }
+        if (nameToPropertiesMapping != null) {
+            for (Map.Entry<String, Integer> e : nameToPropertiesMapping.entrySet()) {
+                names.add(e.getKey());
+                indexes.add(e.getValue());
+            }
+        }
+        return new KeyTable(
+                names.toArray(new String[0]),
+                indexes.stream().mapToInt(Integer::intValue).toArray()
+        );
+    }
+
+    /**
+     * The table resolving names and aliases to the index of the property, available once the bag is sealed.
+     *
+     * @return The key table
+     */
+    @NonNull
+    public KeyTable getKeyTable() {
+        if (keyTable == null) {
+            throw new IllegalStateException("Properties not sealed");
+        }
+        return keyTable;
+    }
+
+    /**
+     * @param index The index of a property
+     * @return The property
+     */
+    @NonNull
+    public DeserBean.DerProperty<T, Object> getProperty(int index) {
+        return properties.get(index);
     }
 
     public List<Map.Entry<String, DeserBean.DerProperty<T, Object>>> getProperties() {
@@ -102,7 +156,19 @@ final class PropertiesBag<T> {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * @param index The index of a property
+     * @return The name the property was registered with
+     */
+    @NonNull
+    public String getPropertyName(int index) {
+        return names.get(index);
+    }
+
     public int propertyIndexOf(@NonNull String name) {
+        if (keyTable != null) {
+            return keyTable.indexOf(name);
+        }
         int propertyIndex = -1;
         int beanPropertyIndex = beanIntrospection.propertyIndexOf(name);
         if (beanPropertyIndex != -1) {
@@ -114,52 +180,167 @@ final class PropertiesBag<T> {
         return nameToPropertiesMapping == null ? -1 : nameToPropertiesMapping.getOrDefault(name, -1);
     }
 
+    /**
+     * Finds the property registered for the given name or alias.
+     *
+     * @param name The name
+     * @return The property or {@code null}
+     */
+    @Nullable
+    public DeserBean.DerProperty<T, Object> findProperty(@NonNull String name) {
+        int propertyIndex = propertyIndexOf(name);
+        return propertyIndex == -1 ? null : properties.get(propertyIndex);
+    }
+
+    /**
+     * @return The number of properties
+     */
+    public int size() {
+        return properties.size();
+    }
+
+    /**
+     * Obtain a consumer tracking which properties were read. Every thread pools one consumer per bag, a consumer is
+     * allocated when the pooled one is still in use, e.g. for a recursive type. Consumers must be
+     * {@link Consumer#release() released} in a {@code finally} block once decoding is done.
+     *
+     * @return The consumer
+     */
     public Consumer newConsumer() {
-        return new Consumer();
+        final SoftReference<Consumer> reference = pooledConsumer.get();
+        final Consumer pooled = reference == null ? null : reference.get();
+        final Consumer consumer;
+        if (pooled != null && !pooled.inUse) {
+            consumer = pooled;
+            consumer.reset();
+        } else {
+            consumer = new Consumer();
+            if (pooled == null) {
+                pooledConsumer.set(new SoftReference<>(consumer));
+            }
+        }
+        consumer.inUse = true;
+        return consumer;
     }
 
     /**
-     * Properties consumer.
+     * Properties consumer. Up to 64 properties are tracked in a single {@code long}.
      */
     public final class Consumer {
 
-        private final BitSet consumedSet = new BitSet(properties.size());
-        private int remaining = properties.size();
+        private final int size = properties.size();
+        @Nullable
+        private final long[] consumedWords = size > Long.SIZE ? new long[(size + Long.SIZE - 1) / Long.SIZE] : null;
+        private long consumed;
+        private int remaining = size;
+        private boolean inUse;
+
+        /**
+         * @return The table resolving names and aliases to the index of the property
+         */
+        public KeyTable getKeyTable() {
+            return PropertiesBag.this.getKeyTable();
+        }
+
+        /**
+         * @param index The index of a property
+         * @return The name the property was registered with
+         */
+        public String getName(int index) {
+            return names.get(index);
+        }
+
+        /**
+         * @param index The index of a property
+         * @return The property
+         */
+        public DeserBean.DerProperty<T, Object> getProperty(int index) {
+            return properties.get(index);
+        }
 
         public boolean isNotConsumed(String name) {
-            int propertyIndex = propertyIndexOf(name);
-            return propertyIndex != -1 && !consumedSet.get(propertyIndex);
+            return isNotConsumed(propertyIndexOf(name));
+        }
+
+        public boolean isNotConsumed(int propertyIndex) {
+            return propertyIndex != -1 && !isConsumed(propertyIndex);
         }
 
         public DeserBean.DerProperty<T, ?> findNotConsumed(String name) {
-            int propertyIndex = propertyIndexOf(name);
-            if (propertyIndex == -1 || consumedSet.get(propertyIndex)) {
+            return findNotConsumed(propertyIndexOf(name));
+        }
+
+        public DeserBean.DerProperty<T, ?> findNotConsumed(int propertyIndex) {
+            if (propertyIndex == -1 || isConsumed(propertyIndex)) {
                 return null;
             }
             return properties.get(propertyIndex);
         }
 
         public DeserBean.DerProperty<T, ?> consume(String name) {
-            int propertyIndex = propertyIndexOf(name);
-            if (propertyIndex == -1 || consumedSet.get(propertyIndex)) {
+            return consume(propertyIndexOf(name));
+        }
+
+        public DeserBean.DerProperty<T, ?> consume(int propertyIndex) {
+            if (propertyIndex == -1 || isConsumed(propertyIndex)) {
                 return null;
             }
-            consumedSet.set(propertyIndex);
+            if (consumedWords == null) {
+                consumed |= 1L << propertyIndex;
+            } else {
+                consumedWords[propertyIndex >>> 6] |= 1L << propertyIndex;
+            }
             remaining--;
             return properties.get(propertyIndex);
         }
 
-        public List<DeserBean.DerProperty<T, Object>> getNotConsumed() {
-            return IntStream.range(0, properties.size())
-                    .filter(index -> !consumedSet.get(index))
-                    .mapToObj(index -> properties.get(index))
-                    .collect(Collectors.toList());
+        /**
+         * Find the next property that wasn't consumed, for iterating with
+         * {@code for (int i = c.nextNotConsumed(0); i != -1; i = c.nextNotConsumed(i + 1))}.
+         *
+         * @param fromIndex The index to start at
+         * @return The index of the property or {@code -1}
+         */
+        public int nextNotConsumed(int fromIndex) {
+            if (fromIndex >= size) {
+                return -1;
+            }
+            int word = fromIndex >>> 6;
+            long notConsumed = ~(consumedWords == null ? consumed : consumedWords[word]) & (-1L << fromIndex);
+            while (notConsumed == 0) {
+                if (consumedWords == null || ++word == consumedWords.length) {
+                    return -1;
+                }
+                notConsumed = ~consumedWords[word];
+            }
+            final int index = (word << 6) + Long.numberOfTrailingZeros(notConsumed);
+            return index < size ? index : -1;
         }
 
         public boolean isAllConsumed() {
             return remaining == 0;
         }
 
+        /**
+         * Make this consumer available for reuse by the current thread. It must not be used afterwards.
+         */
+        public void release() {
+            inUse = false;
+        }
+
+        private boolean isConsumed(int propertyIndex) {
+            final long bits = consumedWords == null ? consumed : consumedWords[propertyIndex >>> 6];
+            return (bits & (1L << propertyIndex)) != 0;
+        }
+
+        private void reset() {
+            if (consumedWords == null) {
+                consumed = 0;
+            } else {
+                Arrays.fill(consumedWords, 0);
+            }
+            remaining = size;
+        }
     }
 
 }
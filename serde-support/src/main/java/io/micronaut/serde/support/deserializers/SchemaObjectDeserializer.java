@@ -0,0 +1,192 @@
+/*
+ * Copyright 2017-2021 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.deserializers;
+
+import io.micronaut.core.reflect.exception.InstantiationException;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.UpdatingDeserializer;
+import io.micronaut.serde.exceptions.InvalidFormatException;
+import io.micronaut.serde.exceptions.InvalidPropertyFormatException;
+import io.micronaut.serde.exceptions.SerdeException;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Deserializer for beans with a {@link DeserSchema}. Keys are resolved through the key table of the schema by the
+ * decoder. As long as the keys arrive in the order computed at compilation time they resolve to consecutive
+ * ordinals and no bookkeeping of consumed properties is necessary. The first key out of order switches to
+ * explicit tracking of the consumed properties, like the generic deserializers.
+ *
+ * @since 1.0.0
+ */
+final class SchemaObjectDeserializer implements Deserializer<Object>, UpdatingDeserializer<Object> {
+    private final boolean ignoreUnknown;
+    private final DeserBean<? super Object> deserBean;
+    private final DeserSchema<? super Object> schema;
+    private final Deserializer<Object> fallback;
+
+    /**
+     * @param ignoreUnknown Whether to ignore unknown properties
+     * @param deserBean     The bean, must have a schema
+     * @param fallback      The generic deserializer of the bean, used for updating existing instances
+     */
+    SchemaObjectDeserializer(boolean ignoreUnknown, DeserBean<? super Object> deserBean, Deserializer<Object> fallback) {
+        this.ignoreUnknown = ignoreUnknown && deserBean.ignoreUnknown;
+        this.deserBean = deserBean;
+        this.schema = deserBean.schema;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Object deserialize(Decoder decoder, DecoderContext decoderContext, Argument<? super Object> beanType)
+            throws IOException {
+        if (decoder.decodeNull()) {
+            return null;
+        }
+        deserBean.initialize(decoderContext);
+
+        final Decoder objectDecoder = decoder.decodeObject(beanType);
+        Object obj;
+        if (schema.creator) {
+            Object[] params = new Object[deserBean.creatorSize];
+            readProperties(objectDecoder, decoderContext, beanType, params);
+            try {
+                obj = deserBean.introspection.instantiate(params);
+            } catch (InstantiationException e) {
+                throw new SerdeException("Unable to deserialize type [" + beanType + "]: " + e.getMessage(), e);
+            }
+        } else {
+            try {
+                obj = deserBean.introspection.instantiate();
+            } catch (InstantiationException e) {
+                throw new SerdeException("Unable to deserialize type [" + beanType + "]: " + e.getMessage(), e);
+            }
+            readProperties(objectDecoder, decoderContext, beanType, obj);
+        }
+        objectDecoder.finishStructure();
+        return obj;
+    }
+
+    @Override
+    public void deserializeInto(Decoder decoder, DecoderContext decoderContext, Argument<? super Object> beanType, Object value)
+            throws IOException {
+        ((UpdatingDeserializer<Object>) fallback).deserializeInto(decoder, decoderContext, beanType, value);
+    }
+
+    private void readProperties(Decoder objectDecoder,
+                                DecoderContext decoderContext,
+                                Argument<? super Object> beanType,
+                                Object target) throws IOException {
+        final DeserSchema<? super Object> schema = this.schema;
+        int next = 0;
+        // null as long as the input follows the expected order
+        boolean[] consumed = null;
+        while (true) {
+            int ordinal = objectDecoder.decodeKeyIndex(schema.table);
+            if (ordinal == Decoder.END_OF_OBJECT) {
+                break;
+            }
+            if (ordinal == Decoder.UNRESOLVED_KEY) {
+                final String key = objectDecoder.decodeKey();
+                if (key == null) {
+                    break;
+                }
+                ordinal = schema.indexOf(key);
+                if (ordinal == -1) {
+                    skipUnknown(objectDecoder, beanType, key);
+                    continue;
+                }
+            }
+            if (consumed == null && ordinal == next) {
+                next++;
+            } else {
+                if (consumed == null) {
+                    consumed = new boolean[schema.size()];
+                    Arrays.fill(consumed, 0, next, true);
+                }
+                if (consumed[ordinal]) {
+                    skipUnknown(objectDecoder, beanType, schema.keys[ordinal]);
+                    continue;
+                }
+                consumed[ordinal] = true;
+            }
+            @SuppressWarnings("unchecked") final DeserBean.DerProperty<Object, Object> property =
+                    (DeserBean.DerProperty<Object, Object>) schema.properties[ordinal];
+            if (property == null) {
+                skipUnknown(objectDecoder, beanType, schema.keys[ordinal]);
+            } else if (schema.creator) {
+                final Object[] params = (Object[]) target;
+                final Object val = deserializeValue(objectDecoder, decoderContext, property);
+                if (val == null) {
+                    property.setDefault(decoderContext, params);
+                } else {
+                    params[property.index] = val;
+                }
+            } else if (objectDecoder.decodeNull()) {
+                if (property.nullable) {
+                    property.set(target, null);
+                } else {
+                    property.setDefault(decoderContext, target);
+                }
+            } else {
+                property.set(target, deserializeValue(objectDecoder, decoderContext, property));
+            }
+        }
+
+        final DeserBean.DerProperty<? super Object, Object>[] properties = schema.properties;
+        for (int i = consumed == null ? next : 0; i < properties.length; i++) {
+            if (consumed != null && consumed[i]) {
+                continue;
+            }
+            @SuppressWarnings("unchecked") final DeserBean.DerProperty<Object, Object> property =
+                    (DeserBean.DerProperty<Object, Object>) properties[i];
+            if (property == null) {
+                continue;
+            }
+            if (schema.creator) {
+                property.setDefault(decoderContext, (Object[]) target);
+            } else {
+                property.setDefault(decoderContext, target);
+            }
+        }
+    }
+
+    private Object deserializeValue(Decoder objectDecoder,
+                                    DecoderContext decoderContext,
+                                    DeserBean.DerProperty<Object, Object> property) throws IOException {
+        try {
+            return property.deserializer.deserialize(objectDecoder, decoderContext, property.argument);
+        } catch (InvalidFormatException e) {
+            throw new InvalidPropertyFormatException(e, property.argument);
+        }
+    }
+
+    private void skipUnknown(Decoder decoder, Argument<? super Object> beanType, String prop) throws IOException {
+        if (ignoreUnknown) {
+            decoder.skipValue();
+        } else {
+            throw new SerdeException("Unknown property [" + prop + "] encountered during deserialization of type: " + beanType);
+        }
+    }
+
+    @Override
+    public boolean allowNull() {
+        return true;
+    }
+}
@@ -23,6 +23,7 @@ import io.micronaut.serde.UpdatingDeserializer;
 import io.micronaut.serde.exceptions.InvalidFormatException;
 import io.micronaut.serde.exceptions.InvalidPropertyFormatException;
 import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.util.KeyTable;
 
 import java.io.IOException;
 
@@ -74,45 +75,58 @@ final class SimpleObjectDeserializer implements Deserializer<Object>, UpdatingDe
             skipUnknownProperties(objectDecoder, beanType);
         } else {
             PropertiesBag<? super Object>.Consumer readProperties = deserBean.readProperties.newConsumer();
+            try {
+                final KeyTable keyTable = readProperties.getKeyTable();
 
-            while (true) {
-                final String prop = objectDecoder.decodeKey();
-                if (prop == null) {
-                    break;
-                }
-                @SuppressWarnings("unchecked") final DeserBean.DerProperty<Object, Object> consumedProperty =
-                        (DeserBean.DerProperty<Object, Object>) readProperties.consume(prop);
-                if (consumedProperty != null) {
-                    boolean isNull = objectDecoder.decodeNull();
-                    if (isNull) {
-                        if (consumedProperty.nullable) {
-                            consumedProperty.set(obj, null);
+                while (true) {
+                    int index = objectDecoder.decodeKeyIndex(keyTable);
+                    if (index == Decoder.END_OF_OBJECT) {
+                        break;
+                    }
+                    String prop = null;
+                    if (index == Decoder.UNRESOLVED_KEY) {
+                        prop = objectDecoder.decodeKey();
+                        if (prop == null) {
+                            break;
+                        }
+                        index = keyTable.indexOf(prop);
+                    }
+                    @SuppressWarnings("unchecked") final DeserBean.DerProperty<Object, Object> consumedProperty =
+                            (DeserBean.DerProperty<Object, Object>) readProperties.consume(index);
+                    if (consumedProperty != null) {
+                        boolean isNull = objectDecoder.decodeNull();
+                        if (isNull) {
+                            if (consumedProperty.nullable) {
+                                consumedProperty.set(obj, null);
+                            } else {
+                                consumedProperty.setDefault(decoderContext, obj);
+                            }
                         } else {
-                            consumedProperty.setDefault(decoderContext, obj);
+                            Object val;
+                            try {
+                                val = consumedProperty.deserializer.deserialize(objectDecoder, decoderContext, consumedProperty.argument);
+                            } catch (InvalidFormatException e) {
+                                throw new InvalidPropertyFormatException(e, consumedProperty.argument);
+                            }
+
+                            consumedProperty.set(obj, val);
+                            if (readProperties.isAllConsumed()) {
+                                skipUnknownProperties(objectDecoder, beanType);
+                                break;
+                            }
                         }
                     } else {
-                        Object val;
-                        try {
-                            val = consumedProperty.deserializer.deserialize(objectDecoder, decoderContext, consumedProperty.argument);
-                        } catch (InvalidFormatException e) {
-                            throw new InvalidPropertyFormatException(e, consumedProperty.argument);
-                        }
-
-                        consumedProperty.set(obj, val);
-                        if (readProperties.isAllConsumed()) {
-                            skipUnknownProperties(objectDecoder, beanType);
-                            break;
-                        }
+                        skipUnknown(objectDecoder, beanType, prop != null ? prop : readProperties.getName(index));
                     }
-                } else {
-                    skipUnknown(objectDecoder, beanType, prop);
                 }
-            }
 
-            if (!readProperties.isAllConsumed()) {
-                for (DeserBean.DerProperty<? super Object, ?> dp : readProperties.getNotConsumed()) {
-                    dp.setDefault(decoderContext, obj);
+                if (!readProperties.isAllConsumed()) {
+                    for (int i = readProperties.nextNotConsumed(0); i != -1; i = readProperties.nextNotConsumed(i + 1)) {
+                        readProperties.getProperty(i).setDefault(decoderContext, obj);
+                    }
                 }
+            } finally {
+                readProperties.release();
             }
         }
         objectDecoder.finishStructure();
@@ -28,6 +28,7 @@ import io.micronaut.serde.exceptions.InvalidFormatException;
 import io.micronaut.serde.exceptions.InvalidPropertyFormatException;
 import io.micronaut.serde.exceptions.SerdeException;
 import io.micronaut.serde.reference.PropertyReference;
+import io.micronaut.serde.util.KeyTable;
 
 import java.io.IOException;
 import java.util.Iterator;
@@ -43,10 +44,19 @@ import java.util.Map;
 class SpecificObjectDeserializer implements Deserializer<Object>, UpdatingDeserializer<Object> {
     private final boolean ignoreUnknown;
     private final DeserBean<? super Object> deserBean;
+    // the discriminator property, skipped if it's found by looking ahead
+    @Nullable
+    private final String discriminatorName;
 
     public SpecificObjectDeserializer(boolean ignoreUnknown, DeserBean<? super Object> deserBean) {
         this.ignoreUnknown = ignoreUnknown && deserBean.ignoreUnknown;
         this.deserBean = deserBean;
+        if (deserBean instanceof SubtypedDeserBean
+                && ((SubtypedDeserBean<?>) deserBean).discriminatorType == SerdeConfig.Subtyped.DiscriminatorType.PROPERTY) {
+            this.discriminatorName = ((SubtypedDeserBean<?>) deserBean).discriminatorName;
+        } else {
+            this.discriminatorName = null;
+        }
     }
 
     @Override
@@ -62,8 +72,7 @@ class SpecificObjectDeserializer implements Deserializer<Object>, UpdatingDeseri
 
         if (deserBean.delegating) {
             if (deserBean.creatorParams != null) {
-                final PropertiesBag<Object>.Consumer creatorParams = deserBean.creatorParams.newConsumer();
-                final DeserBean.DerProperty<Object, Object> creator = creatorParams.getNotConsumed().iterator().next();
+                final DeserBean.DerProperty<Object, Object> creator = deserBean.creatorParams.getProperty(0);
                 final Object val = deserializeValue(decoderContext, decoder, creator, creator.argument, null);
                 return deserBean.introspection.instantiate(val);
             } else {
@@ -72,291 +81,352 @@ class SpecificObjectDeserializer implements Deserializer<Object>, UpdatingDeseri
         } else {
 
             PropertiesBag<Object>.Consumer readProperties = deserBean.readProperties != null ? deserBean.readProperties.newConsumer() : null;
-            boolean hasProperties = readProperties != null;
-
-            Decoder objectDecoder = decoder.decodeObject(type);
-            TokenBuffer tokenBuffer = null;
-            AnyValues<Object> anyValues = deserBean.anySetter != null ? new AnyValues<>(deserBean.anySetter) : null;
-            Object obj;
-
-            if (deserBean instanceof SubtypedDeserBean) {
-                // subtyped binding required
-                SubtypedDeserBean<? super Object> subtypedDeserBean = (SubtypedDeserBean) deserBean;
-                final String discriminatorName = subtypedDeserBean.discriminatorName;
-                final Map<String, DeserBean<?>> subtypes = subtypedDeserBean.subtypes;
-                final SerdeConfig.Subtyped.DiscriminatorType discriminatorType = subtypedDeserBean.discriminatorType;
-                if (discriminatorType == SerdeConfig.Subtyped.DiscriminatorType.PROPERTY) {
-                    while (true) {
-                        final String key = objectDecoder.decodeKey();
-                        if (key == null) {
-                            break;
+            try {
+                boolean hasProperties = readProperties != null;
+
+                Decoder objectDecoder = decoder.decodeObject(type);
+                TokenBuffer tokenBuffer = null;
+                AnyValues<Object> anyValues = deserBean.anySetter != null ? new AnyValues<>(deserBean.anySetter) : null;
+                Object obj;
+
+                if (deserBean instanceof SubtypedDeserBean) {
+                    // subtyped binding required
+                    SubtypedDeserBean<? super Object> subtypedDeserBean = (SubtypedDeserBean) deserBean;
+                    final String discriminatorName = subtypedDeserBean.discriminatorName;
+                    final KeyTable subtypeNames = subtypedDeserBean.subtypeNames;
+                    final SerdeConfig.Subtyped.DiscriminatorType discriminatorType = subtypedDeserBean.discriminatorType;
+                    if (discriminatorType == SerdeConfig.Subtyped.DiscriminatorType.PROPERTY) {
+                        DeserBean<?> subtypeDeser = null;
+                        final int first = objectDecoder.decodeKeyIndex(subtypedDeserBean.discriminatorKeys);
+                        if (first == 0) {
+                            // the discriminator comes first, as we write it
+                            if (!objectDecoder.decodeNull()) {
+                                subtypeDeser = subtypedDeserBean.getSubtype(objectDecoder.decodeStringIndex(subtypeNames));
+                            }
+                        } else if (first == Decoder.UNRESOLVED_KEY) {
+                            // the discriminator is left in the input and skipped once reached
+                            final String subtypeName = objectDecoder.lookaheadString(discriminatorName);
+                            if (subtypeName != null) {
+                                subtypeDeser = subtypedDeserBean.findSubtype(subtypeName);
+                            } else {
+                                while (true) {
+                                    final String key = objectDecoder.decodeKey();
+                                    if (key == null) {
+                                        break;
+                                    }
+
+                                    if (key.equals(discriminatorName)) {
+                                        if (!objectDecoder.decodeNull()) {
+                                            subtypeDeser = subtypedDeserBean.getSubtype(objectDecoder.decodeStringIndex(subtypeNames));
+                                        }
+                                        break;
+                                    } else {
+                                        tokenBuffer = initTokenBuffer(tokenBuffer, objectDecoder, key);
+                                    }
+                                }
+                            }
+                        }
+                        if (subtypeDeser != null) {
+                            //noinspection unchecked
+                            deserBean = (DeserBean<? super Object>) subtypeDeser;
+                            deserBean.initialize(decoderContext);
+                            //noinspection unchecked
+                            objectType = (Class<? super Object>) subtypeDeser.introspection.getBeanType();
+                            if (readProperties != null) {
+                                readProperties.release();
+                            }
+                            readProperties = deserBean.readProperties != null ? deserBean.readProperties.newConsumer() : null;
+                            hasProperties = readProperties != null;
+                            anyValues = deserBean.anySetter != null ? new AnyValues<>(deserBean.anySetter) : null;
                         }
 
-                        if (key.equals(discriminatorName)) {
-                            if (!objectDecoder.decodeNull()) {
-                                final String subtypeName = objectDecoder.decodeString();
-                                final DeserBean<?> subtypeDeser = subtypes.get(subtypeName);
-                                if (subtypeDeser != null) {
-                                    //noinspection unchecked
-                                    deserBean = (DeserBean<? super Object>) subtypeDeser;
+                    } else {
+                        while (true) {
+                            int index = objectDecoder.decodeKeyIndex(subtypeNames);
+                            if (index == Decoder.END_OF_OBJECT) {
+                                break;
+                            }
+                            String key = null;
+                            if (index == Decoder.UNRESOLVED_KEY) {
+                                key = objectDecoder.decodeKey();
+                                if (key == null) {
+                                    break;
+                                }
+                                index = subtypeNames.indexOf(key);
+                            }
+
+                            final DeserBean<?> subtypeBean = subtypedDeserBean.getSubtype(index);
+                            if (subtypeBean != null) {
+                                if (!objectDecoder.decodeNull()) {
+                                    objectDecoder = objectDecoder.decodeObject(type);
+                                    deserBean = (DeserBean<? super Object>) subtypeBean;
                                     deserBean.initialize(decoderContext);
                                     //noinspection unchecked
-                                    objectType = (Class<? super Object>) subtypeDeser.introspection.getBeanType();
+                                    objectType = (Class<? super Object>) subtypeBean.introspection.getBeanType();
+                                    if (readProperties != null) {
+                                        readProperties.release();
+                                    }
                                     readProperties = deserBean.readProperties != null ? deserBean.readProperties.newConsumer() : null;
                                     hasProperties = readProperties != null;
-                                    anyValues = deserBean.anySetter != null ? new AnyValues<>(deserBean.anySetter) : null;
+                                }
+
+                                break;
+                            } else {
+                                if (anyValues != null) {
+                                    tokenBuffer = initTokenBuffer(tokenBuffer, objectDecoder, key);
+                                } else {
+                                    objectDecoder.skipValue();
                                 }
                             }
-                            break;
-                        } else {
-                            tokenBuffer = initTokenBuffer(tokenBuffer, objectDecoder, key);
                         }
                     }
 
-                } else {
-                    while (true) {
-                        final String key = objectDecoder.decodeKey();
-                        if (key == null) {
-                            break;
-                        }
+                }
 
-                        final DeserBean<?> subtypeBean = subtypes.get(key);
-                        if (subtypeBean != null) {
-                            if (!objectDecoder.decodeNull()) {
-                                objectDecoder = objectDecoder.decodeObject(type);
-                                deserBean = (DeserBean<? super Object>) subtypeBean;
-                                deserBean.initialize(decoderContext);
-                                //noinspection unchecked
-                                objectType = (Class<? super Object>) subtypeBean.introspection.getBeanType();
-                                readProperties = deserBean.readProperties != null ? deserBean.readProperties.newConsumer() : null;
-                                hasProperties = readProperties != null;
-                            }
+                if (deserBean.creatorParams != null) {
+                    final PropertiesBag<Object>.Consumer creatorParameters = deserBean.creatorParams.newConsumer();
+                    int creatorSize = deserBean.creatorSize;
+                    Object[] params = new Object[creatorSize];
+                    PropertyBuffer buffer;
+                    try {
+                        buffer = initFromTokenBuffer(
+                                tokenBuffer,
+                                creatorParameters,
+                                readProperties,
+                                anyValues,
+                                decoderContext
+                        );
 
-                            break;
-                        } else {
-                            if (anyValues != null) {
-                                tokenBuffer = initTokenBuffer(tokenBuffer, objectDecoder, key);
+                        final KeyTable creatorKeys = creatorParameters.getKeyTable();
+                        final boolean creatorKeysByName = isDiscriminatorIn(creatorKeys);
+                        while (true) {
+                            int index = creatorKeysByName ? Decoder.UNRESOLVED_KEY : objectDecoder.decodeKeyIndex(creatorKeys);
+                            if (index == Decoder.END_OF_OBJECT) {
+                                break;
+                            }
+                            String prop = null;
+                            if (index == Decoder.UNRESOLVED_KEY) {
+                                prop = objectDecoder.decodeKey();
+                                if (prop == null) {
+                                    break;
+                                }
+                                if (prop.equals(discriminatorName)) {
+                                    objectDecoder.skipValue();
+                                    continue;
+                                }
+                                index = creatorKeys.indexOf(prop);
+                            }
+                            final DeserBean.DerProperty<? super Object, ?> sp = creatorParameters.findNotConsumed(index);
+                            if (sp == null && prop == null) {
+                                // a creator parameter seen before
+                                prop = creatorParameters.getName(index);
+                            }
+                            if (sp != null) {
+                                if (sp.views != null && !decoderContext.hasView(sp.views)) {
+                                    creatorParameters.consume(index);
+                                    objectDecoder.skipValue();
+                                    continue;
+                                }
+                                @SuppressWarnings("unchecked") final Argument<Object> propertyType = (Argument<Object>) sp.argument;
+                                final Object val = deserializeValue(decoderContext, objectDecoder, sp, propertyType, null);
+                                if (val == null) {
+                                    // Skip consume
+                                    continue;
+                                }
+                                creatorParameters.consume(index);
+                                if (prop == null) {
+                                    prop = creatorParameters.getName(index);
+                                }
+                                if (sp.instrospection.getBeanType() == objectType) {
+                                    params[sp.index] = val;
+                                    if (hasProperties && readProperties.isNotConsumed(prop)) {
+                                        // will need binding to properties as well
+                                        buffer = initBuffer(buffer, sp, prop, val);
+                                    }
+                                } else {
+                                    buffer = initBuffer(buffer, sp, prop, val);
+                                }
+                                if (creatorParameters.isAllConsumed()) {
+                                    break;
+                                }
+                            } else if (hasProperties) {
+                                final DeserBean.DerProperty<? super Object, ?> rp = readProperties.findNotConsumed(prop);
+                                if (rp != null) {
+                                    @SuppressWarnings("unchecked") final Argument<Object> argument = (Argument<Object>) rp.argument;
+                                    final Object val = deserializeValue(decoderContext, objectDecoder, rp, argument, null);
+                                    buffer = initBuffer(buffer, rp, prop, val);
+                                } else {
+                                    skipOrSetAny(
+                                            decoderContext,
+                                            objectDecoder,
+                                            prop,
+                                            anyValues,
+                                            ignoreUnknown,
+                                            type
+                                    );
+                                }
                             } else {
-                                objectDecoder.skipValue();
+                                skipOrSetAny(
+                                        decoderContext,
+                                        objectDecoder,
+                                        prop,
+                                        anyValues,
+                                        ignoreUnknown,
+                                        type
+                                );
                             }
                         }
-                    }
-                }
 
-            }
+                        if (buffer != null && !creatorParameters.isAllConsumed()) {
+                            for (PropertyBuffer propertyBuffer : buffer) {
+                                final DeserBean.DerProperty<? super Object, ?> derProperty = creatorParameters.consume(propertyBuffer.name);
+                                if (derProperty != null) {
+                                    propertyBuffer.set(
+                                            params,
+                                            decoderContext
+                                    );
+                                }
+                            }
+                        }
 
-            if (deserBean.creatorParams != null) {
-                final PropertiesBag<Object>.Consumer creatorParameters = deserBean.creatorParams.newConsumer();
-                int creatorSize = deserBean.creatorSize;
-                Object[] params = new Object[creatorSize];
-                PropertyBuffer buffer = initFromTokenBuffer(
-                        tokenBuffer,
-                        creatorParameters,
-                        readProperties,
-                        anyValues,
-                        decoderContext
-                );
+                        if (!creatorParameters.isAllConsumed()) {
+                            // set unsatisfied parameters to defaults or fail
+                            for (int i = creatorParameters.nextNotConsumed(0); i != -1; i = creatorParameters.nextNotConsumed(i + 1)) {
+                                final DeserBean.DerProperty<? super Object, ?> sp = creatorParameters.getProperty(i);
+                                if (sp.backRef != null) {
+                                    final PropertyReference<? super Object, ?> ref = decoderContext.resolveReference(
+                                            new PropertyReference<>(
+                                                    sp.backRef,
+                                                    sp.instrospection,
+                                                    sp.argument,
+                                                    null
+                                            )
+                                    );
+                                    if (ref != null) {
+                                        final Object o = ref.getReference();
+                                        if (o == null) {
+                                            sp.setDefault(decoderContext, params);
+                                        } else {
+                                            params[sp.index] = o;
+                                        }
+                                        continue;
+                                    }
+                                }
+                                if (sp.unwrapped != null && buffer != null) {
+                                    final Object o = materializeFromBuffer(sp, buffer, decoderContext);
+                                    if (o == null) {
+                                        sp.setDefault(decoderContext, params);
+                                    } else {
+                                        params[sp.index] = o;
+                                    }
+                                } else {
+                                    if (sp.isAnySetter && anyValues != null) {
+                                        anyValues.bind(params);
+                                        anyValues = null;
+                                    } else {
+                                        sp.setDefault(decoderContext, params);
+                                    }
+                                }
+                            }
+                        }
+                    } finally {
+                        creatorParameters.release();
+                    }
 
-                while (true) {
-                    final String prop = objectDecoder.decodeKey();
-                    if (prop == null) {
-                        break;
+                    try {
+                        obj = deserBean.introspection.instantiate(params);
+                    } catch (InstantiationException e) {
+                        throw new SerdeException("Unable to deserialize type [" + type + "]: " + e.getMessage(), e);
                     }
-                    final DeserBean.DerProperty<? super Object, ?> sp = creatorParameters.findNotConsumed(prop);
-                    if (sp != null) {
-                        if (sp.views != null && !decoderContext.hasView(sp.views)) {
-                            creatorParameters.consume(prop);
-                            objectDecoder.skipValue();
-                            continue;
-                        }
-                        @SuppressWarnings("unchecked") final Argument<Object> propertyType = (Argument<Object>) sp.argument;
-                        final Object val = deserializeValue(decoderContext, objectDecoder, sp, propertyType, null);
-                        if (val == null) {
-                            // Skip consume
-                            continue;
-                        }
-                        creatorParameters.consume(prop);
-                        if (sp.instrospection.getBeanType() == objectType) {
-                            params[sp.index] = val;
-                            if (hasProperties && readProperties.isNotConsumed(prop)) {
-                                // will need binding to properties as well
-                                buffer = initBuffer(buffer, sp, prop, val);
+                    if (hasProperties) {
+
+                        if (buffer != null) {
+                            for (PropertyBuffer propertyBuffer : buffer) {
+                                final DeserBean.DerProperty<? super Object, ?> derProperty =
+                                        readProperties.consume(propertyBuffer.name);
+                                if (derProperty != null) {
+                                    if (derProperty.instrospection.getBeanType() == objectType) {
+                                        propertyBuffer.set(obj, decoderContext);
+                                    }
+                                }
                             }
-                        } else {
-                            buffer = initBuffer(buffer, sp, prop, val);
                         }
-                        if (creatorParameters.isAllConsumed()) {
-                            break;
-                        }
-                    } else if (hasProperties) {
-                        final DeserBean.DerProperty<? super Object, ?> rp = readProperties.findNotConsumed(prop);
-                        if (rp != null) {
-                            @SuppressWarnings("unchecked") final Argument<Object> argument = (Argument<Object>) rp.argument;
-                            final Object val = deserializeValue(decoderContext, objectDecoder, rp, argument, null);
-                            buffer = initBuffer(buffer, rp, prop, val);
-                        } else {
-                            skipOrSetAny(
+                        if (!readProperties.isAllConsumed()) {
+                            // more properties still to be read
+                            buffer = decodeProperties(
+                                    deserBean,
                                     decoderContext,
+                                    obj,
                                     objectDecoder,
-                                    prop,
+                                    readProperties,
+                                    deserBean.unwrappedProperties,
+                                    buffer,
                                     anyValues,
                                     ignoreUnknown,
                                     type
                             );
                         }
-                    } else {
-                        skipOrSetAny(
-                                decoderContext,
-                                objectDecoder,
-                                prop,
-                                anyValues,
-                                ignoreUnknown,
-                                type
-                        );
-                    }
-                }
-
-                if (buffer != null && !creatorParameters.isAllConsumed()) {
-                    for (PropertyBuffer propertyBuffer : buffer) {
-                        final DeserBean.DerProperty<? super Object, ?> derProperty = creatorParameters.consume(propertyBuffer.name);
-                        if (derProperty != null) {
-                            propertyBuffer.set(
-                                    params,
-                                    decoderContext
-                            );
-                        }
-                    }
-                }
 
-                if (!creatorParameters.isAllConsumed()) {
-                    // set unsatisfied parameters to defaults or fail
-                    for (DeserBean.DerProperty<? super Object, ?> sp : creatorParameters.getNotConsumed()) {
-                        if (sp.backRef != null) {
-                            final PropertyReference<? super Object, ?> ref = decoderContext.resolveReference(
-                                    new PropertyReference<>(
-                                            sp.backRef,
-                                            sp.instrospection,
-                                            sp.argument,
-                                            null
-                                    )
-                            );
-                            if (ref != null) {
-                                final Object o = ref.getReference();
-                                if (o == null) {
-                                    sp.setDefault(decoderContext, params);
-                                } else {
-                                    params[sp.index] = o;
-                                }
-                                continue;
-                            }
-                        }
-                        if (sp.unwrapped != null && buffer != null) {
-                            final Object o = materializeFromBuffer(sp, buffer, decoderContext);
-                            if (o == null) {
-                                sp.setDefault(decoderContext, params);
-                            } else {
-                                params[sp.index] = o;
-                            }
-                        } else {
-                            if (sp.isAnySetter && anyValues != null) {
-                                anyValues.bind(params);
-                                anyValues = null;
-                            } else {
-                                sp.setDefault(decoderContext, params);
-                            }
-                        }
-                    }
-                }
-
-                try {
-                    obj = deserBean.introspection.instantiate(params);
-                } catch (InstantiationException e) {
-                    throw new SerdeException("Unable to deserialize type [" + type + "]: " + e.getMessage(), e);
-                }
-                if (hasProperties) {
-
-                    if (buffer != null) {
-                        for (PropertyBuffer propertyBuffer : buffer) {
-                            final DeserBean.DerProperty<? super Object, ?> derProperty =
-                                    readProperties.consume(propertyBuffer.name);
-                            if (derProperty != null) {
-                                if (derProperty.instrospection.getBeanType() == objectType) {
-                                    propertyBuffer.set(obj, decoderContext);
-                                }
-                            }
-                        }
-                    }
-                    if (!readProperties.isAllConsumed()) {
-                        // more properties still to be read
-                        buffer = decodeProperties(
-                                deserBean,
-                                decoderContext,
+                        applyDefaultValuesOrFail(
                                 obj,
-                                objectDecoder,
                                 readProperties,
                                 deserBean.unwrappedProperties,
                                 buffer,
-                                anyValues,
-                                ignoreUnknown,
-                                type
+                                decoderContext
                         );
                     }
-
-                    applyDefaultValuesOrFail(
-                            obj,
-                            readProperties,
-                            deserBean.unwrappedProperties,
-                            buffer,
-                            decoderContext
-                    );
-                }
-            } else {
-                try {
-                    obj = deserBean.introspection.instantiate();
-                } catch (InstantiationException e) {
-                    throw new SerdeException("Unable to deserialize type [" + type + "]: " + e.getMessage(), e);
-                }
-                if (hasProperties) {
-                    final PropertyBuffer existingBuffer = initFromTokenBuffer(
-                            tokenBuffer,
-                            null,
-                            readProperties,
-                            anyValues,
-                            decoderContext);
-                    final PropertyBuffer propertyBuffer = decodeProperties(deserBean,
-                            decoderContext,
-                                                                           obj,
-                                                                           objectDecoder,
-                                                                           readProperties,
-                                                                           deserBean.unwrappedProperties,
-                                                                           existingBuffer,
-                                                                           anyValues,
-                                                                           ignoreUnknown,
-                            type);
-                    // the property buffer will be non-null if there were any unwrapped
-                    // properties in which case we need to go through and materialize unwrapped
-                    // from the buffer
-                    applyDefaultValuesOrFail(
-                            obj,
-                            readProperties,
-                            deserBean.unwrappedProperties,
-                            propertyBuffer,
-                            decoderContext
-                    );
-                } else if (anyValues != null && tokenBuffer != null) {
-                    for (TokenBuffer buffer : tokenBuffer) {
-                        anyValues.handle(
-                                buffer.name,
-                                buffer.decoder,
+                } else {
+                    try {
+                        obj = deserBean.introspection.instantiate();
+                    } catch (InstantiationException e) {
+                        throw new SerdeException("Unable to deserialize type [" + type + "]: " + e.getMessage(), e);
+                    }
+                    if (hasProperties) {
+                        final PropertyBuffer existingBuffer = initFromTokenBuffer(
+                                tokenBuffer,
+                                null,
+                                readProperties,
+                                anyValues,
+                                decoderContext);
+                        final PropertyBuffer propertyBuffer = decodeProperties(deserBean,
+                                decoderContext,
+                                                                               obj,
+                                                                               objectDecoder,
+                                                                               readProperties,
+                                                                               deserBean.unwrappedProperties,
+                                                                               existingBuffer,
+                                                                               anyValues,
+                                                                               ignoreUnknown,
+                                type);
+                        // the property buffer will be non-null if there were any unwrapped
+                        // properties in which case we need to go through and materialize unwrapped
+                        // from the buffer
+                        applyDefaultValuesOrFail(
+                                obj,
+                                readProperties,
+                                deserBean.unwrappedProperties,
+                                propertyBuffer,
                                 decoderContext
                         );
+                    } else if (anyValues != null && tokenBuffer != null) {
+                        for (TokenBuffer buffer : tokenBuffer) {
+                            anyValues.handle(
+                                    buffer.name,
+                                    buffer.decoder,
+                                    decoderContext
+                            );
+                        }
                     }
                 }
-            }
-            // finish up
-            finalizeObjectDecoder(decoderContext, type, ignoreUnknown, objectDecoder, anyValues, obj);
+                // finish up
+                finalizeObjectDecoder(decoderContext, type, ignoreUnknown, objectDecoder, anyValues, obj);
 
-            return obj;
+                return obj;
+            } finally {
+                if (readProperties != null) {
+                    readProperties.release();
+                }
+            }
         }
     }
 
@@ -490,13 +560,30 @@ class SpecificObjectDeserializer implements Deserializer<Object>, UpdatingDeseri
             @Nullable AnyValues<?> anyValues,
             boolean ignoreUnknown,
             Argument<?> beanType) throws IOException {
+        final KeyTable keyTable = readProperties.getKeyTable();
+        final boolean keysByName = isDiscriminatorIn(keyTable);
         while (true) {
-            final String prop = objectDecoder.decodeKey();
-            if (prop == null) {
+            int index = keysByName ? Decoder.UNRESOLVED_KEY : objectDecoder.decodeKeyIndex(keyTable);
+            if (index == Decoder.END_OF_OBJECT) {
                 break;
             }
+            String prop = null;
+            if (index == Decoder.UNRESOLVED_KEY) {
+                prop = objectDecoder.decodeKey();
+                if (prop == null) {
+                    break;
+                }
+                if (prop.equals(discriminatorName)) {
+                    objectDecoder.skipValue();
+                    continue;
+                }
+                index = keyTable.indexOf(prop);
+            }
+            if (prop == null) {
+                prop = readProperties.getName(index);
+            }
             @SuppressWarnings("unchecked") final DeserBean.DerProperty<Object, Object> property =
-                    (DeserBean.DerProperty<Object, Object>) readProperties.consume(prop);
+                    (DeserBean.DerProperty<Object, Object>) readProperties.consume(index);
             if (property != null && (property.beanProperty != null || property.beanMethod != null)) {
                 if (property.views != null && !decoderContext.hasView(property.views)) {
                     objectDecoder.skipValue();
@@ -537,13 +624,23 @@ class SpecificObjectDeserializer implements Deserializer<Object>, UpdatingDeseri
         return propertyBuffer;
     }
 
+    /**
+     * A discriminator left in the input by looking ahead must be skipped like a consumed one, so keys are resolved by
+     * name when the discriminator is also the name of a property.
+     */
+    private boolean isDiscriminatorIn(KeyTable keyTable) {
+        return discriminatorName != null && keyTable.indexOf(discriminatorName) != KeyTable.NOT_FOUND;
+    }
+
     private void skipOrSetAny(DecoderContext decoderContext,
                               Decoder objectDecoder,
                               String property,
                               @Nullable AnyValues<?> anyValues,
                               boolean ignoreUnknown,
                               Argument<?> type) throws IOException {
-        if (anyValues != null) {
+        if (discriminatorName != null && discriminatorName.equals(property)) {
+            objectDecoder.skipValue();
+        } else if (anyValues != null) {
             anyValues.handle(
                     property,
                     objectDecoder,
@@ -587,7 +684,8 @@ class SpecificObjectDeserializer implements Deserializer<Object>, UpdatingDeseri
             }
         }
         if (!readProperties.isAllConsumed()) {
-            for (DeserBean.DerProperty<? super Object, ?> dp : readProperties.getNotConsumed()) {
+            for (int i = readProperties.nextNotConsumed(0); i != -1; i = readProperties.nextNotConsumed(i + 1)) {
+                final DeserBean.DerProperty<? super Object, ?> dp = readProperties.getProperty(i);
                 if (dp.backRef != null) {
                     final PropertyReference<? super Object, ?> ref = decoderContext.resolveReference(
                             new PropertyReference<>(
@@ -622,10 +720,11 @@ class SpecificObjectDeserializer implements Deserializer<Object>, UpdatingDeseri
         if (unwrapped != null) {
             Object object;
             if (unwrapped.creatorParams != null) {
-                final PropertiesBag<Object>.Consumer creatorParams = unwrapped.creatorParams.newConsumer();
+                final PropertiesBag<Object> creatorParams = unwrapped.creatorParams;
                 Object[] params = new Object[unwrapped.creatorSize];
                 // handle construction
-                for (DeserBean.DerProperty<?, ?> der : creatorParams.getNotConsumed()) {
+                for (int i = 0; i < creatorParams.size(); i++) {
+                    final DeserBean.DerProperty<?, ?> der = creatorParams.getProperty(i);
                     boolean satisfied = false;
                     for (PropertyBuffer pb : buffer) {
                         if (pb.property == der) {
@@ -649,8 +748,9 @@ class SpecificObjectDeserializer implements Deserializer<Object>, UpdatingDeseri
             }
 
             if (unwrapped.readProperties != null) {
-                final PropertiesBag<Object>.Consumer readProperties = unwrapped.readProperties.newConsumer();
-                for (DeserBean.DerProperty<Object, Object> der : readProperties.getNotConsumed()) {
+                final PropertiesBag<Object> readProperties = unwrapped.readProperties;
+                for (int i = 0; i < readProperties.size(); i++) {
+                    final DeserBean.DerProperty<Object, Object> der = readProperties.getProperty(i);
                     boolean satisfied = false;
                     for (PropertyBuffer pb : buffer) {
                         if (pb.property == der) {
@@ -679,37 +779,43 @@ class SpecificObjectDeserializer implements Deserializer<Object>, UpdatingDeseri
         boolean hasProperties = readProperties != null;
         boolean ignoreUnknown = this.ignoreUnknown && deserBean.ignoreUnknown;
         AnyValues<Object> anyValues = deserBean.anySetter != null ? new AnyValues<>(deserBean.anySetter) : null;
-        final Decoder objectDecoder = decoder.decodeObject(type);
-        if (hasProperties) {
-            final PropertyBuffer propertyBuffer = decodeProperties(deserBean,
-                                                                   decoderContext,
-                                                                   value,
-                                                                   objectDecoder,
-                                                                   readProperties,
-                                                                   deserBean.unwrappedProperties,
-                                                                   null,
-                                                                   anyValues,
-                                                                   ignoreUnknown,
-                                                                   type);
-            // the property buffer will be non-null if there were any unwrapped
-            // properties in which case we need to go through and materialize unwrapped
-            // from the buffer
-            applyDefaultValuesOrFail(
-                    value,
-                    readProperties,
-                    deserBean.unwrappedProperties,
-                    propertyBuffer,
-                    decoderContext
+        try {
+            final Decoder objectDecoder = decoder.decodeObject(type);
+            if (hasProperties) {
+                final PropertyBuffer propertyBuffer = decodeProperties(deserBean,
+                                                                       decoderContext,
+                                                                       value,
+                                                                       objectDecoder,
+                                                                       readProperties,
+                                                                       deserBean.unwrappedProperties,
+                                                                       null,
+                                                                       anyValues,
+                                                                       ignoreUnknown,
+                                                                       type);
+                // the property buffer will be non-null if there were any unwrapped
+                // properties in which case we need to go through and materialize unwrapped
+                // from the buffer
+                applyDefaultValuesOrFail(
+                        value,
+                        readProperties,
+                        deserBean.unwrappedProperties,
+                        propertyBuffer,
+                        decoderContext
+                );
+            }
+            finalizeObjectDecoder(
+                    decoderContext,
+                    type,
+                    ignoreUnknown,
+                    objectDecoder,
+                    anyValues,
+                    value
             );
+        } finally {
+            if (readProperties != null) {
+                readProperties.release();
+            }
         }
-        finalizeObjectDecoder(
-                decoderContext,
-                type,
-                ignoreUnknown,
-                objectDecoder,
-                anyValues,
-                value
-        );
     }
 
     private static final class AnyValues<T> {
@@ -16,20 +16,28 @@
 package io.micronaut.serde.support.deserializers;
 
 import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
 import io.micronaut.core.type.Argument;
 import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.annotation.Serdeable;
 import io.micronaut.serde.config.annotation.SerdeConfig;
 import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.util.KeyTable;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
- * Models subtype deserialization.
+ * Models subtype deserialization. The subtypes are resolved by name through a {@link KeyTable}, so decoders can
+ * match the raw discriminator without creating a string.
  *
  * @param <T> The generic type
  */
@@ -37,14 +45,20 @@ import java.util.Map;
 class SubtypedDeserBean<T> extends DeserBean<T> {
     // CHECKSTYLE:OFF
     @NonNull
-    public final Map<String, DeserBean<? extends T>> subtypes;
-    @NonNull
     public final SerdeConfig.Subtyped.DiscriminatorType discriminatorType;
     @NonNull
     public final SerdeConfig.Subtyped.DiscriminatorValueKind discriminatorValue;
     @NonNull
     public final String discriminatorName;
+    @NonNull
+    public final KeyTable discriminatorKeys;
+    /**
+     * The names of the subtypes, resolving to the index of the subtype for {@link #getSubtype(int)}.
+     */
+    @NonNull
+    public final KeyTable subtypeNames;
     // CHECKSTYLE:ON
+    private final DeserBean<? extends T>[] subtypes;
 
     SubtypedDeserBean(AnnotationMetadata annotationMetadata,
                       BeanIntrospection<T> introspection,
@@ -65,33 +79,110 @@ class SubtypedDeserBean<T> extends DeserBean<T> {
                 SerdeConfig.Subtyped.class,
                 SerdeConfig.Subtyped.DISCRIMINATOR_PROP
         ).orElse(discriminatorValue == SerdeConfig.Subtyped.DiscriminatorValueKind.CLASS_NAME ? "@class" : "@type");
+        this.discriminatorKeys = new KeyTable(new String[] {discriminatorName}, new int[] {0});
 
         final Class<T> superType = introspection.getBeanType();
-        final Collection<BeanIntrospection<? extends T>> subtypeIntrospections = decoderContext.getDeserializableSubtypes(superType);
-        this.subtypes = new HashMap<>(subtypeIntrospections.size());
+        final Map<Class<? extends T>, String[]> registered = findRegisteredSubtypes(introspection);
+        final Collection<BeanIntrospection<? extends T>> subtypeIntrospections = registered != null
+                ? findIntrospections(registered.keySet())
+                : decoderContext.getDeserializableSubtypes(superType);
+        final List<String> names = new ArrayList<>(subtypeIntrospections.size());
+        final List<Integer> indexes = new ArrayList<>(subtypeIntrospections.size());
+        //noinspection unchecked
+        this.subtypes = new DeserBean[subtypeIntrospections.size()];
+        int index = 0;
         for (BeanIntrospection<? extends T> subtypeIntrospection : subtypeIntrospections) {
-            final DeserBean<? extends T> deserBean = deserBeanRegistry.getDeserializableBean(
-                    Argument.of(subtypeIntrospection.getBeanType()),
+            final Class<? extends T> subtype = subtypeIntrospection.getBeanType();
+            subtypes[index] = deserBeanRegistry.getDeserializableBean(
+                    Argument.of(subtype),
                     decoderContext
             );
             if (discriminatorValue == SerdeConfig.Subtyped.DiscriminatorValueKind.CLASS_NAME) {
-                this.subtypes.put(
-                        subtypeIntrospection.getBeanType().getName(),
-                        deserBean
-                );
+                names.add(subtype.getName());
+                indexes.add(index);
             } else if (discriminatorValue == SerdeConfig.Subtyped.DiscriminatorValueKind.CLASS_SIMPLE_NAME) {
-                this.subtypes.put(
-                        subtypeIntrospection.getBeanType().getSimpleName(),
-                        deserBean
-                );
+                names.add(subtype.getSimpleName());
+                indexes.add(index);
             } else {
-                final String discriminatorName = deserBean.introspection.stringValue(SerdeConfig.class, SerdeConfig.TYPE_NAME)
-                        .orElse(deserBean.introspection.getBeanType().getSimpleName());
-                this.subtypes.put(
-                        discriminatorName,
-                        deserBean
-                );
+                names.add(subtypeIntrospection.stringValue(SerdeConfig.class, SerdeConfig.TYPE_NAME)
+                        .orElse(subtype.getSimpleName()));
+                indexes.add(index);
+                if (registered != null) {
+                    // every registered name is accepted, a name shared by several subtypes picks the first
+                    for (String name : registered.get(subtype)) {
+                        names.add(name);
+                        indexes.add(index);
+                    }
+                }
+            }
+            index++;
+        }
+        final int[] nameIndexes = new int[indexes.size()];
+        for (int i = 0; i < nameIndexes.length; i++) {
+            nameIndexes[i] = indexes.get(i);
+        }
+        this.subtypeNames = new KeyTable(names.toArray(new String[0]), nameIndexes);
+    }
+
+    /**
+     * @param index The index of the subtype, as resolved by {@link #subtypeNames}
+     * @return The subtype or {@code null} if the index is {@link KeyTable#NOT_FOUND}
+     */
+    @Nullable
+    public DeserBean<? extends T> getSubtype(int index) {
+        return index < 0 || index >= subtypes.length ? null : subtypes[index];
+    }
+
+    /**
+     * @param name The discriminator
+     * @return The subtype or {@code null} if there is no subtype by that name
+     */
+    @Nullable
+    public DeserBean<? extends T> findSubtype(@NonNull String name) {
+        return getSubtype(subtypeNames.indexOf(name));
+    }
+
+    /**
+     * The subtypes registered at compile time, e.g. with {@code @JsonSubTypes}. Like in Jackson the registered
+     * subtypes are the only ones resolved, which spares scanning all introspections for the subtypes.
+     *
+     * @return The subtypes with their registered names or {@code null} if none are registered
+     */
+    @Nullable
+    private static <T> Map<Class<? extends T>, String[]> findRegisteredSubtypes(BeanIntrospection<T> introspection) {
+        final AnnotationValue<SerdeConfig.Subtyped> subtyped = introspection.getDeclaredAnnotation(SerdeConfig.Subtyped.class);
+        if (subtyped == null) {
+            return null;
+        }
+        final List<AnnotationValue<SerdeConfig.Subtyped.Subtype>> values =
+                subtyped.getAnnotations(AnnotationMetadata.VALUE_MEMBER, SerdeConfig.Subtyped.Subtype.class);
+        if (values.isEmpty()) {
+            return null;
+        }
+        final Class<T> superType = introspection.getBeanType();
+        final Map<Class<? extends T>, String[]> subtypes = new LinkedHashMap<>(values.size());
+        for (AnnotationValue<SerdeConfig.Subtyped.Subtype> value : values) {
+            final Class<?> subtype = value.classValue().orElse(null);
+            if (subtype == null) {
+                // not on the classpath, let the scan decide
+                return null;
+            }
+            if (subtype != superType && superType.isAssignableFrom(subtype)) {
+                //noinspection unchecked
+                subtypes.put((Class<? extends T>) subtype, value.stringValues("names"));
+            }
+        }
+        return subtypes;
+    }
+
+    private static <T> Collection<BeanIntrospection<? extends T>> findIntrospections(Collection<Class<? extends T>> types) {
+        final List<BeanIntrospection<? extends T>> introspections = new ArrayList<>(types.size());
+        for (Class<? extends T> type : types) {
+            final BeanIntrospection<? extends T> introspection = BeanIntrospector.SHARED.findIntrospection(type).orElse(null);
+            if (introspection != null && introspection.hasStereotype(Serdeable.Deserializable.class)) {
+                introspections.add(introspection);
             }
         }
+        return introspections;
     }
 }
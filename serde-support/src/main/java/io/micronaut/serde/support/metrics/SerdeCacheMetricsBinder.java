@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.serde.support.SerdeCaches;
+import io.micronaut.serde.support.config.SerdeCacheConfiguration;
+import io.micronaut.serde.support.util.TypeCache;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exposes the statistics of the serde caches as Micrometer meters, tagged with the name of the cache. Bound by
+ * micronaut-micrometer when present.
+ *
+ * @since 1.0.0
+ */
+@Internal
+@Singleton
+@Requires(classes = MeterBinder.class)
+@Requires(property = SerdeCacheConfiguration.PREFIX + ".metrics.enabled", notEquals = StringUtils.FALSE)
+public final class SerdeCacheMetricsBinder implements MeterBinder {
+    private final SerdeCaches caches;
+
+    /**
+     * @param caches The caches
+     */
+    public SerdeCacheMetricsBinder(SerdeCaches caches) {
+        this.caches = caches;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // the caches are created with the registry, which may happen after the meters are bound
+        caches.forEachCache(cache -> bindTo(registry, cache));
+    }
+
+    private static void bindTo(MeterRegistry registry, TypeCache<?> cache) {
+        final Tags tags = Tags.of("cache", cache.getName());
+        FunctionCounter.builder("serde.cache.hits", cache, TypeCache::getHitCount)
+                .tags(tags)
+                .description("The number of lookups that found a cached value")
+                .register(registry);
+        FunctionCounter.builder("serde.cache.misses", cache, TypeCache::getMissCount)
+                .tags(tags)
+                .description("The number of lookups that found no cached value")
+                .register(registry);
+        FunctionCounter.builder("serde.cache.evictions", cache, TypeCache::getEvictionCount)
+                .tags(tags)
+                .description("The number of evicted values")
+                .register(registry);
+        Gauge.builder("serde.cache.size", cache, TypeCache::size)
+                .tags(tags)
+                .description("The number of cached values")
+                .register(registry);
+        FunctionTimer.builder("serde.cache.builds", cache, TypeCache::getBuildCount, TypeCache::getTotalBuildNanos, TimeUnit.NANOSECONDS)
+                .tags(tags)
+                .description("The time spent building the cached values")
+                .register(registry);
+    }
+}
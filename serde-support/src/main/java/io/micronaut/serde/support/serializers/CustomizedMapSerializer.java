@@ -25,6 +25,7 @@ import io.micronaut.serde.exceptions.SerdeException;
 import io.micronaut.serde.util.CustomizableSerializer;
 
 import java.io.IOException;
+import java.lang.reflect.Modifier;
 import java.util.Map;
 
 /**
@@ -39,17 +40,19 @@ final class CustomizedMapSerializer<K, V> implements CustomizableSerializer<Map<
     @Override
     public Serializer<Map<K, V>> createSpecific(EncoderContext context, Argument<? extends Map<K, V>> type) throws SerdeException {
         final Argument[] generics = type.getTypeParameters();
-        final boolean hasGenerics = ArrayUtils.isNotEmpty(generics) && generics.length != 2;
-        if (hasGenerics) {
+        final boolean hasGenerics = ArrayUtils.isNotEmpty(generics) && generics.length == 2;
+        // keys typed as strings skip the per key instanceof check and conversion
+        final boolean stringKeys = hasGenerics && CharSequence.class.isAssignableFrom(generics[0].getType());
+        if (hasGenerics && isMonomorphic(generics[1])) {
             final Argument<V> valueGeneric = (Argument<V>) generics[1];
             final Serializer<V> valSerializer = (Serializer<V>) context.findSerializer(valueGeneric).createSpecific(context, valueGeneric);
             return new Serializer<Map<K, V>>() {
                 @Override
                 public void serialize(Encoder encoder, EncoderContext context, Argument<? extends Map<K, V>> type, Map<K, V> value) throws IOException {
                     final Encoder childEncoder = encoder.encodeObject(type);
-                    for (K k : value.keySet()) {
-                        encodeMapKey(context, childEncoder, k);
-                        final V v = value.get(k);
+                    for (Map.Entry<K, V> entry : value.entrySet()) {
+                        encodeMapKey(context, childEncoder, entry.getKey(), stringKeys);
+                        final V v = entry.getValue();
                         if (v == null) {
                             childEncoder.encodeNull();
                         } else {
@@ -69,24 +72,19 @@ final class CustomizedMapSerializer<K, V> implements CustomizableSerializer<Map<
                 }
             };
         } else {
+            final RuntimeTypeSerializerCache valueSerializers = new RuntimeTypeSerializerCache();
             return new Serializer<Map<K, V>>() {
                 @Override
                 public void serialize(Encoder encoder, EncoderContext context, Argument<? extends Map<K, V>> type, Map<K, V> value) throws IOException {
-                    // slow path, lookup each value serializer
+                    // values may be of any type, their serializers are looked up by runtime type
                     final Encoder childEncoder = encoder.encodeObject(type);
                     for (Map.Entry<K, V> entry : value.entrySet()) {
-                        encodeMapKey(context, childEncoder, entry.getKey());
+                        encodeMapKey(context, childEncoder, entry.getKey(), stringKeys);
                         final V v = entry.getValue();
                         if (v == null) {
                             childEncoder.encodeNull();
                         } else {
-                            @SuppressWarnings("unchecked") final Argument<V> valueGeneric = (Argument<V>) Argument.of(v.getClass());
-                            final Serializer<? super V> valSerializer = context.findSerializer(valueGeneric);
-                            valSerializer.serialize(
-                                    childEncoder,
-                                    context,
-                                    valueGeneric, v
-                            );
+                            valueSerializers.serialize(childEncoder, context, v);
                         }
                     }
                     childEncoder.finishStructure();
@@ -100,10 +98,19 @@ final class CustomizedMapSerializer<K, V> implements CustomizableSerializer<Map<
         }
     }
 
-    private void encodeMapKey(EncoderContext context, Encoder childEncoder, K k) throws IOException {
+    /**
+     * Values of a final type all share the serializer of the declared type, other values may be subtypes with
+     * their own serializer.
+     */
+    private static boolean isMonomorphic(Argument<?> valueType) {
+        final Class<?> type = valueType.getType();
+        return type.isPrimitive() || (type != Object.class && Modifier.isFinal(type.getModifiers()) && !type.isArray());
+    }
+
+    private void encodeMapKey(EncoderContext context, Encoder childEncoder, K k, boolean stringKey) throws IOException {
         // relies on the key type implementing toString() correctly
         // perhaps we should supply conversion service
-        if (k instanceof CharSequence) {
+        if (stringKey || k instanceof CharSequence) {
             childEncoder.encodeKey(k.toString());
         } else {
             try {
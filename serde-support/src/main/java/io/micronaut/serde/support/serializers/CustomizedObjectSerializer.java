@@ -45,6 +45,9 @@ import java.util.Map;
 @Internal
 public class CustomizedObjectSerializer<T> implements Serializer<T> {
     private final SerBean<Object> serBean;
+    private final RuntimeTypeSerializerCache anyValueSerializers = new RuntimeTypeSerializerCache();
+    // serializer of the declared any getter value type, racy but idempotent
+    private Serializer<Object> anyValueSerializer;
 
     public CustomizedObjectSerializer(SerBean<Object> serBean) {
         this.serBean = serBean;
@@ -116,7 +119,7 @@ public class CustomizedObjectSerializer<T> implements Serializer<T> {
                     );
                 }
                 try {
-                    childEncoder.encodeKey(property.name);
+                    childEncoder.encodeKey(property.encodedName);
                     if (v == null) {
                         childEncoder.encodeNull();
                     } else {
@@ -138,21 +141,18 @@ public class CustomizedObjectSerializer<T> implements Serializer<T> {
                 if (data instanceof Map) {
                     Map<Object, Object> map = (Map<Object, Object>) data;
                     if (CollectionUtils.isNotEmpty(map)) {
-
-                        for (Object k : map.keySet()) {
-                            final Object v = map.get(k);
-                            childEncoder.encodeKey(k.toString());
+                        final Argument<Object> valueType = (Argument<Object>) anyGetter.argument.getTypeVariable("V")
+                                .orElse(null);
+                        final boolean runtimeValueType = valueType == null || valueType.equalsType(Argument.OBJECT_ARGUMENT);
+                        for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                            final Object v = entry.getValue();
+                            childEncoder.encodeKey(entry.getKey().toString());
                             if (v == null) {
                                 childEncoder.encodeNull();
+                            } else if (runtimeValueType) {
+                                anyValueSerializers.serialize(childEncoder, context, v);
                             } else {
-                                Argument<?> valueType = anyGetter.argument.getTypeVariable("V")
-                                        .orElse(null);
-                                if (valueType == null || valueType.equalsType(Argument.OBJECT_ARGUMENT)) {
-                                    valueType = Argument.of(v.getClass());
-                                }
-                                @SuppressWarnings("unchecked") final Serializer<Object> serializer =
-                                        (Serializer<Object>) context.findSerializer(valueType);
-                                serializer.serialize(
+                                getAnyValueSerializer(context, valueType).serialize(
                                         childEncoder,
                                         context,
                                         valueType, v
@@ -174,6 +174,16 @@ public class CustomizedObjectSerializer<T> implements Serializer<T> {
 
     }
 
+    @SuppressWarnings("unchecked")
+    private Serializer<Object> getAnyValueSerializer(EncoderContext context, Argument<Object> valueType) throws SerdeException {
+        Serializer<Object> serializer = anyValueSerializer;
+        if (serializer == null) {
+            serializer = (Serializer<Object>) context.findSerializer(valueType).createSpecific(context, valueType);
+            anyValueSerializer = serializer;
+        }
+        return serializer;
+    }
+
     /**
      * Obtains the write properties for this serializer.
      * @param serBean The serialization bean.
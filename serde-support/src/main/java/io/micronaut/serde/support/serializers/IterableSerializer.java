@@ -36,6 +36,9 @@ final class IterableSerializer<T> implements CustomizableSerializer<Iterable<T>>
             if (generic.getType() == String.class) {
                 return (Serializer) StringIterableSerializer.INSTANCE;
             }
+            if (generic.getType() == Object.class) {
+                return new RuntimeValueIterableSerializer<>();
+            }
             Serializer<? super T> componentSerializer = context.findSerializer(generic)
                     .createSpecific(context, generic);
             return new CustomizedIterableSerializer<>(generic, componentSerializer);
@@ -29,8 +29,11 @@ import io.micronaut.serde.Serializer;
 import io.micronaut.serde.config.SerializationConfiguration;
 import io.micronaut.serde.config.annotation.SerdeConfig;
 import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.SerdeCaches;
+import io.micronaut.serde.support.util.TypeCache;
 import io.micronaut.serde.support.util.TypeKey;
 import io.micronaut.serde.util.CustomizableSerializer;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import java.io.IOException;
@@ -40,7 +43,6 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
@@ -61,11 +63,23 @@ import java.util.function.Supplier;
 public final class ObjectSerializer implements CustomizableSerializer<Object> {
     private final SerdeIntrospections introspections;
     private final SerializationConfiguration configuration;
-    private final Map<TypeKey, Supplier<SerBean<Object>>> serBeanMap = new ConcurrentHashMap<>(50);
+    private final TypeCache<Supplier<SerBean<Object>>> serBeanMap;
 
     public ObjectSerializer(SerdeIntrospections introspections, SerializationConfiguration configuration) {
+        this(introspections, configuration, new TypeCache<>(SerdeCaches.SER_BEANS, TypeCache.UNBOUNDED));
+    }
+
+    @Inject
+    public ObjectSerializer(SerdeIntrospections introspections, SerializationConfiguration configuration, SerdeCaches caches) {
+        this(introspections, configuration, caches.create(SerdeCaches.SER_BEANS, caches.getConfiguration().getSerBeans()));
+    }
+
+    private ObjectSerializer(SerdeIntrospections introspections,
+                             SerializationConfiguration configuration,
+                             TypeCache<Supplier<SerBean<Object>>> serBeanMap) {
         this.introspections = introspections;
         this.configuration = configuration;
+        this.serBeanMap = serBeanMap;
     }
 
     @Override
@@ -147,7 +161,8 @@ public final class ObjectSerializer implements CustomizableSerializer<Object> {
                                     new ArrayList<>(super.getWriteProperties(
                                             serBean));
                             if (!order.isEmpty()) {
-                                writeProperties.sort(Comparator.comparingInt(o -> order.indexOf(o.name)));
+                                // the discriminator stays first
+                                writeProperties.sort(Comparator.comparingInt(o -> o == serBean.discriminator ? Integer.MIN_VALUE : order.indexOf(o.name)));
                             }
                             if (hasIgnored) {
                                 writeProperties.removeIf(p -> ignoreSet.contains(p.name));
@@ -168,20 +183,39 @@ public final class ObjectSerializer implements CustomizableSerializer<Object> {
         }
     }
 
+    /**
+     * Resolve and initialize the bean description of the given type ahead of its first use.
+     *
+     * @param type           The type
+     * @param encoderContext The encoder context
+     * @throws SerdeException If the type can't be serialized
+     */
+    @Internal
+    public void warmUp(Argument<?> type, EncoderContext encoderContext) throws SerdeException {
+        try {
+            getSerBean(type, encoderContext).get().initialize(encoderContext);
+        } catch (IntrospectionException e) {
+            throw new SerdeException(e.getMessage(), e);
+        }
+    }
+
     private Supplier<SerBean<Object>> getSerBean(Argument<? extends Object> type, Serializer.EncoderContext context) {
         TypeKey key = new TypeKey(type);
         Supplier<SerBean<Object>> serBeanSupplier = serBeanMap.get(key);
         if (serBeanSupplier == null) {
-            serBeanSupplier = SupplierUtil.memoized(() -> create(type, context));
+            serBeanSupplier = SupplierUtil.memoized(() -> create(key, type, context));
             serBeanMap.put(key, serBeanSupplier);
         }
         return serBeanSupplier;
     }
 
     @SuppressWarnings("unchecked")
-    private SerBean<Object> create(Argument<? extends Object> type, EncoderContext encoderContext) {
+    private SerBean<Object> create(TypeKey key, Argument<? extends Object> type, EncoderContext encoderContext) {
         try {
-            return new SerBean<>((Argument<Object>) type, introspections, encoderContext, configuration);
+            final long start = System.nanoTime();
+            final SerBean<Object> serBean = new SerBean<>((Argument<Object>) type, introspections, encoderContext, configuration);
+            serBeanMap.recordBuildTime(key, System.nanoTime() - start);
+            return serBean;
         } catch (SerdeException e) {
             throw new IntrospectionException("Error creating deserializer for type [" + type + "]: " + e.getMessage(), e);
         }
@@ -189,7 +223,12 @@ public final class ObjectSerializer implements CustomizableSerializer<Object> {
 
     private static class RuntimeTypeSerializer implements Serializer<Object> {
         private final EncoderContext encoderContext;
-        private Serializer<Object> inner;
+        private final RuntimeTypeSerializerCache serializers = new RuntimeTypeSerializerCache() {
+            @Override
+            protected Serializer<Object> resolveSerializer(EncoderContext context, Argument<Object> type, Object value) throws SerdeException {
+                return tryToFindSerializer(context, value);
+            }
+        };
 
         public RuntimeTypeSerializer(EncoderContext encoderContext) {
             this.encoderContext = encoderContext;
@@ -200,9 +239,9 @@ public final class ObjectSerializer implements CustomizableSerializer<Object> {
                 throws IOException {
             if (value == null) {
                 encoder.encodeNull();
+                return;
             }
-            Argument<Object> arg = Argument.of((Class) value.getClass());
-            getSerializer(context, value).serialize(encoder, context, arg, value);
+            serializers.serialize(encoder, context, value);
         }
 
         @Override
@@ -211,7 +250,7 @@ public final class ObjectSerializer implements CustomizableSerializer<Object> {
                 return true;
             }
             try {
-                return getSerializer(context, value).isEmpty(context, value);
+                return serializers.findSerializer(context, value).isEmpty(context, value);
             } catch (SerdeException e) {
                 // will fail later
             }
@@ -224,20 +263,13 @@ public final class ObjectSerializer implements CustomizableSerializer<Object> {
                 return true;
             }
             try {
-                return getSerializer(context, value).isAbsent(context, value);
+                return serializers.findSerializer(context, value).isAbsent(context, value);
             } catch (SerdeException e) {
                 // will fail later
             }
             return Serializer.super.isAbsent(context, value);
         }
 
-        private Serializer<Object> getSerializer(EncoderContext context, Object value) throws SerdeException {
-            if (inner == null) {
-                inner = tryToFindSerializer(context, value);
-            }
-            return inner;
-        }
-
         protected Serializer<Object> tryToFindSerializer(EncoderContext context, Object value) throws SerdeException {
             Argument<Object> arg = Argument.of((Class) value.getClass());
             return encoderContext.findSerializer(arg).createSpecific(context, arg);
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.serializers;
+
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Encoder;
+import io.micronaut.serde.Serializer;
+import io.micronaut.serde.exceptions.SerdeException;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Polymorphic inline cache of the serializers of the runtime types of values, for the serializers that can't know
+ * the type of their values up front, like the values of a {@code Map<String, Object>}. The serializers specialized
+ * for the first {@value #MAX_ENTRIES} classes seen are kept, values of other classes are looked up in the registry
+ * every time.
+ * <p>
+ * Subclasses can customize how the serializer of a type is resolved with {@link #resolveSerializer}.
+ * <p>
+ * Instances are shared between threads with the serializer owning them: entries are immutable and published by
+ * replacing the volatile array, a racing addition may be lost and simply resolved again later.
+ */
+class RuntimeTypeSerializerCache {
+    private static final int MAX_ENTRIES = 4;
+    private static final Entry[] EMPTY = new Entry[0];
+
+    private volatile Entry[] entries = EMPTY;
+
+    /**
+     * Serialize a value with the serializer of its runtime type.
+     *
+     * @param encoder The encoder
+     * @param context The encoder context
+     * @param value   The value, not {@code null}
+     * @throws IOException If the value can't be serialized
+     */
+    void serialize(Encoder encoder, Serializer.EncoderContext context, Object value) throws IOException {
+        final Entry entry = find(context, value);
+        entry.serializer.serialize(encoder, context, entry.argument, value);
+    }
+
+    /**
+     * @param context The encoder context
+     * @param value   The value, not {@code null}
+     * @return The serializer of the runtime type of the value
+     * @throws SerdeException If there is no serializer for the type
+     */
+    Serializer<Object> findSerializer(Serializer.EncoderContext context, Object value) throws SerdeException {
+        return find(context, value).serializer;
+    }
+
+    private Entry find(Serializer.EncoderContext context, Object value) throws SerdeException {
+        final Class<?> type = value.getClass();
+        final Entry[] entries = this.entries;
+        for (Entry entry : entries) {
+            if (entry.type == type) {
+                return entry;
+            }
+        }
+        @SuppressWarnings("unchecked") final Argument<Object> argument = (Argument<Object>) Argument.of(type);
+        final Entry entry = new Entry(type, argument, resolveSerializer(context, argument, value));
+        if (entries.length < MAX_ENTRIES) {
+            final Entry[] grown = Arrays.copyOf(entries, entries.length + 1);
+            grown[entries.length] = entry;
+            this.entries = grown;
+        }
+        return entry;
+    }
+
+    /**
+     * Resolve the serializer of a runtime type, the result is cached for the type.
+     *
+     * @param context The encoder context
+     * @param type    The runtime type
+     * @param value   The first value of the type
+     * @return The specific serializer
+     * @throws SerdeException If there is no serializer for the type
+     */
+    @SuppressWarnings("unchecked")
+    protected Serializer<Object> resolveSerializer(Serializer.EncoderContext context, Argument<Object> type, Object value) throws SerdeException {
+        return (Serializer<Object>) context.findSerializer(type).createSpecific(context, type);
+    }
+
+    private static final class Entry {
+        final Class<?> type;
+        final Argument<Object> argument;
+        final Serializer<Object> serializer;
+
+        Entry(Class<?> type, Argument<Object> argument, Serializer<Object> serializer) {
+            this.type = type;
+            this.argument = argument;
+            this.serializer = serializer;
+        }
+    }
+}
@@ -29,25 +29,18 @@ import java.util.Collection;
  * @author Denis Stepanov
  */
 final class RuntimeValueIterableSerializer<T> implements Serializer<Iterable<T>> {
+    private final RuntimeTypeSerializerCache componentSerializers = new RuntimeTypeSerializerCache();
 
     @Override
     public void serialize(Encoder encoder, EncoderContext context, Argument<? extends Iterable<T>> type, Iterable<T> value) throws IOException {
-        // slow path, generic look up per element
+        // slow path, look up per element by runtime type
         final Encoder childEncoder = encoder.encodeArray(type);
-        Class<?> lastValueClass = null;
-        Serializer<? super T> componentSerializer = null;
-        Argument<T> generic = null;
         for (T t : value) {
             if (t == null) {
-                encoder.encodeNull();
+                childEncoder.encodeNull();
                 continue;
             }
-            if (lastValueClass != t.getClass()) {
-                generic = (Argument<T>) Argument.of(t.getClass());
-                componentSerializer = context.findSerializer(generic).createSpecific(context, generic);
-                lastValueClass = t.getClass();
-            }
-            componentSerializer.serialize(childEncoder, context, generic, t);
+            componentSerializers.serialize(childEncoder, context, t);
         }
         childEncoder.finishStructure();
     }
@@ -37,7 +37,9 @@ import io.micronaut.serde.config.SerializationConfiguration;
 import io.micronaut.serde.config.annotation.SerdeConfig;
 import io.micronaut.serde.config.naming.PropertyNamingStrategy;
 import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.util.LockFreeInitializer;
 import io.micronaut.serde.support.util.SerdeAnnotationUtil;
+import io.micronaut.serde.util.EncodedKey;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
@@ -77,12 +79,16 @@ final class SerBean<T> {
     public final String wrapperProperty;
     @Nullable
     public SerProperty<T, Object> anyGetter;
+    /**
+     * The subtype discriminator, always the first of the {@link #writeProperties}.
+     */
+    @Nullable
+    public SerProperty<T, Object> discriminator;
     public SerProperty<T, Object> jsonValue;
     public final SerializationConfiguration configuration;
     public final boolean simpleBean;
 
-    private volatile boolean initialized;
-    private List<Initializer> initializers = new ArrayList<>();
+    private final LockFreeInitializer<Serializer.EncoderContext> initializer = new LockFreeInitializer<>();
 
     // CHECKSTYLE:ON
 
@@ -129,7 +135,7 @@ final class SerBean<T> {
                     propertyAnnotationMetadata,
                     beanProperty
             );
-            initializers.add(ctx -> initProperty(SerBean.this.jsonValue, ctx));
+            initializer.add(ctx -> resolveProperty(SerBean.this.jsonValue, ctx));
             writeProperties = Collections.emptyList();
         } else {
             final Collection<BeanMethod<T, Object>> beanMethods = introspection.getBeanMethods();
@@ -146,7 +152,7 @@ final class SerBean<T> {
                         serMethod.getAnnotationMetadata(),
                         serMethod
                 );
-                initializers.add(ctx -> initProperty(SerBean.this.jsonValue, ctx));
+                initializer.add(ctx -> resolveProperty(SerBean.this.jsonValue, ctx));
                 writeProperties = Collections.emptyList();
             } else {
                 final List<BeanMethod<T, Object>> jsonGetters = new ArrayList<>(beanMethods.size());
@@ -165,40 +171,38 @@ final class SerBean<T> {
                 ) : null;
 
                 if (this.anyGetter != null) {
-                    initializers.add(ctx -> initProperty(SerBean.this.anyGetter, ctx));
+                    initializer.add(ctx -> resolveProperty(SerBean.this.anyGetter, ctx));
                 }
 
-                if (!properties.isEmpty() || !jsonGetters.isEmpty()) {
-                    writeProperties = new ArrayList<>(properties.size() + jsonGetters.size());
-                    AnnotationMetadata am = new AnnotationMetadataHierarchy(introspection, definition.getAnnotationMetadata());
-                    am.stringValue(SerdeConfig.class, SerdeConfig.TYPE_NAME).ifPresent((typeName) -> {
-                        String typeProperty = am.stringValue(SerdeConfig.class, SerdeConfig.TYPE_PROPERTY).orElse(null);
-                        if (typeProperty != null) {
-                            SerProperty<T, String> prop;
-                            if (SerdeConfig.TYPE_NAME_CLASS_SIMPLE_NAME_PLACEHOLDER.equals(typeName)) {
-                                prop = new CustomSerProperty<>(SerBean.this,
-                                        typeProperty,
-                                        Argument.of(String.class, typeProperty),
-                                        t -> t.getClass().getSimpleName());
-                            } else {
-                                prop = new InjectedSerProperty<>(SerBean.this,
-                                        typeProperty,
-                                        Argument.of(String.class, typeProperty),
-                                        typeName);
-                            }
-                            writeProperties.add((SerProperty) prop);
-                            initializers.add(new Initializer() {
-                                @Override
-                                public void initialize(Serializer.EncoderContext context) {
-                                    try {
-                                        initProperty(prop, context);
-                                    } catch (SerdeException e) {
-                                        throw new IntrospectionException("Error configuring subtype binding for type " + introspection.getBeanType() + ": " + e.getMessage());
-                                    }
-                                }
-                            });
+                AnnotationMetadata am = new AnnotationMetadataHierarchy(introspection, definition.getAnnotationMetadata());
+                final String typeName = am.stringValue(SerdeConfig.class, SerdeConfig.TYPE_NAME).orElse(null);
+                final String typeProperty = typeName != null ? am.stringValue(SerdeConfig.class, SerdeConfig.TYPE_PROPERTY).orElse(null) : null;
+                if (typeProperty != null || !properties.isEmpty() || !jsonGetters.isEmpty()) {
+                    writeProperties = new ArrayList<>(properties.size() + jsonGetters.size() + 1);
+                    if (typeProperty != null) {
+                        // the discriminator is always written first, so readers can resolve the subtype without buffering
+                        SerProperty<T, String> prop;
+                        if (SerdeConfig.TYPE_NAME_CLASS_SIMPLE_NAME_PLACEHOLDER.equals(typeName)) {
+                            prop = new CustomSerProperty<>(SerBean.this,
+                                    typeProperty,
+                                    Argument.of(String.class, typeProperty),
+                                    t -> t.getClass().getSimpleName());
+                        } else {
+                            prop = new InjectedSerProperty<>(SerBean.this,
+                                    typeProperty,
+                                    Argument.of(String.class, typeProperty),
+                                    typeName);
                         }
-                    });
+                        discriminator = (SerProperty) prop;
+                        writeProperties.add(discriminator);
+                        initializer.add(ctx -> {
+                            try {
+                                return resolveProperty(prop, ctx);
+                            } catch (SerdeException e) {
+                                throw new IntrospectionException("Error configuring subtype binding for type " + introspection.getBeanType() + ": " + e.getMessage());
+                            }
+                        });
+                    }
                     for (Map.Entry<BeanProperty<T, Object>, AnnotationMetadata> propWithAnnotations : properties) {
                         final BeanProperty<T, Object> property = propWithAnnotations.getKey();
                         final Argument<Object> argument = property.asArgument();
@@ -225,7 +229,7 @@ final class SerBean<T> {
                                         bean -> unwrappedProperty.get(property.get(bean))
                                 );
                                 writeProperties.add(prop);
-                                initializers.add(ctx -> initProperty(prop, ctx));
+                                initializer.add(ctx -> resolveProperty(prop, ctx));
                             }
                         } else {
                             String n = resolveName(annotationMetadata, propertyAnnotationMetadata, defaultPropertyName, false, propertyNamingStrategy);
@@ -236,9 +240,9 @@ final class SerBean<T> {
                                     property
                             );
 
-                            initializers.add(ctx -> {
+                            initializer.add(ctx -> {
                                 try {
-                                    initProperty(serProperty, ctx);
+                                    return resolveProperty(serProperty, ctx);
                                 } catch (SerdeException e) {
                                     throw new SerdeException("Error resolving serializer for property [" + property + "] of type [" + argument.getType().getName() + "]: " + e.getMessage(), e);
                                 }
@@ -264,7 +268,7 @@ final class SerBean<T> {
                                 jsonGetter
                         );
                         writeProperties.add(prop);
-                        initializers.add(ctx -> initProperty(prop, ctx));
+                        initializer.add(ctx -> resolveProperty(prop, ctx));
                     }
                 } else {
                     writeProperties = Collections.emptyList();
@@ -276,25 +280,12 @@ final class SerBean<T> {
     }
 
     public void initialize(Serializer.EncoderContext encoderContext) throws SerdeException {
-        if (!initialized) {
-            synchronized (this) {
-                if (!initialized) {
-                    for (Initializer initializer : initializers) {
-                        initializer.initialize(encoderContext);
-                    }
-                    initializers = null;
-                    initialized = true;
-                }
-            }
-        }
+        initializer.initialize(encoderContext);
     }
 
-    private <Y, Z> void initProperty(SerProperty<Y, Z> prop, Serializer.EncoderContext encoderContext) throws SerdeException {
-        if (prop.serializer != null) {
-            return;
-        }
-        prop.serializer = findSerializer(encoderContext, prop.argument, prop.annotationMetadata);
-        prop.annotationMetadata = null;
+    private <Y, Z> Runnable resolveProperty(SerProperty<Y, Z> prop, Serializer.EncoderContext encoderContext) throws SerdeException {
+        final Serializer<Z> serializer = findSerializer(encoderContext, prop.argument, prop.annotationMetadata);
+        return () -> prop.serializer = serializer;
     }
 
     private boolean isSimpleBean() {
@@ -436,6 +427,7 @@ final class SerBean<T> {
     abstract static class SerProperty<B, P> {
         // CHECKSTYLE:OFF
         public final String name;
+        public final EncodedKey encodedName;
         public final Argument<P> argument;
         public final Class<?>[] views;
         public final String managedRef;
@@ -443,7 +435,7 @@ final class SerBean<T> {
         public final SerdeConfig.SerInclude include;
         // Null when not initialized SerBean
         public Serializer<P> serializer;
-        public AnnotationMetadata annotationMetadata;
+        public final AnnotationMetadata annotationMetadata;
         // CHECKSTYLE:ON
 
         public SerProperty(
@@ -459,6 +451,7 @@ final class SerBean<T> {
                 @NonNull Argument<P> argument,
                 @NonNull AnnotationMetadata annotationMetadata) {
             this.name = name;
+            this.encodedName = EncodedKey.of(name);
             this.argument = argument;
             final AnnotationMetadata beanMetadata = bean.introspection.getAnnotationMetadata();
             final AnnotationMetadata hierarchy =
@@ -477,10 +470,4 @@ final class SerBean<T> {
         public abstract P get(B bean);
     }
 
-    private interface Initializer {
-
-        void initialize(Serializer.EncoderContext encoderContext) throws SerdeException;
-
-    }
-
 }
@@ -45,7 +45,7 @@ public final class SimpleObjectSerializer<T> implements Serializer<T> {
             serBean.initialize(context);
             Encoder childEncoder = encoder.encodeObject(type);
             for (SerBean.SerProperty<Object, Object> property : serBean.writeProperties) {
-                childEncoder.encodeKey(property.name);
+                childEncoder.encodeKey(property.encodedName);
                 Object v = property.get(value);
                 if (v == null) {
                     childEncoder.encodeNull();
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.util;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.serde.exceptions.SerdeException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free, at-most-once initialization of the lazily resolved parts of a bean description. Threads racing to
+ * initialize resolve the steps concurrently without blocking each other, the first one to finish publishes its
+ * result with a CAS and every thread then applies that result. A thread re-entering the initialization it is
+ * already running, e.g. for a recursive type, returns immediately and leaves it to the outer call.
+ *
+ * @param <C> The type of the context the steps are resolved with
+ * @since 1.0.0
+ */
+@Internal
+public final class LockFreeInitializer<C> {
+    private static final ThreadLocal<Set<LockFreeInitializer<?>>> IN_PROGRESS =
+            ThreadLocal.withInitial(() -> Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    private final List<Step<C>> steps = new ArrayList<>();
+    private final AtomicReference<List<Runnable>> resolved = new AtomicReference<>();
+    private volatile boolean initialized;
+
+    /**
+     * Add a step. Steps can only be added before the first initialization.
+     *
+     * @param step The step
+     */
+    public void add(@NonNull Step<C> step) {
+        steps.add(step);
+    }
+
+    /**
+     * @return Whether the initialization completed
+     */
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    /**
+     * Run the initialization unless it already completed.
+     *
+     * @param context The context
+     * @throws SerdeException If a step fails, nothing is published in that case
+     */
+    public void initialize(@NonNull C context) throws SerdeException {
+        if (initialized) {
+            return;
+        }
+        List<Runnable> publication = resolved.get();
+        if (publication == null) {
+            final Set<LockFreeInitializer<?>> inProgress = IN_PROGRESS.get();
+            if (!inProgress.add(this)) {
+                return;
+            }
+            try {
+                final List<Runnable> own = new ArrayList<>(steps.size());
+                for (Step<C> step : steps) {
+                    own.add(step.resolve(context));
+                }
+                publication = resolved.compareAndSet(null, own) ? own : resolved.get();
+            } finally {
+                inProgress.remove(this);
+            }
+        }
+        // every thread applies the same publication, so the writes are idempotent
+        for (Runnable apply : publication) {
+            apply.run();
+        }
+        initialized = true;
+    }
+
+    /**
+     * A step of the initialization.
+     *
+     * @param <C> The type of the context
+     */
+    @FunctionalInterface
+    public interface Step<C> {
+        /**
+         * Resolve the step without modifying the bean description.
+         *
+         * @param context The context
+         * @return Applies the resolved state to the bean description
+         * @throws SerdeException If the step can't be resolved
+         */
+        @NonNull
+        Runnable resolve(@NonNull C context) throws SerdeException;
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.util;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses numbers straight from the char or byte buffer of a decoder, e.g. for numbers sent as strings, without
+ * creating a {@link String}. The accepted input and the failures are the ones of {@link Long#parseLong(String)} and
+ * {@link Double#parseDouble(String)}, anything the fast paths don't handle is passed on to those methods.
+ *
+ * <p>Doubles are parsed with the Clinger fast path for short mantissas and small exponents, otherwise with the
+ * Eisel-Lemire algorithm, which falls back to {@link Double#parseDouble(String)} for the rare inputs it can't round
+ * correctly.</p>
+ *
+ * @since 1.0.0
+ */
+@Internal
+public final class NumberParser {
+    private static final int MAX_MANTISSA_DIGITS = 19;
+    private static final int MIN_EXPONENT = -342;
+    private static final int MAX_EXPONENT = 308;
+    // exponents are clamped to this, way past the range of doubles
+    private static final int MAX_EXPONENT_DIGITS_VALUE = 100_000;
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    // 128 bit approximations of the powers of ten, normalized to the most significant bit
+    private static final long[] POWERS_OF_TEN_HIGH = new long[MAX_EXPONENT - MIN_EXPONENT + 1];
+    private static final long[] POWERS_OF_TEN_LOW = new long[MAX_EXPONENT - MIN_EXPONENT + 1];
+
+    static {
+        final BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        for (int exponent = MIN_EXPONENT; exponent <= MAX_EXPONENT; exponent++) {
+            final BigInteger power = BigInteger.TEN.pow(Math.abs(exponent));
+            final BigInteger approximation;
+            if (exponent >= 0) {
+                final int bits = power.bitLength();
+                approximation = bits >= 128 ? power.shiftRight(bits - 128) : power.shiftLeft(128 - bits);
+            } else {
+                // rounded up, the inverse of a power of ten has no exact binary representation
+                approximation = BigInteger.ONE.shiftLeft(power.bitLength() + 127).divide(power).add(BigInteger.ONE);
+            }
+            POWERS_OF_TEN_HIGH[exponent - MIN_EXPONENT] = approximation.shiftRight(64).longValue();
+            POWERS_OF_TEN_LOW[exponent - MIN_EXPONENT] = approximation.and(mask).longValue();
+        }
+    }
+
+    private NumberParser() {
+    }
+
+    /**
+     * Parse a long like {@link Long#parseLong(String)}.
+     *
+     * @param chars  The chars
+     * @param offset The offset of the number
+     * @param length The length of the number
+     * @return The value
+     * @throws NumberFormatException If the chars are not a long
+     */
+    public static long parseLong(@NonNull char[] chars, int offset, int length) {
+        final int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+        if (i == end || end - i > MAX_MANTISSA_DIGITS - 1) {
+            // empty, or might overflow
+            return Long.parseLong(new String(chars, offset, length));
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            final int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.parseLong(new String(chars, offset, length));
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parse a long like {@link Long#parseLong(String)}.
+     *
+     * @param bytes  The UTF-8 bytes
+     * @param offset The offset of the number
+     * @param length The length of the number
+     * @return The value
+     * @throws NumberFormatException If the bytes are not a long
+     */
+    public static long parseLong(@NonNull byte[] bytes, int offset, int length) {
+        final int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+        if (i == end || end - i > MAX_MANTISSA_DIGITS - 1) {
+            // empty, or might overflow
+            return Long.parseLong(new String(bytes, offset, length, StandardCharsets.UTF_8));
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            final int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.parseLong(new String(bytes, offset, length, StandardCharsets.UTF_8));
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parse an int like {@link Integer#parseInt(String)}.
+     *
+     * @param chars  The chars
+     * @param offset The offset of the number
+     * @param length The length of the number
+     * @return The value
+     * @throws NumberFormatException If the chars are not an int
+     */
+    public static int parseInt(@NonNull char[] chars, int offset, int length) {
+        final long value = parseLong(chars, offset, length);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("For input string: \"" + new String(chars, offset, length) + "\"");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parse an int like {@link Integer#parseInt(String)}.
+     *
+     * @param bytes  The UTF-8 bytes
+     * @param offset The offset of the number
+     * @param length The length of the number
+     * @return The value
+     * @throws NumberFormatException If the bytes are not an int
+     */
+    public static int parseInt(@NonNull byte[] bytes, int offset, int length) {
+        final long value = parseLong(bytes, offset, length);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("For input string: \"" + new String(bytes, offset, length, StandardCharsets.UTF_8) + "\"");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parse a double like {@link Double#parseDouble(String)}.
+     *
+     * @param chars  The chars
+     * @param offset The offset of the number
+     * @param length The length of the number
+     * @return The value
+     * @throws NumberFormatException If the chars are not a double
+     */
+    public static double parseDouble(@NonNull char[] chars, int offset, int length) {
+        final int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean hasDigits = false;
+        for (; i < end && chars[i] >= '0' && chars[i] <= '9'; i++) {
+            hasDigits = true;
+            if (mantissa != 0 || chars[i] != '0') {
+                if (++digits > MAX_MANTISSA_DIGITS) {
+                    return Double.parseDouble(new String(chars, offset, length));
+                }
+                mantissa = mantissa * 10 + (chars[i] - '0');
+            }
+        }
+        if (i < end && chars[i] == '.') {
+            for (i++; i < end && chars[i] >= '0' && chars[i] <= '9'; i++) {
+                hasDigits = true;
+                exponent--;
+                if (mantissa != 0 || chars[i] != '0') {
+                    if (++digits > MAX_MANTISSA_DIGITS) {
+                        return Double.parseDouble(new String(chars, offset, length));
+                    }
+                    mantissa = mantissa * 10 + (chars[i] - '0');
+                }
+            }
+        }
+        if (hasDigits && i < end && (chars[i] == 'e' || chars[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+                negativeExponent = chars[i] == '-';
+                i++;
+            }
+            final int start = i;
+            int value = 0;
+            for (; i < end && chars[i] >= '0' && chars[i] <= '9'; i++) {
+                value = Math.min(value * 10 + (chars[i] - '0'), MAX_EXPONENT_DIGITS_VALUE);
+            }
+            if (i == start) {
+                hasDigits = false;
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+        if (!hasDigits || i != end) {
+            // whitespace, type suffixes, NaN, Infinity, hex or malformed
+            return Double.parseDouble(new String(chars, offset, length));
+        }
+        final double value = toDouble(negative, mantissa, exponent);
+        if (Double.isNaN(value)) {
+            return Double.parseDouble(new String(chars, offset, length));
+        }
+        return value;
+    }
+
+    /**
+     * Parse a double like {@link Double#parseDouble(String)}.
+     *
+     * @param bytes  The UTF-8 bytes
+     * @param offset The offset of the number
+     * @param length The length of the number
+     * @return The value
+     * @throws NumberFormatException If the bytes are not a double
+     */
+    public static double parseDouble(@NonNull byte[] bytes, int offset, int length) {
+        final int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean hasDigits = false;
+        for (; i < end && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+            hasDigits = true;
+            if (mantissa != 0 || bytes[i] != '0') {
+                if (++digits > MAX_MANTISSA_DIGITS) {
+                    return Double.parseDouble(new String(bytes, offset, length, StandardCharsets.UTF_8));
+                }
+                mantissa = mantissa * 10 + (bytes[i] - '0');
+            }
+        }
+        if (i < end && bytes[i] == '.') {
+            for (i++; i < end && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+                hasDigits = true;
+                exponent--;
+                if (mantissa != 0 || bytes[i] != '0') {
+                    if (++digits > MAX_MANTISSA_DIGITS) {
+                        return Double.parseDouble(new String(bytes, offset, length, StandardCharsets.UTF_8));
+                    }
+                    mantissa = mantissa * 10 + (bytes[i] - '0');
+                }
+            }
+        }
+        if (hasDigits && i < end && (bytes[i] == 'e' || bytes[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+                negativeExponent = bytes[i] == '-';
+                i++;
+            }
+            final int start = i;
+            int value = 0;
+            for (; i < end && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+                value = Math.min(value * 10 + (bytes[i] - '0'), MAX_EXPONENT_DIGITS_VALUE);
+            }
+            if (i == start) {
+                hasDigits = false;
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+        if (!hasDigits || i != end) {
+            // whitespace, type suffixes, NaN, Infinity, hex or malformed
+            return Double.parseDouble(new String(bytes, offset, length, StandardCharsets.UTF_8));
+        }
+        final double value = toDouble(negative, mantissa, exponent);
+        if (Double.isNaN(value)) {
+            return Double.parseDouble(new String(bytes, offset, length, StandardCharsets.UTF_8));
+        }
+        return value;
+    }
+
+    /**
+     * @param mantissa The decimal mantissa, unsigned
+     * @return The closest double to {@code mantissa * 10^exponent} or {@link Double#NaN} if it can't be determined
+     */
+    private static double toDouble(boolean negative, long mantissa, int exponent) {
+        if (mantissa == 0) {
+            return negative ? -0.0d : 0.0d;
+        }
+        if (exponent >= -22 && exponent <= 22 && mantissa > 0 && mantissa <= 1L << 53) {
+            // both the mantissa and the power of ten are exact doubles, so is the result of one operation
+            double value = mantissa;
+            value = exponent < 0 ? value / EXACT_POWERS_OF_TEN[-exponent] : value * EXACT_POWERS_OF_TEN[exponent];
+            return negative ? -value : value;
+        }
+        return eiselLemire(negative, mantissa, exponent);
+    }
+
+    private static double eiselLemire(boolean negative, long mantissa, int exponent) {
+        if (exponent < MIN_EXPONENT || exponent > MAX_EXPONENT) {
+            return Double.NaN;
+        }
+        final int leadingZeros = Long.numberOfLeadingZeros(mantissa);
+        final long normalized = mantissa << leadingZeros;
+        long binaryExponent = ((217706L * exponent) >> 16) + 64 + 1023 - leadingZeros;
+
+        final long powerHigh = POWERS_OF_TEN_HIGH[exponent - MIN_EXPONENT];
+        long high = unsignedMultiplyHigh(normalized, powerHigh);
+        long low = normalized * powerHigh;
+        if ((high & 0x1FF) == 0x1FF && Long.compareUnsigned(low + normalized, normalized) < 0) {
+            // the truncated product may be off, use the lower bits of the power as well
+            final long powerLow = POWERS_OF_TEN_LOW[exponent - MIN_EXPONENT];
+            final long lowHigh = unsignedMultiplyHigh(normalized, powerLow);
+            final long lowLow = normalized * powerLow;
+            long mergedHigh = high;
+            final long mergedLow = low + lowHigh;
+            if (Long.compareUnsigned(mergedLow, low) < 0) {
+                mergedHigh++;
+            }
+            if ((mergedHigh & 0x1FF) == 0x1FF && mergedLow + 1 == 0 && Long.compareUnsigned(lowLow + normalized, normalized) < 0) {
+                return Double.NaN;
+            }
+            high = mergedHigh;
+            low = mergedLow;
+        }
+
+        final long msb = high >>> 63;
+        long result = high >>> (msb + 9);
+        binaryExponent -= 1 ^ msb;
+        if (low == 0 && (high & 0x1FF) == 0 && (result & 3) == 1) {
+            // half way between two doubles
+            return Double.NaN;
+        }
+        result += result & 1;
+        result >>>= 1;
+        if (result >>> 53 > 0) {
+            result >>>= 1;
+            binaryExponent++;
+        }
+        if (binaryExponent <= 0 || binaryExponent >= 0x7FF) {
+            // subnormal or infinite
+            return Double.NaN;
+        }
+        long bits = binaryExponent << 52 | result & ((1L << 52) - 1);
+        if (negative) {
+            bits |= Long.MIN_VALUE;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    private static long unsignedMultiplyHigh(long x, long y) {
+        final long x0 = x & 0xFFFFFFFFL;
+        final long x1 = x >>> 32;
+        final long y0 = y & 0xFFFFFFFFL;
+        final long y1 = y >>> 32;
+        final long t = x1 * y0 + ((x0 * y0) >>> 32);
+        final long w1 = x0 * y1 + (t & 0xFFFFFFFFL);
+        return x1 * y1 + (t >>> 32) + (w1 >>> 32);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.util;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.Serializer;
+import io.micronaut.serde.exceptions.SerdeException;
+
+/**
+ * Per mapper cache of the serializers and deserializers specialized by {@code createSpecific} for the root types
+ * of the mapper. The cache is a fixed size table indexed by the hash of the {@link TypeKey}: lookups are lock-free
+ * and a colliding type replaces the previous entry, so generic types can't grow it without bound.
+ *
+ * @since 1.0.0
+ */
+@Internal
+public final class SpecificSerdeCache {
+    /**
+     * Default number of slots of each table.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final SerdeRegistry registry;
+    private final Serializer.EncoderContext encoderContext;
+    private final Deserializer.DecoderContext decoderContext;
+    // entries are immutable, so a racy read sees either null or a complete entry
+    private final Entry[] serializers;
+    private final Entry[] deserializers;
+    private final int mask;
+
+    /**
+     * @param registry       The registry
+     * @param encoderContext The context serializers are specialized with
+     * @param decoderContext The context deserializers are specialized with
+     * @param capacity       The number of slots of each table, rounded up to a power of two
+     */
+    public SpecificSerdeCache(@NonNull SerdeRegistry registry,
+                              @NonNull Serializer.EncoderContext encoderContext,
+                              @NonNull Deserializer.DecoderContext decoderContext,
+                              int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.registry = registry;
+        this.encoderContext = encoderContext;
+        this.decoderContext = decoderContext;
+        this.serializers = new Entry[size];
+        this.deserializers = new Entry[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * @param registry       The registry
+     * @param encoderContext The context serializers are specialized with
+     * @param decoderContext The context deserializers are specialized with
+     */
+    public SpecificSerdeCache(@NonNull SerdeRegistry registry,
+                              @NonNull Serializer.EncoderContext encoderContext,
+                              @NonNull Deserializer.DecoderContext decoderContext) {
+        this(registry, encoderContext, decoderContext, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Find the serializer for the given type, specialized for the type.
+     *
+     * @param type The type
+     * @param <T>  The generic type
+     * @return The specific serializer
+     * @throws SerdeException If no serializer exists for the type
+     */
+    @NonNull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> Serializer<? super T> findSerializer(@NonNull Argument<? extends T> type) throws SerdeException {
+        if (!isCacheable(type)) {
+            return registry.findSerializer(type).createSpecific(encoderContext, (Argument) type);
+        }
+        final int hash = type.typeHashCode();
+        final int slot = spread(hash) & mask;
+        final Entry entry = serializers[slot];
+        if (entry != null && entry.matches(hash, type)) {
+            return (Serializer<? super T>) entry.value;
+        }
+        final Serializer<? super T> serializer = registry.findSerializer(type).createSpecific(encoderContext, (Argument) type);
+        serializers[slot] = new Entry(new TypeKey(type), hash, serializer);
+        return serializer;
+    }
+
+    /**
+     * Find the deserializer for the given type, specialized for the type.
+     *
+     * @param type The type
+     * @param <T>  The generic type
+     * @return The specific deserializer
+     * @throws SerdeException If no deserializer exists for the type
+     */
+    @NonNull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> Deserializer<? extends T> findDeserializer(@NonNull Argument<? extends T> type) throws SerdeException {
+        if (!isCacheable(type)) {
+            return registry.findDeserializer(type).createSpecific(decoderContext, (Argument) type);
+        }
+        final int hash = type.typeHashCode();
+        final int slot = spread(hash) & mask;
+        final Entry entry = deserializers[slot];
+        if (entry != null && entry.matches(hash, type)) {
+            return (Deserializer<? extends T>) entry.value;
+        }
+        final Deserializer<? extends T> deserializer = registry.findDeserializer(type).createSpecific(decoderContext, (Argument) type);
+        deserializers[slot] = new Entry(new TypeKey(type), hash, deserializer);
+        return deserializer;
+    }
+
+    /**
+     * Type keys ignore annotations, which can customize the specific serializer, so only plain types are cached.
+     */
+    private static boolean isCacheable(Argument<?> type) {
+        return type.getAnnotationMetadata().isEmpty();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Entry {
+        final TypeKey key;
+        final int hash;
+        final Object value;
+
+        Entry(TypeKey key, int hash, Object value) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+        }
+
+        boolean matches(int hash, Argument<?> type) {
+            return this.hash == hash && key.getType().equalsType(type);
+        }
+    }
+}
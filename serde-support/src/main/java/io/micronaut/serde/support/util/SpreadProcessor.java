@@ -15,6 +15,7 @@
  */
 package io.micronaut.serde.support.util;
 
+import io.micronaut.core.annotation.Internal;
 import org.reactivestreams.Processor;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -35,7 +36,8 @@ import java.util.concurrent.atomic.AtomicLong;
  * @param <T> The incoming messages to process.
  * @param <R> The outbound messages to forward to the subscriber.
  */
-abstract class SpreadProcessor<T, R> implements Processor<T, R> {
+@Internal
+public abstract class SpreadProcessor<T, R> implements Processor<T, R> {
     private static final Logger LOG = LoggerFactory.getLogger(SpreadProcessor.class);
 
     private volatile Subscription upstreamSubscription;
@@ -207,8 +209,21 @@ abstract class SpreadProcessor<T, R> implements Processor<T, R> {
         }
     }
 
+    /**
+     * Process an input item.
+     *
+     * @param in  The input item
+     * @param out The collection to add output items to
+     * @throws Exception If processing fails, the error is forwarded to the subscriber
+     */
     protected abstract void spread(T in, Collection<R> out) throws Exception;
 
+    /**
+     * Called once the upstream completed, to produce the remaining output items.
+     *
+     * @param out The collection to add output items to
+     * @throws Exception If processing fails, the error is forwarded to the subscriber
+     */
     protected void complete(Collection<R> out) throws Exception {
     }
 }
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.util;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of values derived from a type, like the serializer of a type, evicting the least recently used
+ * entries once full. Entries can also be pinned, pinned entries are never evicted and don't count towards the
+ * bound. The cache counts hits, misses and evictions and records how long building each value took.
+ *
+ * @param <V> The type of the values
+ * @since 1.0.0
+ */
+@Internal
+public final class TypeCache<V> {
+    /**
+     * Maximum size of an unbounded cache.
+     */
+    public static final long UNBOUNDED = Long.MAX_VALUE - Integer.MAX_VALUE;
+
+    private final String name;
+    private final long maximumSize;
+    private final Map<TypeKey, V> pinned = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedHashMap<TypeKey, Entry<V>> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder builds = new LongAdder();
+    private final LongAdder buildNanos = new LongAdder();
+
+    /**
+     * @param name        The name of the cache
+     * @param maximumSize The maximum number of entries, {@link #UNBOUNDED} for no limit
+     */
+    public TypeCache(@NonNull String name, long maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        this.name = Objects.requireNonNull(name, "name");
+        this.maximumSize = Math.min(maximumSize, UNBOUNDED);
+        this.entries = new ConcurrentLinkedHashMap.Builder<TypeKey, Entry<V>>()
+                .maximumWeightedCapacity(this.maximumSize)
+                .listener((key, value) -> evictions.increment())
+                .build();
+    }
+
+    /**
+     * @return The name of the cache
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The maximum number of entries, pinned entries excluded
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Look up a value.
+     *
+     * @param key The key
+     * @return The value or {@code null} if it is not cached
+     */
+    @Nullable
+    public V get(@NonNull TypeKey key) {
+        V value = pinned.get(key);
+        if (value == null) {
+            final Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            value = entry.value;
+        }
+        hits.increment();
+        return value;
+    }
+
+    /**
+     * Cache a value, evicting the least recently used value if the cache is full.
+     *
+     * @param key   The key
+     * @param value The value
+     */
+    public void put(@NonNull TypeKey key, @NonNull V value) {
+        entries.put(key, new Entry<>(value));
+    }
+
+    /**
+     * Cache a value along with the time it took to build it.
+     *
+     * @param key        The key
+     * @param value      The value
+     * @param buildNanos The build time in nanoseconds
+     */
+    public void put(@NonNull TypeKey key, @NonNull V value, long buildNanos) {
+        final Entry<V> entry = new Entry<>(value);
+        entries.put(key, entry);
+        recordBuild(entry, buildNanos);
+    }
+
+    /**
+     * Record the build time of a value cached before it was built, e.g. a lazily built value.
+     *
+     * @param key        The key
+     * @param buildNanos The build time in nanoseconds
+     */
+    public void recordBuildTime(@NonNull TypeKey key, long buildNanos) {
+        final Entry<V> entry = entries.getQuietly(key);
+        if (entry != null) {
+            recordBuild(entry, buildNanos);
+        } else {
+            builds.increment();
+            this.buildNanos.add(buildNanos);
+        }
+    }
+
+    private void recordBuild(Entry<V> entry, long nanos) {
+        entry.buildNanos = nanos;
+        builds.increment();
+        buildNanos.add(nanos);
+    }
+
+    /**
+     * Add a value that is never evicted.
+     *
+     * @param key   The key
+     * @param value The value
+     */
+    public void pin(@NonNull TypeKey key, @NonNull V value) {
+        pinned.put(key, value);
+    }
+
+    /**
+     * @return The number of cached values, pinned values excluded
+     */
+    public long size() {
+        return entries.size();
+    }
+
+    /**
+     * @return The number of lookups that found a value
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups that found no value
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of evicted values
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return The number of values built
+     */
+    public long getBuildCount() {
+        return builds.sum();
+    }
+
+    /**
+     * @return The total time spent building values, in nanoseconds
+     */
+    public long getTotalBuildNanos() {
+        return buildNanos.sum();
+    }
+
+    /**
+     * The build times of the cached values. Kept out of the metrics since the types are unbounded.
+     *
+     * @return The build time in nanoseconds of every cached value with a recorded build time
+     */
+    @NonNull
+    public Map<Argument<?>, Long> getBuildTimes() {
+        final Map<Argument<?>, Long> buildTimes = new LinkedHashMap<>();
+        for (Map.Entry<TypeKey, Entry<V>> entry : entries.ascendingMap().entrySet()) {
+            final long nanos = entry.getValue().buildNanos;
+            if (nanos >= 0) {
+                buildTimes.put(entry.getKey().getType(), nanos);
+            }
+        }
+        return Collections.unmodifiableMap(buildTimes);
+    }
+
+    /**
+     * Remove all values, pinned values excluded.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "TypeCache{" +
+                "name='" + name + '\'' +
+                ", size=" + size() +
+                ", hits=" + getHitCount() +
+                ", misses=" + getMissCount() +
+                ", evictions=" + getEvictionCount() +
+                '}';
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        volatile long buildNanos = -1;
+
+        Entry(V value) {
+            this.value = value;
+        }
+    }
+}
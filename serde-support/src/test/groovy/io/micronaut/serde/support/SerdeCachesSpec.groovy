@@ -0,0 +1,101 @@
+package io.micronaut.serde.support
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.type.Argument
+import io.micronaut.serde.SerdeRegistry
+import io.micronaut.serde.support.metrics.SerdeCacheMetricsBinder
+import io.micronaut.serde.support.util.TypeCache
+import io.micronaut.serde.support.util.TypeKey
+import spock.lang.Specification
+
+class SerdeCachesSpec extends Specification {
+
+    def 'least recently used entries are evicted'() {
+        given:
+        def cache = new TypeCache<String>('test', 2)
+        cache.pin(new TypeKey(Argument.STRING), 'pinned')
+        cache.put(new TypeKey(Argument.of(Integer)), 'int', 10)
+        cache.put(new TypeKey(Argument.of(Long)), 'long', 20)
+
+        when:
+        cache.get(new TypeKey(Argument.of(Integer)))
+        cache.put(new TypeKey(Argument.listOf(String)), 'list', 30)
+
+        then:
+        cache.size() == 2
+        cache.getEvictionCount() == 1
+        cache.get(new TypeKey(Argument.of(Long))) == null
+        cache.get(new TypeKey(Argument.of(Integer))) == 'int'
+        cache.get(new TypeKey(Argument.STRING)) == 'pinned'
+        cache.getHitCount() == 3
+        cache.getMissCount() == 1
+        cache.getBuildCount() == 3
+        cache.getTotalBuildNanos() == 60
+        cache.getBuildTimes() == [(Argument.of(Integer)): 10L, (Argument.listOf(String)): 30L]
+    }
+
+    def 'registry caches are bounded by configuration'() {
+        given:
+        def ctx = ApplicationContext.run([
+                'micronaut.serde.cache.serializers': 2
+        ])
+        def registry = ctx.getBean(SerdeRegistry)
+        def caches = ctx.getBean(SerdeCaches)
+        def serializers = caches.caches.find { it.name == SerdeCaches.SERIALIZERS }
+
+        when:
+        registry.findSerializer(Argument.listOf(String))
+        registry.findSerializer(Argument.mapOf(String, String))
+        registry.findSerializer(Argument.setOf(String))
+
+        then:
+        caches.caches*.name.containsAll([SerdeCaches.SERIALIZERS, SerdeCaches.DESERIALIZERS, SerdeCaches.SER_BEANS, SerdeCaches.DESER_BEANS])
+        serializers.maximumSize == 2
+        serializers.size() == 2
+        serializers.evictionCount >= 1
+        // built-in serializers are pinned
+        registry.findSerializer(Argument.INT).is(registry.findSerializer(Argument.INT))
+
+        cleanup:
+        ctx.close()
+    }
+
+    def 'cache statistics are bound as meters'() {
+        given:
+        def ctx = ApplicationContext.run()
+        def meterRegistry = new SimpleMeterRegistry()
+        ctx.getBean(SerdeCacheMetricsBinder).bindTo(meterRegistry)
+
+        when:
+        def registry = ctx.getBean(SerdeRegistry)
+        registry.findSerializer(Argument.listOf(String))
+        registry.findSerializer(Argument.listOf(String))
+
+        then:
+        meterRegistry.get('serde.cache.hits').tag('cache', SerdeCaches.SERIALIZERS).functionCounter().count() >= 1
+        meterRegistry.get('serde.cache.misses').tag('cache', SerdeCaches.SERIALIZERS).functionCounter().count() >= 1
+        meterRegistry.get('serde.cache.size').tag('cache', SerdeCaches.SERIALIZERS).gauge().value() >= 1
+        meterRegistry.get('serde.cache.builds').tag('cache', SerdeCaches.SERIALIZERS).functionTimer().count() >= 1
+
+        cleanup:
+        ctx.close()
+    }
+
+    def 'caches created after binding are bound as meters'() {
+        given:
+        def ctx = ApplicationContext.run()
+        def meterRegistry = new SimpleMeterRegistry()
+        ctx.getBean(SerdeCacheMetricsBinder).bindTo(meterRegistry)
+
+        when:
+        def cache = ctx.getBean(SerdeCaches).create('late', 10)
+        cache.get(new TypeKey(Argument.STRING))
+
+        then:
+        meterRegistry.get('serde.cache.misses').tag('cache', 'late').functionCounter().count() == 1
+
+        cleanup:
+        ctx.close()
+    }
+}
@@ -0,0 +1,82 @@
+package io.micronaut.serde.support
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.beans.BeanIntrospection
+import io.micronaut.core.beans.BeanIntrospector
+import io.micronaut.core.type.Argument
+import io.micronaut.serde.SerdeIntrospections
+import io.micronaut.serde.SerdeRegistry
+import io.micronaut.serde.annotation.Serdeable
+import io.micronaut.serde.support.config.SerdeWarmupConfiguration
+import spock.lang.Specification
+
+class SerdeWarmupSpec extends Specification {
+
+    def 'warm-up is disabled by default'() {
+        given:
+        def ctx = ApplicationContext.run()
+
+        expect:
+        !ctx.containsBean(SerdeWarmup)
+
+        cleanup:
+        ctx.close()
+    }
+
+    def 'serdeable types are warmed up at startup'() {
+        given:
+        def ctx = ApplicationContext.run([
+                'micronaut.serde.warmup.enabled'    : true,
+                'micronaut.serde.warmup.parallelism': parallelism
+        ])
+
+        when:
+        def report = ctx.getBean(SerdeWarmup).report
+
+        then:
+        report != null
+        report.serializerNanos.containsKey(Argument.of(Point))
+        report.deserializerNanos.containsKey(Argument.of(Point))
+        report.totalNanos > 0
+
+        cleanup:
+        ctx.close()
+
+        where:
+        parallelism << [1, 4]
+    }
+
+    def 'errors thrown while warming up a type are recorded instead of failing startup'() {
+        given:
+        def introspection = Stub(BeanIntrospection) {
+            getBeanType() >> Point
+            hasStereotype(Serdeable.Serializable) >> true
+            hasStereotype(Serdeable.Deserializable) >> true
+        }
+        def introspections = Stub(SerdeIntrospections) {
+            getBeanIntrospector() >> Stub(BeanIntrospector) {
+                findIntrospections(_) >> [introspection]
+            }
+        }
+        def registry = Stub(SerdeRegistry) {
+            findSerializer(_) >> { throw new NoClassDefFoundError('serializer') }
+            findDeserializer(_) >> { throw new NoClassDefFoundError('deserializer') }
+        }
+        def configuration = Stub(SerdeWarmupConfiguration) {
+            getParallelism() >> parallelism
+        }
+        def warmup = new SerdeWarmup(introspections, registry, null, null, configuration)
+
+        when:
+        def report = warmup.warmUp()
+
+        then:
+        report.serializerFailures[Argument.of(Point)].message == 'serializer'
+        report.deserializerFailures[Argument.of(Point)].message == 'deserializer'
+        report.serializerNanos.isEmpty()
+        report.deserializerNanos.isEmpty()
+
+        where:
+        parallelism << [1, 4]
+    }
+}
@@ -0,0 +1,27 @@
+package io.micronaut.serde.support
+
+import io.micronaut.core.type.Argument
+import io.micronaut.serde.SerdeRegistry
+import io.micronaut.serde.support.deserializers.ObjectDeserializer
+import io.micronaut.serde.support.serializers.ObjectSerializer
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest
+class SerializerResolutionSpec extends Specification {
+    @Inject SerdeRegistry registry
+
+    void "serializers are resolved from the nearest registered supertype"() {
+        expect:
+        registry.findSerializer(Argument.of(LinkedList)).is(registry.findSerializer(Argument.of(Iterable)))
+        registry.findSerializer(Argument.of(String[].class)).is(registry.findSerializer(Argument.of(Object[].class)))
+        registry.findSerializer(Argument.of(Thread)) instanceof ObjectSerializer
+    }
+
+    void "types unrelated to deserializer beans fall back to the object deserializer"() {
+        expect:
+        registry.findDeserializer(Argument.of(Thread)) instanceof ObjectDeserializer
+        !(registry.findDeserializer(Argument.of(String[].class)) instanceof ObjectDeserializer)
+    }
+}
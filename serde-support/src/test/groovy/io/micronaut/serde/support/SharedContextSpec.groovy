@@ -0,0 +1,54 @@
+package io.micronaut.serde.support
+
+import io.micronaut.core.type.Argument
+import io.micronaut.serde.SerdeRegistry
+import io.micronaut.serde.reference.PropertyReference
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+@MicronautTest
+class SharedContextSpec extends Specification {
+    @Inject SerdeRegistry registry
+
+    def 'managed references are kept per thread'() {
+        given:
+        def context = registry.newDecoderContext(null)
+        def managed = new PropertyReference('parent', null, Argument.of(Object, 'child'), new Object())
+        def reference = new PropertyReference('child', null, Argument.of(Object, 'parent'), null)
+
+        when:
+        context.pushManagedRef(managed)
+
+        then:
+        context.resolveReference(reference).is(managed)
+        CompletableFuture.supplyAsync({ context.resolveReference(reference) }).get().is(reference)
+
+        when:
+        context.popManagedRef()
+
+        then:
+        context.resolveReference(reference).is(reference)
+    }
+
+    def 'contexts on the same thread keep their managed references apart'() {
+        given:
+        def context = registry.newDecoderContext(null)
+        def other = registry.newDecoderContext(null)
+        def managed = new PropertyReference('parent', null, Argument.of(Object, 'child'), new Object())
+        def reference = new PropertyReference('child', null, Argument.of(Object, 'parent'), null)
+
+        when:
+        context.pushManagedRef(managed)
+        other.popManagedRef()
+
+        then:
+        other.resolveReference(reference).is(reference)
+        context.resolveReference(reference).is(managed)
+
+        cleanup:
+        context.popManagedRef()
+    }
+}
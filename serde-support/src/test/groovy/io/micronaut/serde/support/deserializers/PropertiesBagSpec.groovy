@@ -0,0 +1,74 @@
+package io.micronaut.serde.support.deserializers
+
+import io.micronaut.core.beans.BeanIntrospection
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+class PropertiesBagSpec extends Specification {
+
+    def 'released consumers are reused by the same thread'() {
+        given:
+        def bag = newBag()
+
+        when:
+        def first = bag.newConsumer()
+        def nested = bag.newConsumer()
+
+        then:
+        !first.is(nested)
+
+        when:
+        nested.release()
+        first.release()
+        def next = bag.newConsumer()
+
+        then:
+        next.is(first)
+        !CompletableFuture.supplyAsync({ bag.newConsumer() }).get().is(next)
+    }
+
+    def 'a consumer released in a finally block is reused after a failure'() {
+        given:
+        def bag = newBag()
+        def failed = null
+
+        when:
+        def consumer = bag.newConsumer()
+        try {
+            failed = consumer
+            throw new IOException('decoding failed')
+        } finally {
+            consumer.release()
+        }
+
+        then:
+        thrown(IOException)
+        bag.newConsumer().is(failed)
+    }
+
+    def 'every bag keeps its own consumer however many bags there are'() {
+        given:
+        def bags = (1..100).collect { newBag() }
+
+        when:
+        def consumers = bags.collect { bag ->
+            def consumer = bag.newConsumer()
+            consumer.release()
+            consumer
+        }
+
+        then:
+        [bags, consumers].transpose().every { bag, consumer ->
+            def next = bag.newConsumer()
+            next.release()
+            next.is(consumer)
+        }
+    }
+
+    private PropertiesBag<Object> newBag() {
+        def introspection = Mock(BeanIntrospection)
+        introspection.getBeanProperties() >> []
+        return new PropertiesBag<Object>(introspection)
+    }
+}
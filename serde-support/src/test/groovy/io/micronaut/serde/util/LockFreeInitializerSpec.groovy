@@ -0,0 +1,84 @@
+package io.micronaut.serde.util
+
+import io.micronaut.serde.exceptions.SerdeException
+import io.micronaut.serde.support.util.LockFreeInitializer
+import spock.lang.Specification
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class LockFreeInitializerSpec extends Specification {
+
+    def 'racing threads apply a single publication'() {
+        given:
+        def initializer = new LockFreeInitializer<String>()
+        def resolutions = new AtomicInteger()
+        def applied = new CopyOnWriteArrayList<Integer>()
+        def start = new CountDownLatch(1)
+        initializer.add({ ctx ->
+            start.await()
+            int resolution = resolutions.incrementAndGet()
+            return { applied.add(resolution) } as Runnable
+        } as LockFreeInitializer.Step<String>)
+        def executor = Executors.newFixedThreadPool(8)
+
+        when:
+        def futures = (1..8).collect { executor.submit { initializer.initialize('ctx') } }
+        start.countDown()
+        futures*.get(10, TimeUnit.SECONDS)
+
+        then:
+        initializer.initialized
+        applied.unique().size() == 1
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
+    def 'recursive initialization returns to the outer call'() {
+        given:
+        def initializer = new LockFreeInitializer<String>()
+        def resolutions = new AtomicInteger()
+        initializer.add({ ctx ->
+            resolutions.incrementAndGet()
+            initializer.initialize(ctx)
+            return {} as Runnable
+        } as LockFreeInitializer.Step<String>)
+
+        when:
+        initializer.initialize('ctx')
+
+        then:
+        initializer.initialized
+        resolutions.get() == 1
+    }
+
+    def 'a failed initialization publishes nothing and can be retried'() {
+        given:
+        def initializer = new LockFreeInitializer<String>()
+        def attempts = new AtomicInteger()
+        initializer.add({ ctx ->
+            if (attempts.incrementAndGet() == 1) {
+                throw new SerdeException('boom')
+            }
+            return {} as Runnable
+        } as LockFreeInitializer.Step<String>)
+
+        when:
+        initializer.initialize('ctx')
+
+        then:
+        thrown(SerdeException)
+        !initializer.initialized
+
+        when:
+        initializer.initialize('ctx')
+
+        then:
+        initializer.initialized
+        attempts.get() == 2
+    }
+}
@@ -0,0 +1,95 @@
+package io.micronaut.serde.util
+
+import io.micronaut.serde.support.util.NumberParser
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.charset.StandardCharsets
+
+class NumberParserSpec extends Specification {
+
+    @Unroll
+    def 'parse long #text'() {
+        given:
+        def chars = ('xx' + text + 'y').toCharArray()
+        def bytes = ('xx' + text + 'y').getBytes(StandardCharsets.US_ASCII)
+
+        expect:
+        NumberParser.parseLong(chars, 2, text.length()) == Long.parseLong(text)
+        NumberParser.parseLong(bytes, 2, text.length()) == Long.parseLong(text)
+
+        where:
+        text << ['0', '-1', '+42', '1234567890', '9223372036854775807', '-9223372036854775808', '007']
+    }
+
+    @Unroll
+    def 'parse int #text'() {
+        given:
+        def chars = text.toCharArray()
+        def bytes = text.getBytes(StandardCharsets.US_ASCII)
+
+        expect:
+        NumberParser.parseInt(chars, 0, chars.length) == Integer.parseInt(text)
+        NumberParser.parseInt(bytes, 0, bytes.length) == Integer.parseInt(text)
+
+        where:
+        text << ['0', '-17', '2147483647', '-2147483648']
+    }
+
+    @Unroll
+    def 'parse double #text'() {
+        given:
+        def chars = ('[' + text + ']').toCharArray()
+        def bytes = ('[' + text + ']').getBytes(StandardCharsets.US_ASCII)
+
+        expect:
+        NumberParser.parseDouble(chars, 1, text.length()) == Double.parseDouble(text)
+        NumberParser.parseDouble(bytes, 1, text.length()) == Double.parseDouble(text)
+
+        where:
+        text << ['0', '-0.0', '1.5', '123.456', '0.1', '1e10', '-2.5E-3', '1.7976931348623157E308',
+                 '4.9E-324', '2.2250738585072014E-308', '9007199254740993', '3.141592653589793238462643383279',
+                 '1e400', '1e-400', '.5', '5.', 'NaN', '-Infinity', ' 7 ', '1d', '0x1p3']
+    }
+
+    def 'random doubles round trip'() {
+        given:
+        def random = new Random(42)
+
+        expect:
+        (0..<10000).every {
+            def value = Double.longBitsToDouble(random.nextLong())
+            if (Double.isNaN(value)) {
+                return true
+            }
+            def text = Double.toString(value)
+            NumberParser.parseDouble(text.toCharArray(), 0, text.length()) == value
+        }
+    }
+
+    @Unroll
+    def 'invalid number #text'() {
+        when:
+        NumberParser.parseLong(text.toCharArray(), 0, text.length())
+
+        then:
+        thrown(NumberFormatException)
+
+        when:
+        NumberParser.parseDouble(text.getBytes(StandardCharsets.US_ASCII), 0, text.length())
+
+        then:
+        thrown(NumberFormatException)
+
+        where:
+        text << ['', '-', 'abc', '1.2.3', '--1']
+    }
+
+    def 'long overflow is rejected'() {
+        when:
+        NumberParser.parseLong('9223372036854775808'.toCharArray(), 0, 19)
+
+        then:
+        thrown(NumberFormatException)
+    }
+}
@@ -0,0 +1,73 @@
+package io.micronaut.serde.util
+
+import io.micronaut.core.annotation.AnnotationMetadata
+import io.micronaut.core.type.Argument
+import io.micronaut.serde.Deserializer
+import io.micronaut.serde.SerdeRegistry
+import io.micronaut.serde.Serializer
+import io.micronaut.serde.support.util.SpecificSerdeCache
+import spock.lang.Specification
+
+class SpecificSerdeCacheSpec extends Specification {
+    def registry = Mock(SerdeRegistry)
+    def encoderContext = Mock(Serializer.EncoderContext)
+    def decoderContext = Mock(Deserializer.DecoderContext)
+
+    def 'specific serializers are created once per type'() {
+        given:
+        def cache = new SpecificSerdeCache(registry, encoderContext, decoderContext)
+        def serializer = Mock(Serializer)
+        serializer.createSpecific(encoderContext, _) >> { Mock(Serializer) }
+        registry.findSerializer(_) >> serializer
+
+        when:
+        def first = cache.findSerializer(Argument.listOf(String))
+        def second = cache.findSerializer(Argument.listOf(String))
+        def other = cache.findSerializer(Argument.listOf(Integer))
+
+        then:
+        first.is(second)
+        !first.is(other)
+    }
+
+    def 'specific deserializers are created once per type'() {
+        given:
+        def cache = new SpecificSerdeCache(registry, encoderContext, decoderContext)
+        def deserializer = Mock(Deserializer)
+        deserializer.createSpecific(decoderContext, _) >> { Mock(Deserializer) }
+        registry.findDeserializer(_) >> deserializer
+
+        expect:
+        cache.findDeserializer(Argument.of(String)).is(cache.findDeserializer(Argument.of(String)))
+    }
+
+    def 'annotated types are not cached'() {
+        given:
+        def cache = new SpecificSerdeCache(registry, encoderContext, decoderContext)
+        def serializer = Mock(Serializer)
+        serializer.createSpecific(encoderContext, _) >> { Mock(Serializer) }
+        registry.findSerializer(_) >> serializer
+        def metadata = Mock(AnnotationMetadata)
+        metadata.isEmpty() >> false
+        def annotated = Argument.of(String, 'value', metadata)
+
+        expect:
+        !cache.findSerializer(annotated).is(cache.findSerializer(annotated))
+        !cache.findSerializer(annotated).is(cache.findSerializer(Argument.of(String)))
+    }
+
+    def 'colliding types replace each other'() {
+        given:
+        def cache = new SpecificSerdeCache(registry, encoderContext, decoderContext, 1)
+        def serializer = Mock(Serializer)
+        serializer.createSpecific(encoderContext, _) >> { Mock(Serializer) }
+        registry.findSerializer(_) >> serializer
+
+        when:
+        def first = cache.findSerializer(Argument.of(String))
+        cache.findSerializer(Argument.of(Integer))
+
+        then:
+        !first.is(cache.findSerializer(Argument.of(String)))
+    }
+}
@@ -44,6 +44,7 @@ dependencyResolutionManagement {
         }
         create("libs") {
             alias("bson").to("org.mongodb:bson:${providers.gradleProperty("bsonVersion").get()}")
+            alias("micrometer").to("io.micrometer:micrometer-core:${providers.gradleProperty("micrometerVersion").get()}")
         }
     }
 }